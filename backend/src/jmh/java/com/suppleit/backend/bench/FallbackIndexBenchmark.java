@@ -0,0 +1,57 @@
+package com.suppleit.backend.bench;
+
+import java.io.BufferedReader;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import com.suppleit.backend.support.SimpleCsvReader;
+import com.suppleit.backend.support.TfIdfIndex;
+
+/**
+ * 대체 추천 색인 검색 1건 (관절 카테고리 코퍼스, 빌드 시 recommend-corpus/로 복사됨).
+ * Flask 왕복 없이 마이크로초 단위로 응답해야 한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class FallbackIndexBenchmark {
+
+    private static final String CORPUS = "/recommend-corpus/efficacy/preprocessed_관절.csv";
+
+    private TfIdfIndex index;
+
+    @Setup
+    public void setUp() throws Exception {
+        List<String> names = new ArrayList<>();
+        List<String> texts = new ArrayList<>();
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(
+                FallbackIndexBenchmark.class.getResourceAsStream(CORPUS), StandardCharsets.UTF_8))) {
+            SimpleCsvReader csv = new SimpleCsvReader(reader);
+            csv.readRecord();
+            List<String> record;
+            while ((record = csv.readRecord()) != null) {
+                if (record.size() >= 3) {
+                    names.add(record.get(0));
+                    texts.add(record.get(2));
+                }
+            }
+        }
+        index = new TfIdfIndex(names, texts);
+    }
+
+    @Benchmark
+    public List<TfIdfIndex.ScoredName> search() {
+        return index.search("관절 연골 건강", 6, 0.05f);
+    }
+}
@@ -0,0 +1,141 @@
+package com.suppleit.backend.bench;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.core.env.MapPropertySource;
+import org.springframework.core.env.StandardEnvironment;
+
+import com.suppleit.backend.support.ExecutorRegistry;
+import com.suppleit.backend.support.TokenBucketRateLimiter;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * 추천 팬아웃 처리 시간: 플랫폼 스레드 풀 vs 가상 스레드 실행기 (운영 설정 그대로).
+ * 동시 요청 requests개가 각각 네이버 하위 검색 fanOut개를 보내고(블로킹 I/O를 sleep으로 대체) 모두 끝날 때까지의 시간과
+ * 성공/거절 건수(completed, rejected)를 잰다.
+ *
+ * 실행기는 RecommendationController와 같은 recommendFanout(10, 100) 기본값을 쓰므로 두 모드 모두 동시에 110건까지만 받고,
+ * 하위 검색마다 네이버 토큰 버킷(rate-limit.naver.* 기본값)과 route별 연결 수(naver.api.pool.max-per-route=20)를 거친다.
+ * 기본 토큰 버킷(초당 10건)에서는 두 모드 모두 버킷이 처리량 상한이라 차이가 거의 없고,
+ * 버킷을 넉넉히 둔 경우에도 가상 스레드의 이득은 스레드 10개 -> 연결 20개 상한까지다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class FanOutBenchmark {
+
+    @Param({"platform", "virtual"})
+    private String mode;
+
+    @Param({"50"})
+    private int requests;
+
+    @Param({"6"})
+    private int fanOut;
+
+    @Param({"20"})
+    private long latencyMs;
+
+    // 10: 운영 기본값, 1000: 토큰 버킷을 사실상 없앤 경우
+    @Param({"10", "1000"})
+    private double permitsPerSecond;
+
+    // NaverShoppingClient 기본값 (naver.api.pool.max-per-route, naver.api.connect-timeout-ms)
+    private static final int MAX_PER_ROUTE = 20;
+    private static final long CONNECTION_REQUEST_TIMEOUT_MS = 1000;
+    // RateLimiterRegistry 기본 최대 대기 시간
+    private static final long MAX_WAIT_MS = 2000;
+
+    private ExecutorRegistry registry;
+    private ExecutorService executor;
+    private TokenBucketRateLimiter rateLimiter;
+    private Semaphore connections;
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class Outcome {
+        public long completed;
+        public long rejected;
+    }
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Map<String, Object> properties = new HashMap<>();
+        properties.put("executor.recommendFanout.virtual", mode.equals("virtual"));
+        StandardEnvironment environment = new StandardEnvironment();
+        environment.getPropertySources().addFirst(new MapPropertySource("bench", properties));
+
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        registry = new ExecutorRegistry(environment, meterRegistry);
+        executor = registry.get(ExecutorRegistry.RECOMMEND_FANOUT, 10, 100);
+        rateLimiter = new TokenBucketRateLimiter("naver:bench", permitsPerSecond,
+                (int) Math.max(1, Math.ceil(permitsPerSecond)), MAX_WAIT_MS,
+                meterRegistry.timer("wait"), meterRegistry.counter("rejected"));
+        connections = new Semaphore(MAX_PER_ROUTE, true);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        registry.shutdown();
+    }
+
+    @Benchmark
+    public void fanOut(Outcome outcome) {
+        List<CompletableFuture<Boolean>> lookups = new ArrayList<>(requests * fanOut);
+        for (int i = 0; i < requests * fanOut; i++) {
+            try {
+                lookups.add(CompletableFuture.supplyAsync(this::naverLookup, executor));
+            } catch (RejectedExecutionException e) {
+                outcome.rejected++;
+            }
+        }
+        for (CompletableFuture<Boolean> lookup : lookups) {
+            if (lookup.join()) {
+                outcome.completed++;
+            } else {
+                outcome.rejected++;
+            }
+        }
+    }
+
+    // NaverShoppingClient.search와 같은 순서: 토큰 -> 연결 풀 -> HTTP 호출
+    private boolean naverLookup() {
+        if (!rateLimiter.acquire()) {
+            return false;
+        }
+        try {
+            if (!connections.tryAcquire(CONNECTION_REQUEST_TIMEOUT_MS, TimeUnit.MILLISECONDS)) {
+                return false;
+            }
+            try {
+                Thread.sleep(latencyMs);
+                return true;
+            } finally {
+                connections.release();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
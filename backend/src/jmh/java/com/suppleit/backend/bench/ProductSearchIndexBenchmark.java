@@ -0,0 +1,69 @@
+package com.suppleit.backend.bench;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import com.suppleit.backend.model.Product;
+import com.suppleit.backend.service.ProductSearchIndex;
+
+/**
+ * 제품 검색 색인 검색 1건 (12만 건, db/benchmark/product_search_benchmark.sql과 같은 분포의 합성 데이터).
+ * 제품명 검색, 주요 기능 문구 검색(후보가 많음), 결과 없는 검색을 비교한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ProductSearchIndexBenchmark {
+
+    private static final String[] BRANDS = { "뉴트리", "닥터", "데일리", "바이탈", "프리미엄", "네이처", "헬씨", "그린" };
+    private static final String[] INGREDIENTS = { "비타민C", "비타민D", "루테인", "오메가3", "프로바이오틱스", "밀크씨슬",
+            "홍삼", "마그네슘", "칼슘", "아연", "코엔자임Q10", "콜라겐", "글루코사민", "가르시니아", "쏘팔메토" };
+    private static final String[] FORMS = { "정", "캡슐", "분말", "액상", "젤리" };
+    private static final String[] FUNCTIONS = {
+            "항산화 작용을 하여 유해산소로부터 세포를 보호하는데 필요",
+            "노화로 인해 감소될 수 있는 황반색소밀도를 유지하여 눈 건강에 도움을 줄 수 있음",
+            "혈중 중성지질 개선, 혈행 개선에 도움을 줄 수 있음",
+            "유산균 증식 및 유해균 억제, 배변활동 원활에 도움을 줄 수 있음",
+            "간 건강에 도움을 줄 수 있음",
+            "면역력 증진, 피로개선에 도움을 줄 수 있음",
+            "관절 및 연골 건강에 도움을 줄 수 있음" };
+
+    @Param({ "루테인", "혈행 개선", "크릴오일" })
+    public String keyword;
+
+    private ProductSearchIndex index;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        List<Product> products = new ArrayList<>();
+        for (int i = 0; i < 120_000; i++) {
+            products.add(Product.builder()
+                    .prdId(2024_000_000_000L + i)
+                    .productName(BRANDS[random.nextInt(BRANDS.length)] + " "
+                            + INGREDIENTS[random.nextInt(INGREDIENTS.length)] + " "
+                            + FORMS[random.nextInt(FORMS.length)] + " " + i)
+                    .companyName("(주)건강식품 " + random.nextInt(500))
+                    .mainFunction(FUNCTIONS[random.nextInt(FUNCTIONS.length)])
+                    .build());
+        }
+        index = new ProductSearchIndex(null);
+        index.rebuild(products);
+    }
+
+    @Benchmark
+    public List<Product> search() {
+        return index.search(keyword, ProductSearchIndex.DEFAULT_LIMIT);
+    }
+}
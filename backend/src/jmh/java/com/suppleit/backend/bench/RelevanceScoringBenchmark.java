@@ -0,0 +1,78 @@
+package com.suppleit.backend.bench;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import com.suppleit.backend.service.ProductCategoryFilter;
+import com.suppleit.backend.service.QueryScorer;
+
+/**
+ * 상품 1건의 카테고리 필터 + 관련성 점수 계산 비교.
+ * legacy: 기존 findBestMatch/calculateRelevanceScore (목록 재생성, 정규식 태그 제거, 검색어 재분리)
+ * precompiled: ProductCategoryFilter + QueryScorer
+ * gc 프로파일러의 gc.alloc.rate.norm이 precompiled 쪽에서 0 B/op에 가까워야 한다.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class RelevanceScoringBenchmark {
+
+    private static final String QUERY = "오메가3 혈행 개선";
+    private static final String TITLE = "<b>오메가3</b> rTG 알티지 <b>혈행</b> 건강 1200mg 180캡슐";
+    private static final String CATEGORY = "식품";
+
+    private ProductCategoryFilter categoryFilter;
+    private QueryScorer scorer;
+
+    @Setup
+    public void setUp() {
+        categoryFilter = new ProductCategoryFilter(
+                List.of("식품"),
+                List.of("서비스", "여행/항공권", "E쿠폰", "컨텐츠", "가구/인테리어", "스포츠/레저", "생활/건강",
+                        "화장품/미용", "패션의류", "출산/육아"));
+        scorer = new QueryScorer(QUERY);
+        // 버퍼 크기 확정 (이후 점수 계산은 할당 없음)
+        scorer.score(TITLE);
+    }
+
+    @Benchmark
+    public int legacy() {
+        List<String> allowedCategories = Arrays.asList("식품");
+        List<String> blockedCategories = Arrays.asList(
+                "서비스", "여행/항공권", "E쿠폰", "컨텐츠", "가구/인테리어", "스포츠/레저", "생활/건강", "화장품/미용", "패션의류", "출산/육아");
+        String cleanTitle = TITLE.replaceAll("<[^>]*>", "");
+        if (blockedCategories.stream().anyMatch(CATEGORY::contains)
+                || !allowedCategories.stream().anyMatch(CATEGORY::contains)) {
+            return -1;
+        }
+        int score = 0;
+        String lowerQuery = QUERY.toLowerCase();
+        String lowerTitle = cleanTitle.toLowerCase();
+        if (lowerTitle.contains(lowerQuery)) {
+            score += 100;
+        }
+        for (String word : lowerQuery.split("\\s+")) {
+            if (word.length() > 1 && lowerTitle.contains(word)) {
+                score += 10;
+            }
+        }
+        return score + 50;
+    }
+
+    @Benchmark
+    public int precompiled() {
+        if (categoryFilter.isBlocked(CATEGORY) || !categoryFilter.isAllowed(CATEGORY)) {
+            return -1;
+        }
+        return scorer.score(TITLE) + 50;
+    }
+}
@@ -0,0 +1,112 @@
+package com.suppleit.backend.bench;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.suppleit.backend.client.HealthFoodResponseParser;
+import com.suppleit.backend.client.NaverShoppingResponseParser;
+import com.suppleit.backend.dto.HealthFoodSearchResult;
+import com.suppleit.backend.dto.HealthFunctionalFoodDto;
+import com.suppleit.backend.dto.NaverShoppingItem;
+
+/**
+ * 외부 API 응답 파싱 비교: 기존 방식(본문 String → readTree → path 추출) vs 스트리밍 파서.
+ * gc 프로파일러의 gc.alloc.rate.norm(연산당 할당 바이트)으로 조회 1건당 할당량을 비교한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ResponseParsingBenchmark {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final NaverShoppingResponseParser naverParser = new NaverShoppingResponseParser(objectMapper);
+    private final HealthFoodResponseParser healthFoodParser = new HealthFoodResponseParser(objectMapper);
+
+    private byte[] naverBody;
+    private byte[] healthFoodBody;
+
+    @Setup
+    public void setUp() throws IOException {
+        naverBody = load("/bench/naver-shop-response.json");
+        healthFoodBody = load("/bench/healthfood-response.json");
+    }
+
+    @Benchmark
+    public List<NaverShoppingItem> naverTree() throws IOException {
+        // 기존: StringHttpMessageConverter로 본문 전체를 String으로 만든 뒤 트리 파싱
+        JsonNode items = objectMapper.readTree(new String(naverBody, StandardCharsets.UTF_8)).path("items");
+        List<NaverShoppingItem> result = new ArrayList<>();
+        for (JsonNode item : items) {
+            NaverShoppingItem dto = new NaverShoppingItem();
+            dto.setTitle(item.path("title").asText());
+            dto.setLink(item.path("link").asText());
+            dto.setImage(item.path("image").asText());
+            dto.setLprice(item.path("lprice").asInt(0));
+            dto.setCategory1(item.path("category1").asText());
+            dto.setProductId(item.path("productId").asText());
+            result.add(dto);
+        }
+        return result;
+    }
+
+    @Benchmark
+    public List<NaverShoppingItem> naverStreaming() throws IOException {
+        return naverParser.parse(new ByteArrayInputStream(naverBody));
+    }
+
+    @Benchmark
+    public List<HealthFunctionalFoodDto> healthFoodTree() throws IOException {
+        JsonNode root = objectMapper.readTree(new String(healthFoodBody, StandardCharsets.UTF_8));
+        List<HealthFunctionalFoodDto> result = new ArrayList<>();
+        if (!"00".equals(root.path("header").path("resultCode").asText())) {
+            return result;
+        }
+        for (JsonNode itemNode : root.path("body").path("items")) {
+            JsonNode item = itemNode.has("item") ? itemNode.get("item") : itemNode;
+            HealthFunctionalFoodDto dto = new HealthFunctionalFoodDto();
+            dto.setPrduct(item.path("PRDUCT").asText("").trim());
+            dto.setEntrps(item.path("ENTRPS").asText("").trim());
+            dto.setSttemntNo(item.path("STTEMNT_NO").asText("").trim());
+            dto.setRegistDt(item.path("REGIST_DT").asText("").trim());
+            dto.setDistbPd(item.path("DISTB_PD").asText("").trim());
+            dto.setSungsang(item.path("SUNGSANG").asText("").trim());
+            dto.setSrvUse(item.path("SRV_USE").asText("").trim());
+            dto.setPrsrvPd(item.path("PRSRV_PD").asText("").trim());
+            dto.setIntakeHint(item.path("INTAKE_HINT1").asText("").trim());
+            dto.setMainFnctn(item.path("MAIN_FNCTN").asText("").trim());
+            dto.setBaseStandard(item.path("BASE_STANDARD").asText("").trim());
+            result.add(dto);
+        }
+        return result;
+    }
+
+    @Benchmark
+    public List<HealthFunctionalFoodDto> healthFoodStreaming() throws IOException {
+        HealthFoodSearchResult result = healthFoodParser.parse(new ByteArrayInputStream(healthFoodBody));
+        return result.getItems();
+    }
+
+    private static byte[] load(String resource) throws IOException {
+        try (InputStream in = ResponseParsingBenchmark.class.getResourceAsStream(resource)) {
+            if (in == null) {
+                throw new IOException("benchmark resource not found: " + resource);
+            }
+            return in.readAllBytes();
+        }
+    }
+}
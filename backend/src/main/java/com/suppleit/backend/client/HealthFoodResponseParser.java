@@ -0,0 +1,123 @@
+package com.suppleit.backend.client;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+import org.springframework.stereotype.Component;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.suppleit.backend.dto.HealthFoodSearchResult;
+import com.suppleit.backend.dto.HealthFunctionalFoodDto;
+
+/**
+ * 건강기능식품 공공데이터 API(getHtfsItem01) 응답을 스트리밍 파서로 읽는다.
+ * header의 결과 코드, body의 totalCount와 items 원소의 PRDUCT/ENTRPS/... 필드만 DTO로 옮기고
+ * 나머지는 건너뛴다. items 원소는 {"item": {...}} 형태와 펼쳐진 형태를 모두 처리한다.
+ */
+@Component
+public class HealthFoodResponseParser {
+
+    private final JsonFactory jsonFactory;
+
+    public HealthFoodResponseParser(ObjectMapper objectMapper) {
+        this.jsonFactory = objectMapper.getFactory();
+    }
+
+    public HealthFoodSearchResult parse(InputStream body) throws IOException {
+        HealthFoodSearchResult result = new HealthFoodSearchResult();
+        try (JsonParser parser = jsonFactory.createParser(body)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                return result;
+            }
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.currentName();
+                JsonToken value = parser.nextToken();
+                if ("header".equals(field) && value == JsonToken.START_OBJECT) {
+                    readHeader(parser, result);
+                } else if ("body".equals(field) && value == JsonToken.START_OBJECT) {
+                    readBody(parser, result);
+                } else {
+                    parser.skipChildren();
+                }
+            }
+        }
+        return result;
+    }
+
+    private void readHeader(JsonParser parser, HealthFoodSearchResult result) throws IOException {
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            JsonToken value = parser.nextToken();
+            if (value.isStructStart()) {
+                parser.skipChildren();
+            } else if ("resultCode".equals(field)) {
+                result.setResultCode(parser.getValueAsString(""));
+            } else if ("resultMsg".equals(field)) {
+                result.setResultMsg(parser.getValueAsString(""));
+            }
+        }
+    }
+
+    private void readBody(JsonParser parser, HealthFoodSearchResult result) throws IOException {
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            JsonToken value = parser.nextToken();
+            if ("items".equals(field) && value == JsonToken.START_ARRAY) {
+                while (parser.nextToken() == JsonToken.START_OBJECT) {
+                    HealthFunctionalFoodDto dto = emptyItem();
+                    readItem(parser, dto);
+                    result.getItems().add(dto);
+                }
+            } else if ("totalCount".equals(field) && !value.isStructStart()) {
+                result.setTotalCount(parser.getValueAsInt(0));
+            } else {
+                parser.skipChildren();
+            }
+        }
+    }
+
+    // 현재 객체의 필드를 DTO에 채움 ("item"으로 한 번 더 감싸진 경우 안쪽 객체를 읽음)
+    private void readItem(JsonParser parser, HealthFunctionalFoodDto dto) throws IOException {
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            JsonToken value = parser.nextToken();
+            if ("item".equals(field) && value == JsonToken.START_OBJECT) {
+                readItem(parser, dto);
+                continue;
+            }
+            if (value.isStructStart()) {
+                parser.skipChildren();
+                continue;
+            }
+            switch (field) {
+                case "PRDUCT" -> dto.setPrduct(text(parser)); // 제품명
+                case "ENTRPS" -> dto.setEntrps(text(parser)); // 업체명
+                case "STTEMNT_NO" -> dto.setSttemntNo(text(parser)); // 품목제조신고번호
+                case "REGIST_DT" -> dto.setRegistDt(text(parser)); // 등록일자
+                case "DISTB_PD" -> dto.setDistbPd(text(parser)); // 유통기한
+                case "SUNGSANG" -> dto.setSungsang(text(parser)); // 성상
+                case "SRV_USE" -> dto.setSrvUse(text(parser)); // 섭취방법
+                case "PRSRV_PD" -> dto.setPrsrvPd(text(parser)); // 보관방법
+                case "INTAKE_HINT1" -> dto.setIntakeHint(text(parser)); // 섭취 시 주의사항
+                case "MAIN_FNCTN" -> dto.setMainFnctn(text(parser)); // 주요기능
+                case "BASE_STANDARD" -> dto.setBaseStandard(text(parser)); // 기준규격
+                default -> {
+                    // 사용하지 않는 필드는 건너뜀
+                }
+            }
+        }
+    }
+
+    // 응답에 없는 필드는 기존 트리 파싱과 같이 빈 문자열
+    private HealthFunctionalFoodDto emptyItem() {
+        return new HealthFunctionalFoodDto("", "", "", "", "", "", "", "", "", "", "");
+    }
+
+    // 기존 JsonNode.asText("").trim()과 같은 값 (null은 빈 문자열)
+    private String text(JsonParser parser) throws IOException {
+        return parser.getValueAsString("").trim();
+    }
+}
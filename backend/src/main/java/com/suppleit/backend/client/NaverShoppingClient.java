@@ -0,0 +1,165 @@
+package com.suppleit.backend.client;
+
+import java.net.URI;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestTemplate;
+import org.springframework.web.util.UriComponentsBuilder;
+
+import com.suppleit.backend.dto.NaverShoppingItem;
+import com.suppleit.backend.support.DependencyGuard;
+import com.suppleit.backend.support.DependencyGuards;
+import com.suppleit.backend.support.ExecutorRegistry;
+import com.suppleit.backend.support.RateLimitExceededException;
+import com.suppleit.backend.support.RateLimiterRegistry;
+import com.suppleit.backend.support.RequestHedger;
+import com.suppleit.backend.support.TokenBucketRateLimiter;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 네이버 쇼핑 검색 API 전용 클라이언트.
+ * 커넥션 풀(Keep-Alive)을 공유해 요청마다 TCP/TLS 연결을 새로 맺지 않도록 한다.
+ * naver.api.hedge.enabled=true이면 최근 응답 시간 p90을 넘긴 검색에 한해 같은 요청을 한 번 더 보낸다
+ * (추가 요청은 전체의 naver.api.hedge.max-ratio 이내, 메트릭 hedge.calls{name=naver}).
+ */
+@Component
+@Slf4j
+public class NaverShoppingClient {
+
+    private final String apiUrl;
+    private final String clientId;
+    private final String clientSecret;
+
+    private final CloseableHttpClient httpClient;
+    private final RestTemplate restTemplate;
+    private final NaverShoppingResponseParser responseParser;
+    private final TokenBucketRateLimiter rateLimiter;
+    private final DependencyGuard guard;
+    // 헤징 사용 시에만 생성 (원 요청과 추가 요청 모두 ExecutorRegistry의 naverHedge 풀에서 실행)
+    private final RequestHedger hedger;
+
+    public NaverShoppingClient(
+            NaverShoppingResponseParser responseParser,
+            RateLimiterRegistry rateLimiterRegistry,
+            DependencyGuards dependencyGuards,
+            ExecutorRegistry executorRegistry,
+            MeterRegistry meterRegistry,
+            @Value("${naver.api.url}") String apiUrl,
+            @Value("${naver.api.client-id}") String clientId,
+            @Value("${naver.api.client-secret}") String clientSecret,
+            @Value("${naver.api.key-alias:default}") String keyAlias,
+            @Value("${naver.api.pool.max-total:50}") int maxTotal,
+            @Value("${naver.api.pool.max-per-route:20}") int maxPerRoute,
+            @Value("${naver.api.pool.idle-evict-seconds:30}") long idleEvictSeconds,
+            @Value("${naver.api.connect-timeout-ms:1000}") long connectTimeoutMs,
+            @Value("${naver.api.read-timeout-ms:5000}") long readTimeoutMs,
+            @Value("${naver.api.hedge.enabled:false}") boolean hedgeEnabled,
+            @Value("${naver.api.hedge.percentile:0.9}") double hedgePercentile,
+            @Value("${naver.api.hedge.min-delay-ms:50}") long hedgeMinDelayMs,
+            @Value("${naver.api.hedge.min-samples:50}") int hedgeMinSamples,
+            @Value("${naver.api.hedge.max-ratio:0.1}") double hedgeMaxRatio,
+            @Value("${naver.api.hedge.max-burst:10}") int hedgeMaxBurst) {
+        this.apiUrl = apiUrl;
+        this.clientId = clientId;
+        this.clientSecret = clientSecret;
+
+        // 호스트(route)별 최대 연결 수 제한 - 네이버 API는 단일 호스트이므로 route 제한이 곧 호스트 제한
+        PoolingHttpClientConnectionManager connectionManager = PoolingHttpClientConnectionManagerBuilder.create()
+                .setMaxConnTotal(maxTotal)
+                .setMaxConnPerRoute(maxPerRoute)
+                .setDefaultConnectionConfig(ConnectionConfig.custom()
+                        .setConnectTimeout(Timeout.ofMilliseconds(connectTimeoutMs))
+                        .setSocketTimeout(Timeout.ofMilliseconds(readTimeoutMs))
+                        .build())
+                .build();
+
+        this.httpClient = HttpClients.custom()
+                .setConnectionManager(connectionManager)
+                .setDefaultRequestConfig(RequestConfig.custom()
+                        .setConnectionRequestTimeout(Timeout.ofMilliseconds(connectTimeoutMs))
+                        .setResponseTimeout(Timeout.ofMilliseconds(readTimeoutMs))
+                        .build())
+                .evictExpiredConnections()
+                .evictIdleConnections(TimeValue.of(idleEvictSeconds, TimeUnit.SECONDS))
+                .build();
+
+        this.restTemplate = new RestTemplate(new HttpComponentsClientHttpRequestFactory(httpClient));
+        // 응답 본문을 문자열/트리로 올리지 않고 스트림에서 바로 필요한 필드만 읽음
+        this.responseParser = responseParser;
+        // 같은 API 키를 쓰는 모든 호출이 하나의 버킷을 공유 (키는 rate-limit.naver.keys.{별칭}으로 설정)
+        this.rateLimiter = rateLimiterRegistry.get("naver", keyAlias);
+        // 네이버가 응답하지 않거나 호출을 제한할 때 빠르게 실패하도록 서킷 브레이커/벌크헤드 적용
+        this.guard = dependencyGuards.get(DependencyGuards.NAVER);
+
+        if (hedgeEnabled) {
+            // 커넥션 풀 크기만큼만 동시에 실행하고, 넘치면 호출 스레드에서 바로 실행 (그 경우 헤징 없음)
+            this.hedger = new RequestHedger("naver",
+                    executorRegistry.get(ExecutorRegistry.NAVER_HEDGE, maxTotal, 0,
+                            ExecutorRegistry.RejectionPolicy.CALLER_RUNS),
+                    hedgePercentile, hedgeMinDelayMs, hedgeMinSamples, hedgeMaxRatio, hedgeMaxBurst, meterRegistry);
+        } else {
+            this.hedger = null;
+        }
+
+        log.info("NaverShoppingClient initialized (maxTotal={}, maxPerRoute={}, hedge={})",
+                maxTotal, maxPerRoute, hedgeEnabled);
+    }
+
+    /**
+     * 쇼핑 검색 결과의 items 목록을 반환한다. 응답 본문이 없으면 빈 목록을 반환한다.
+     * 호출 한도 내에서는 대기 없이 바로 요청하고, 버킷이 비었을 때만 토큰이 찰 때까지 기다린다.
+     */
+    public List<NaverShoppingItem> search(String query, int display) {
+        // 토큰은 벌크헤드/서킷 브레이커와 헤저에 들어가기 전에 받음
+        // (토큰 대기 중에 벌크헤드 자리를 잡고 있거나, 대기 시간이 느린 호출/헤지 지연 표본으로 집계되지 않도록)
+        if (!rateLimiter.acquire()) {
+            throw new RateLimitExceededException(rateLimiter.getName());
+        }
+        if (hedger == null) {
+            return guard.call(() -> doSearch(query, display));
+        }
+        // 원 요청과 추가 요청이 각각 서킷 브레이커/벌크헤드를 거치고, 추가 요청은 토큰이 남아 있을 때만 보냄
+        return hedger.call(() -> guard.call(() -> doSearch(query, display)), rateLimiter::tryAcquire);
+    }
+
+    private List<NaverShoppingItem> doSearch(String query, int display) {
+        URI uri = UriComponentsBuilder.fromUriString(apiUrl)
+                .queryParam("query", query)
+                .queryParam("display", display)
+                .build().encode().toUri();
+
+        List<NaverShoppingItem> items = restTemplate.execute(uri, HttpMethod.GET,
+                request -> {
+                    request.getHeaders().set("X-Naver-Client-Id", clientId);
+                    request.getHeaders().set("X-Naver-Client-Secret", clientSecret);
+                },
+                response -> responseParser.parse(response.getBody()));
+
+        return items == null ? List.of() : items;
+    }
+
+    @PreDestroy
+    public void close() {
+        try {
+            httpClient.close();
+        } catch (Exception e) {
+            log.warn("Failed to close Naver HTTP client: {}", e.getMessage());
+        }
+    }
+}
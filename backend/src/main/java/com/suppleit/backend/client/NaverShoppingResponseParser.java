@@ -0,0 +1,77 @@
+package com.suppleit.backend.client;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.stereotype.Component;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.suppleit.backend.dto.NaverShoppingItem;
+
+/**
+ * 네이버 쇼핑 검색 응답을 스트리밍 파서로 읽어 items 원소를 바로 DTO로 만든다.
+ * 응답 전체를 문자열이나 JsonNode 트리로 올리지 않고, 사용하지 않는 필드는 건너뛴다.
+ */
+@Component
+public class NaverShoppingResponseParser {
+
+    private final JsonFactory jsonFactory;
+
+    public NaverShoppingResponseParser(ObjectMapper objectMapper) {
+        this.jsonFactory = objectMapper.getFactory();
+    }
+
+    /**
+     * 응답 본문 스트림에서 items 배열을 읽는다. items가 없으면 빈 목록.
+     */
+    public List<NaverShoppingItem> parse(InputStream body) throws IOException {
+        List<NaverShoppingItem> items = new ArrayList<>();
+        try (JsonParser parser = jsonFactory.createParser(body)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                return items;
+            }
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.currentName();
+                JsonToken value = parser.nextToken();
+                if ("items".equals(field) && value == JsonToken.START_ARRAY) {
+                    while (parser.nextToken() == JsonToken.START_OBJECT) {
+                        items.add(readItem(parser));
+                    }
+                } else {
+                    parser.skipChildren();
+                }
+            }
+        }
+        return items;
+    }
+
+    private NaverShoppingItem readItem(JsonParser parser) throws IOException {
+        NaverShoppingItem item = new NaverShoppingItem();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            JsonToken value = parser.nextToken();
+            if (value.isStructStart()) {
+                parser.skipChildren();
+                continue;
+            }
+            switch (field) {
+                case "title" -> item.setTitle(parser.getValueAsString(""));
+                case "link" -> item.setLink(parser.getValueAsString(""));
+                case "image" -> item.setImage(parser.getValueAsString(""));
+                // lprice는 문자열("12000")로 내려오며, 숫자가 아니면 0
+                case "lprice" -> item.setLprice(parser.getValueAsInt(0));
+                case "category1" -> item.setCategory1(parser.getValueAsString(""));
+                case "productId" -> item.setProductId(parser.getValueAsString(""));
+                default -> {
+                    // 사용하지 않는 필드는 문자열로 만들지 않고 건너뜀
+                }
+            }
+        }
+        return item;
+    }
+}
@@ -4,6 +4,7 @@ import org.apache.ibatis.session.SqlSessionFactory;
 import org.apache.ibatis.type.EnumTypeHandler;
 import org.mybatis.spring.SqlSessionFactoryBean;
 import org.mybatis.spring.annotation.MapperScan;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
@@ -15,7 +16,8 @@ import javax.sql.DataSource;
 public class MyBatisConfig {
 
     @Bean
-    public SqlSessionFactory sqlSessionFactory(DataSource dataSource) throws Exception {
+    public SqlSessionFactory sqlSessionFactory(DataSource dataSource,
+            ApplicationEventPublisher eventPublisher) throws Exception {
         SqlSessionFactoryBean sqlSessionFactoryBean = new SqlSessionFactoryBean();
         sqlSessionFactoryBean.setDataSource(dataSource);
 
@@ -26,6 +28,9 @@ public class MyBatisConfig {
 
         sqlSessionFactoryBean.setConfiguration(configuration);
 
+        // 제품 추가/수정 커밋 후 ProductChangedEvent 발행 (검색 색인, 캐시 갱신)
+        sqlSessionFactoryBean.setPlugins(new ProductChangeInterceptor(eventPublisher));
+
         // ✅ Mapper XML 파일 로드 (resources/mapper/ 디렉토리에서 XML 찾기)
         sqlSessionFactoryBean.setMapperLocations(
             new PathMatchingResourcePatternResolver().getResources("classpath:mapper/*.xml")
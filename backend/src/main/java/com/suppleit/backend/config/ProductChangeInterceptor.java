@@ -0,0 +1,93 @@
+package com.suppleit.backend.config;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.apache.ibatis.executor.Executor;
+import org.apache.ibatis.mapping.MappedStatement;
+import org.apache.ibatis.plugin.Interceptor;
+import org.apache.ibatis.plugin.Intercepts;
+import org.apache.ibatis.plugin.Invocation;
+import org.apache.ibatis.plugin.Signature;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.suppleit.backend.model.Product;
+import com.suppleit.backend.service.ProductChangedEvent;
+
+/**
+ * ProductMapper의 insertProduct/upsertProduct/updateProduct 실행을 가로채 ProductChangedEvent를 발행한다
+ * (검색 색인, 제품 관련 캐시 갱신).
+ * 트랜잭션 안이면 그 트랜잭션에서 바뀐 제품을 모아 커밋된 뒤 한 번만 발행한다 (롤백된 변경은 발행하지 않음).
+ */
+@Intercepts(@Signature(type = Executor.class, method = "update", args = { MappedStatement.class, Object.class }))
+public class ProductChangeInterceptor implements Interceptor {
+
+    private static final Set<String> PRODUCT_WRITES = Set.of(
+            "com.suppleit.backend.mapper.ProductMapper.insertProduct",
+            "com.suppleit.backend.mapper.ProductMapper.upsertProduct",
+            "com.suppleit.backend.mapper.ProductMapper.updateProduct");
+
+    private final ApplicationEventPublisher eventPublisher;
+
+    public ProductChangeInterceptor(ApplicationEventPublisher eventPublisher) {
+        this.eventPublisher = eventPublisher;
+    }
+
+    @Override
+    public Object intercept(Invocation invocation) throws Throwable {
+        Object result = invocation.proceed();
+        MappedStatement statement = (MappedStatement) invocation.getArgs()[0];
+        if (PRODUCT_WRITES.contains(statement.getId())) {
+            List<Product> products = new ArrayList<>();
+            collectProducts(invocation.getArgs()[1], products);
+            if (!products.isEmpty()) {
+                publishAfterCommit(products);
+            }
+        }
+        return result;
+    }
+
+    // 단일 Product, 컬렉션, @Param 맵(ParamMap) 모두 처리
+    private static void collectProducts(Object parameter, List<Product> products) {
+        if (parameter instanceof Product product) {
+            products.add(product);
+        } else if (parameter instanceof Collection<?> collection) {
+            collection.forEach(item -> collectProducts(item, products));
+        } else if (parameter instanceof Map<?, ?> map) {
+            // ParamMap은 같은 값을 이름/param1 두 키로 가지므로 중복 제거
+            map.values().stream().distinct().forEach(value -> collectProducts(value, products));
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private void publishAfterCommit(List<Product> products) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            eventPublisher.publishEvent(new ProductChangedEvent(products));
+            return;
+        }
+        // 트랜잭션에 묶인 목록에 모음 (BATCH 일괄 저장이면 문장마다가 아니라 트랜잭션당 한 번 발행)
+        List<Product> pending = (List<Product>) TransactionSynchronizationManager.getResource(this);
+        if (pending == null) {
+            List<Product> changed = new ArrayList<>();
+            TransactionSynchronizationManager.bindResource(this, changed);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    eventPublisher.publishEvent(new ProductChangedEvent(changed));
+                }
+
+                @Override
+                public void afterCompletion(int status) {
+                    TransactionSynchronizationManager.unbindResourceIfPossible(ProductChangeInterceptor.this);
+                }
+            });
+            pending = changed;
+        }
+        pending.addAll(products);
+    }
+}
@@ -1,23 +1,147 @@
 package com.suppleit.backend.config;
 
+import java.net.URI;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.client5.http.protocol.HttpClientContext;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
-import org.springframework.http.client.BufferingClientHttpRequestFactory;
-import org.springframework.http.client.SimpleClientHttpRequestFactory;
+import org.springframework.core.env.Environment;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
 import org.springframework.web.client.RestTemplate;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.httpcomponents.hc5.PoolingHttpClientConnectionManagerMetricsBinder;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 공용 RestTemplate (Flask 추천, 공공데이터 건강기능식품 API, 소셜 로그인).
+ * Apache HttpClient 5 커넥션 풀을 사용해 Keep-Alive 연결을 재사용하고, 응답 본문은 메모리에 모아 두지 않고
+ * 스트림으로 바로 읽는다. gzip 응답은 HttpClient가 Accept-Encoding을 붙이고 자동으로 풀어 준다.
+ * 응답 타임아웃은 요청 호스트로 의존성을 구분해 따로 적용한다 (네이버 쇼핑은 NaverShoppingClient 전용 풀 사용).
+ *
+ * 설정 예 (없으면 기본값)
+ * <pre>
+ * http.client.max-total=100
+ * http.client.max-per-route=20
+ * http.client.idle-evict-seconds=30
+ * http.client.keep-alive-seconds=30
+ * http.client.connect-timeout-ms=1000
+ * http.client.response-timeout-ms=15000
+ * http.client.flask.response-timeout-ms=3000
+ * http.client.health-food.response-timeout-ms=10000
+ * http.client.oauth.response-timeout-ms=5000
+ * </pre>
+ */
 @Configuration
+@Slf4j
 public class RestTemplateConfig {
 
+    // 소셜 로그인(토큰 발급, 사용자 정보) API 호스트
+    private static final List<String> OAUTH_HOSTS = List.of(
+            "oauth2.googleapis.com", "www.googleapis.com", "nid.naver.com", "openapi.naver.com", "kapi.kakao.com");
+
+    @Bean(destroyMethod = "close")
+    public CloseableHttpClient sharedHttpClient(
+            MeterRegistry meterRegistry,
+            @Value("${http.client.max-total:100}") int maxTotal,
+            @Value("${http.client.max-per-route:20}") int maxPerRoute,
+            @Value("${http.client.idle-evict-seconds:30}") long idleEvictSeconds,
+            @Value("${http.client.keep-alive-seconds:30}") long keepAliveSeconds,
+            @Value("${http.client.connect-timeout-ms:1000}") long connectTimeoutMs,
+            @Value("${http.client.response-timeout-ms:15000}") long responseTimeoutMs) {
+        // 호스트(route)별 최대 연결 수 제한 - 한 의존성이 느려져도 다른 의존성 연결까지 잡아먹지 않도록
+        PoolingHttpClientConnectionManager connectionManager = PoolingHttpClientConnectionManagerBuilder.create()
+                .setMaxConnTotal(maxTotal)
+                .setMaxConnPerRoute(maxPerRoute)
+                .setDefaultConnectionConfig(ConnectionConfig.custom()
+                        .setConnectTimeout(Timeout.ofMilliseconds(connectTimeoutMs))
+                        .build())
+                .build();
+        new PoolingHttpClientConnectionManagerMetricsBinder(connectionManager, "shared").bindTo(meterRegistry);
+
+        log.info("Shared HTTP client initialized (maxTotal={}, maxPerRoute={})", maxTotal, maxPerRoute);
+        return HttpClients.custom()
+                .setConnectionManager(connectionManager)
+                .setDefaultRequestConfig(RequestConfig.custom()
+                        .setConnectionRequestTimeout(Timeout.ofMilliseconds(connectTimeoutMs))
+                        .setResponseTimeout(Timeout.ofMilliseconds(responseTimeoutMs))
+                        // 서버가 Keep-Alive 헤더를 주지 않을 때 연결을 재사용할 최대 시간
+                        .setConnectionKeepAlive(TimeValue.ofSeconds(keepAliveSeconds))
+                        .build())
+                .evictExpiredConnections()
+                .evictIdleConnections(TimeValue.of(idleEvictSeconds, TimeUnit.SECONDS))
+                .build();
+    }
+
     @Bean
-    public RestTemplate restTemplate() {
-        SimpleClientHttpRequestFactory factory = new SimpleClientHttpRequestFactory();
-        factory.setConnectTimeout(1000); // 10초 연결 타임아웃
-        factory.setReadTimeout(15000);   // 15초 읽기 타임아웃
-        
-        // BufferingClientHttpRequestFactory로 래핑하여 응답을 여러 번 읽을 수 있도록 함
-        BufferingClientHttpRequestFactory bufferingFactory = new BufferingClientHttpRequestFactory(factory);
-        
-        return new RestTemplate(bufferingFactory);
+    public RestTemplate restTemplate(
+            CloseableHttpClient sharedHttpClient,
+            Environment environment,
+            @Value("${http.client.keep-alive-seconds:30}") long keepAliveSeconds,
+            @Value("${http.client.connect-timeout-ms:1000}") long connectTimeoutMs,
+            @Value("${http.client.response-timeout-ms:15000}") long responseTimeoutMs,
+            @Value("${flask.api.url:}") String flaskUrl,
+            @Value("${api.health-functional-food.url:}") String healthFoodUrl) {
+        // 요청 호스트 -> 의존성별 RequestConfig (없으면 공통 설정)
+        RequestConfig defaults = RequestConfig.custom()
+                .setConnectionRequestTimeout(Timeout.ofMilliseconds(connectTimeoutMs))
+                .setResponseTimeout(Timeout.ofMilliseconds(responseTimeoutMs))
+                .setConnectionKeepAlive(TimeValue.ofSeconds(keepAliveSeconds))
+                .build();
+        Map<String, RequestConfig> configByHost = new HashMap<>();
+        putConfig(configByHost, hostOf(flaskUrl), environment, "flask", defaults);
+        putConfig(configByHost, hostOf(healthFoodUrl), environment, "health-food", defaults);
+        for (String host : OAUTH_HOSTS) {
+            putConfig(configByHost, host, environment, "oauth", defaults);
+        }
+
+        HttpComponentsClientHttpRequestFactory factory = new HttpComponentsClientHttpRequestFactory(sharedHttpClient);
+        factory.setHttpContextFactory((method, uri) -> {
+            RequestConfig config = configByHost.get(uri.getHost());
+            if (config == null) {
+                return null; // 공통 설정 사용
+            }
+            HttpClientContext context = HttpClientContext.create();
+            context.setRequestConfig(config);
+            return context;
+        });
+        return new RestTemplate(factory);
+    }
+
+    // http.client.{dependency}.response-timeout-ms가 있으면 공통 설정에 덮어씀
+    private static void putConfig(Map<String, RequestConfig> configByHost, String host, Environment environment,
+            String dependency, RequestConfig defaults) {
+        Long responseTimeoutMs = environment.getProperty("http.client." + dependency + ".response-timeout-ms",
+                Long.class);
+        if (host == null || responseTimeoutMs == null) {
+            return;
+        }
+        configByHost.put(host, RequestConfig.copy(defaults)
+                .setResponseTimeout(Timeout.ofMilliseconds(responseTimeoutMs))
+                .build());
+    }
+
+    private static String hostOf(String url) {
+        if (url == null || url.isBlank()) {
+            return null;
+        }
+        try {
+            return URI.create(url.trim()).getHost();
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,10 @@
+package com.suppleit.backend.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+// @Scheduled 작업 활성화 (JWT 블랙리스트 정리, 캐시 사전 워밍, 공공데이터 제품 일괄 저장, 카탈로그 전체/증분 동기화)
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
@@ -82,6 +82,9 @@ public class SecurityConfig {
     private void configureAuthorization(AuthorizeHttpRequestsConfigurer<HttpSecurity>.AuthorizationManagerRequestMatcherRegistry auth) {
         auth
             .requestMatchers("/admin/**").hasAuthority("ROLE_ADMIN")  // ✅ 관리자 권한 필요
+            .requestMatchers("/api/admin/**").hasAuthority("ROLE_ADMIN")  // 관리자 API (캐시 관리 등)
+            .requestMatchers("/actuator/health/**").permitAll()  // 헬스체크는 누구나
+            .requestMatchers("/actuator/**").hasAuthority("ROLE_ADMIN")  // 메트릭 조회는 관리자만
             .requestMatchers("/api/member/auth/**").hasAnyAuthority("ROLE_ADMIN", "ROLE_USER")  // ✅ 관리자 & 사용자 권한 필요
             .requestMatchers("/api/logout").authenticated() // ✅ 로그인한 사용자만 로그아웃 가능
 
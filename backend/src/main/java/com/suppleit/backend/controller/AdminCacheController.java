@@ -0,0 +1,42 @@
+package com.suppleit.backend.controller;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.suppleit.backend.dto.ApiResponse;
+import com.suppleit.backend.service.RecommendationService;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+// 관리자용 캐시 관리 API (ROLE_ADMIN 필요)
+@RestController
+@RequestMapping("/api/admin/cache")
+@RequiredArgsConstructor
+@Slf4j
+public class AdminCacheController {
+
+    private final RecommendationService recommendationService;
+
+    // 추천 캐시 상태 조회
+    @GetMapping("/recommend")
+    public ResponseEntity<?> getRecommendationCacheInfo() {
+        Map<String, Object> info = new HashMap<>();
+        info.put("modelVersion", recommendationService.getModelVersion());
+        return ResponseEntity.ok(ApiResponse.success("조회 성공", info));
+    }
+
+    // 추천 캐시 비우기 (Flask 모델 재배포 후 수동 무효화)
+    @DeleteMapping("/recommend")
+    public ResponseEntity<?> clearRecommendationCache() {
+        log.info("추천 캐시 초기화 요청");
+        recommendationService.clearCache();
+        return ResponseEntity.ok(ApiResponse.success("추천 캐시를 비웠습니다."));
+    }
+}
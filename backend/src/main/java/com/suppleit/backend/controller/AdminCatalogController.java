@@ -0,0 +1,60 @@
+package com.suppleit.backend.controller;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.suppleit.backend.dto.ApiResponse;
+import com.suppleit.backend.service.CatalogSyncService;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+// 관리자용 건강기능식품 카탈로그 동기화 API (ROLE_ADMIN 필요)
+@RestController
+@RequestMapping("/api/admin/catalog")
+@RequiredArgsConstructor
+@Slf4j
+public class AdminCatalogController {
+
+    private final CatalogSyncService catalogSyncService;
+
+    // 동기화 진행 상태 조회
+    @GetMapping("/sync")
+    public ResponseEntity<?> getSyncStatus() {
+        Map<String, Object> info = new HashMap<>();
+        info.put("running", catalogSyncService.isRunning());
+        info.put("catalogLoaded", catalogSyncService.isCatalogLoaded());
+        info.put("full", catalogSyncService.getCheckpoint(CatalogSyncService.FULL_SYNC));
+        info.put("delta", catalogSyncService.getCheckpoint(CatalogSyncService.DELTA_SYNC));
+        return ResponseEntity.ok(ApiResponse.success("조회 성공", info));
+    }
+
+    // 전체 동기화 시작 (백그라운드, 중단된 실행이 있으면 이어서 진행)
+    @PostMapping("/sync")
+    public ResponseEntity<?> startSync() {
+        log.info("카탈로그 전체 동기화 요청");
+        if (!catalogSyncService.startFullSync()) {
+            return ResponseEntity.status(HttpStatus.CONFLICT)
+                    .body(ApiResponse.error("이미 동기화가 진행 중입니다."));
+        }
+        return ResponseEntity.accepted().body(ApiResponse.success("카탈로그 동기화를 시작했습니다."));
+    }
+
+    // 증분 동기화 시작 (백그라운드, 마지막 등록일자 기준 이후 항목만)
+    @PostMapping("/sync/delta")
+    public ResponseEntity<?> startDeltaSync() {
+        log.info("카탈로그 증분 동기화 요청");
+        if (!catalogSyncService.startDeltaSync()) {
+            return ResponseEntity.status(HttpStatus.CONFLICT)
+                    .body(ApiResponse.error("이미 동기화가 진행 중입니다."));
+        }
+        return ResponseEntity.accepted().body(ApiResponse.success("카탈로그 증분 동기화를 시작했습니다."));
+    }
+}
@@ -0,0 +1,52 @@
+package com.suppleit.backend.controller;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.suppleit.backend.dto.ApiResponse;
+import com.suppleit.backend.dto.PopularKeywordDto;
+import com.suppleit.backend.service.PopularKeywordTracker;
+
+import lombok.RequiredArgsConstructor;
+
+// 관리자용 인기 검색어 조회 API (ROLE_ADMIN 필요)
+@RestController
+@RequestMapping("/api/admin/keywords")
+@RequiredArgsConstructor
+public class AdminKeywordController {
+
+    private final PopularKeywordTracker popularKeywordTracker;
+
+    // 전체 엔드포인트의 인기 검색어 (엔드포인트 → 상위 N개)
+    @GetMapping
+    public ResponseEntity<?> getPopularKeywords(@RequestParam(defaultValue = "20") int limit) {
+        if (limit < 0) {
+            return ResponseEntity.badRequest().body(ApiResponse.error("limit은 0 이상이어야 합니다."));
+        }
+        Map<String, List<PopularKeywordDto>> result = new LinkedHashMap<>();
+        for (String endpoint : new TreeSet<>(popularKeywordTracker.getEndpoints())) {
+            result.put(endpoint, popularKeywordTracker.top(endpoint, limit));
+        }
+        return ResponseEntity.ok(ApiResponse.success("조회 성공", result));
+    }
+
+    // 특정 엔드포인트의 인기 검색어 (recommend, productSearch, healthFood)
+    @GetMapping("/{endpoint}")
+    public ResponseEntity<?> getPopularKeywords(
+            @PathVariable("endpoint") String endpoint,
+            @RequestParam(defaultValue = "20") int limit) {
+        if (limit < 0) {
+            return ResponseEntity.badRequest().body(ApiResponse.error("limit은 0 이상이어야 합니다."));
+        }
+        return ResponseEntity.ok(ApiResponse.success("조회 성공", popularKeywordTracker.top(endpoint, limit)));
+    }
+}
@@ -3,6 +3,7 @@ package com.suppleit.backend.controller;
 import com.suppleit.backend.dto.ApiResponse;
 import com.suppleit.backend.dto.HealthFunctionalFoodDto;
 import com.suppleit.backend.service.HealthFunctionalFoodService;
+import com.suppleit.backend.service.PopularKeywordTracker;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.ResponseEntity;
@@ -17,6 +18,7 @@ import java.util.List;
 public class HealthFunctionalFoodController {
 
     private final HealthFunctionalFoodService healthFunctionalFoodService;
+    private final PopularKeywordTracker popularKeywordTracker;
 
     /**
      * 건강기능식품 검색 API
@@ -37,6 +39,7 @@ public class HealthFunctionalFoodController {
             if (keyword == null || keyword.trim().isEmpty()) {
                 return ResponseEntity.badRequest().body(ApiResponse.error("검색어를 입력해주세요."));
             }
+            popularKeywordTracker.record(PopularKeywordTracker.HEALTH_FOOD, keyword);
             
             List<HealthFunctionalFoodDto> results = healthFunctionalFoodService.searchHealthFunctionalFood(
                     keyword, pageNo, numOfRows);
@@ -2,6 +2,7 @@ package com.suppleit.backend.controller;
 
 import com.suppleit.backend.dto.ApiResponse;
 import com.suppleit.backend.dto.ProductDto;
+import com.suppleit.backend.service.PopularKeywordTracker;
 import com.suppleit.backend.service.ProductService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -17,6 +18,7 @@ import java.util.List;
 public class ProductController {
 
     private final ProductService productService;
+    private final PopularKeywordTracker popularKeywordTracker;
 
     @GetMapping("/search")
     public ResponseEntity<?> searchProducts(@RequestParam("keyword") String keyword) {
@@ -25,6 +27,7 @@ public class ProductController {
             if (keyword == null || keyword.trim().isEmpty()) {
                 return ResponseEntity.badRequest().body(ApiResponse.error("검색어를 입력해주세요."));
             }
+            popularKeywordTracker.record(PopularKeywordTracker.PRODUCT_SEARCH, keyword);
             
             List<ProductDto> products = productService.searchProducts(keyword);
             
@@ -1,102 +1,403 @@
 package com.suppleit.backend.controller;
 
-import java.net.URI;
+import java.io.IOException;
 import java.util.ArrayList;
-import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CancellationException;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
 
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.http.HttpEntity;
-import org.springframework.http.HttpHeaders;
-import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
-import org.springframework.web.client.RestTemplate;
-import org.springframework.web.util.UriComponentsBuilder;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
-import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.suppleit.backend.client.NaverShoppingClient;
+import com.suppleit.backend.dto.ApiResponse;
+import com.suppleit.backend.dto.NaverShoppingItem;
 import com.suppleit.backend.dto.ProductResponse;
+import com.suppleit.backend.dto.RecommendationBatchRequest;
+import com.suppleit.backend.service.NaverProductService;
+import com.suppleit.backend.service.PopularKeywordTracker;
+import com.suppleit.backend.service.RecommendationAssembler;
 import com.suppleit.backend.service.RecommendationService;
+import com.suppleit.backend.support.ExecutorRegistry;
 
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.extern.slf4j.Slf4j;
 
 @RestController
 @Slf4j
 public class RecommendationController {
 
+  // 응답 상품 개수
+  private static final int TARGET_SIZE = RecommendationAssembler.RESPONSE_SIZE;
+
   private final RecommendationService recommendationService;
+  private final NaverShoppingClient naverShoppingClient;
+  private final NaverProductService naverProductService;
+  private final PopularKeywordTracker popularKeywordTracker;
   private final ExecutorService executorService;
+  private final Counter cutOffCounter;
 
-  @Value("${naver.api.client-id}")
-  private String clientId;
+  @Value("${flask.api.url}")
+  private String flaskUrl;
 
-  @Value("${naver.api.client-secret}")
-  private String clientSecret;
+  // /api/recommend 전체 응답 시간 예산
+  @Value("${recommend.budget-ms:800}")
+  private long budgetMs;
 
-  @Value("${naver.api.url}")
-  private String naverApiUrl;
+  // 예산 중 Flask 추천을 기다릴 최대 시간 (넘으면 JVM 내 대체 색인 결과로 네이버 하위 검색 진행)
+  @Value("${recommend.flask-budget-ms:500}")
+  private long flaskBudgetMs;
 
-  @Value("${flask.api.url}")
-  private String flaskUrl;
+  @Value("${recommend.stream.timeout-ms:30000}")
+  private long streamTimeoutMs;
+
+  // /api/recommend/batch 전체 응답 시간 예산과 한 번에 받을 수 있는 키워드 수
+  @Value("${recommend.batch.budget-ms:1500}")
+  private long batchBudgetMs;
+
+  @Value("${recommend.batch.max-keywords:20}")
+  private int batchMaxKeywords;
 
-  public RecommendationController(RecommendationService recommendationService) {
+  public RecommendationController(RecommendationService recommendationService,
+      NaverShoppingClient naverShoppingClient, NaverProductService naverProductService,
+      PopularKeywordTracker popularKeywordTracker, ExecutorRegistry executorRegistry,
+      MeterRegistry meterRegistry) {
     this.recommendationService = recommendationService;
-    this.executorService = Executors.newFixedThreadPool(5);
+    this.naverShoppingClient = naverShoppingClient;
+    this.naverProductService = naverProductService;
+    this.popularKeywordTracker = popularKeywordTracker;
+    // 네이버 하위 검색 팬아웃 (가득 차면 해당 하위 검색만 빈 결과로 처리)
+    this.executorService = executorRegistry.get(ExecutorRegistry.RECOMMEND_FANOUT, 10, 100);
+    this.cutOffCounter = Counter.builder("recommend.fanout.cutoff")
+        .description("응답 시간 예산 초과로 잘려 나간 하위 요청 수")
+        .register(meterRegistry);
   }
 
   @GetMapping("api/recommend")
   public List<ProductResponse> getRecommendations(@RequestParam("keyword") String keyword) {
     log.info("Request received to get recommendations for keyword: {}", keyword);
+    popularKeywordTracker.record(PopularKeywordTracker.RECOMMEND, keyword);
+    // 전체 응답 시간 예산: 이 시각까지 끝나지 않은 하위 요청은 잘라내고 더미로 채움
+    long startedAt = System.nanoTime();
+    long deadline = startedAt + TimeUnit.MILLISECONDS.toNanos(budgetMs);
+    long flaskDeadline = Math.min(deadline, startedAt + TimeUnit.MILLISECONDS.toNanos(flaskBudgetMs));
+
+    // 1. 원본 키워드로 직접 네이버 API 검색 (Flask 호출과 병렬 진행)
+    CompletableFuture<List<ProductResponse>> directFuture =
+        naverProductService.findCandidatesAsync(keyword, executorService);
+
+    // 2. Flask 서버에서 추천 키워드 받기 (같은 키워드의 동시 요청은 한 번만 호출)
+    CompletableFuture<List<String>> recommendationsFuture = recommendationService.getRecommendationsAsync(keyword);
+    List<String> recommendations = awaitUntil(recommendationsFuture, flaskDeadline);
+    if (recommendations == null) {
+      recommendations = recommendationService.getFallbackRecommendations(keyword, "timeout");
+    }
+
+    // 3. 추천 키워드로 검색하되 직접 네이버 검색 API 사용
+    // 빈 자리는 각 검색의 차순위 후보로 채우므로 응답 개수를 넘는 검색은 하지 않음
+    List<CompletableFuture<List<ProductResponse>>> lookups = new ArrayList<>();
+    lookups.add(directFuture);
 
-    // 1. 원본 키워드로 직접 네이버 API 검색
-    ProductResponse directResult = getNaverProductResponseWithFallback(keyword);
-    List<ProductResponse> results = new ArrayList<>();
-    if (directResult != null) {
-      results.add(directResult);
+    // 각 추천 키워드에 원본 키워드를 결합하여 검색 관련성 높이기
+    for (String combinedQuery : RecommendationAssembler.subQueries(keyword, recommendations, TARGET_SIZE)) {
+      lookups.add(naverProductService.findCandidatesAsync(combinedQuery, executorService));
     }
 
-    // 2. Flask 서버에서 추천 키워드 받기
-    List<String> recommendations = recommendationService.getRecommendations(keyword);
+    // 남은 예산 안에서 결과 수집 (원본 키워드 상품이 항상 맨 앞)
+    awaitAll(lookups, deadline);
+    RecommendationAssembler assembler = new RecommendationAssembler(TARGET_SIZE);
+    int cutOff = 0;
+    for (CompletableFuture<List<ProductResponse>> lookup : lookups) {
+      if (!lookup.isDone()) {
+        // 기다리는 호출자가 모두 취소하면 아직 시작하지 않은 네이버 호출은 실행되지 않음
+        lookup.cancel(true);
+        cutOff++;
+        continue;
+      }
+      assembler.accept(getNowOrEmpty(lookup));
+    }
+    List<ProductResponse> backfilled = assembler.backfill();
+    List<ProductResponse> results = assembler.getPicked();
 
+    if (cutOff > 0) {
+      cutOffCounter.increment(cutOff);
+      log.warn("Recommendation budget ({} ms) exceeded for keyword: {}, {} sub-requests cut off",
+          budgetMs, keyword, cutOff);
+    }
     if (recommendations.isEmpty()) {
       log.warn("No recommendations found for keyword: {}", keyword);
-      return fillWithDummies(results, 5);
     }
+    log.info("Fetched {} valid products from Naver API ({} backfilled from runner-up candidates)",
+        results.size(), backfilled.size());
 
-    // 3. 추천 키워드로 검색하되 직접 네이버 검색 API 사용
-    List<CompletableFuture<ProductResponse>> futures = new ArrayList<>();
+    // 정확히 5개를 반환하기 위해 부족한 자리는 더미 데이터로 채우기
+    return fillWithDummies(results, TARGET_SIZE);
+  }
 
-    // 각 추천 키워드에 원본 키워드를 결합하여 검색 관련성 높이기
-    for (String recommendation : recommendations) {
-      String combinedQuery = recommendation + " " + keyword;
-      futures.add(CompletableFuture.supplyAsync(
-          () -> getNaverProductResponseWithFallback(combinedQuery),
-          executorService).exceptionally(ex -> {
-            log.error("Error occurred for query: {}, Exception: {}", combinedQuery, ex.getMessage());
-            return null;
-          }));
+  /**
+   * 여러 키워드의 추천 상품을 한 번에 조회한다. 응답은 {키워드: 상품 5개} 맵 (요청 순서 유지).
+   * 배치 안에서 같은 키워드의 Flask 호출과 같은 검색어의 네이버 조회는 한 번만 실행해 결과를 공유한다.
+   */
+  @PostMapping("api/recommend/batch")
+  public ResponseEntity<?> getBatchRecommendations(@RequestBody RecommendationBatchRequest request) {
+    List<String> keywords = new ArrayList<>();
+    if (request.getKeywords() != null) {
+      for (String keyword : request.getKeywords()) {
+        if (keyword != null && !keyword.trim().isEmpty()) {
+          keywords.add(keyword);
+        }
+      }
+    }
+    if (keywords.isEmpty()) {
+      return ResponseEntity.badRequest().body(ApiResponse.error("키워드를 입력해주세요."));
+    }
+    if (keywords.size() > batchMaxKeywords) {
+      return ResponseEntity.badRequest()
+          .body(ApiResponse.error("한 번에 요청할 수 있는 키워드는 최대 " + batchMaxKeywords + "개입니다."));
+    }
+    log.info("Batch request received to get recommendations for {} keywords", keywords.size());
+    long startedAt = System.nanoTime();
+    long deadline = startedAt + TimeUnit.MILLISECONDS.toNanos(batchBudgetMs);
+    // Flask는 단건 요청과 같은 몫까지만 기다림 (남은 예산은 네이버 하위 검색에 사용)
+    long flaskDeadline = Math.min(deadline, startedAt + TimeUnit.MILLISECONDS.toNanos(flaskBudgetMs));
+
+    // 배치 내 중복 제거: 정규화된 키워드/검색어 단위로 Future 하나만 생성
+    Map<String, CompletableFuture<List<String>>> flaskCalls = new HashMap<>();
+    Map<String, CompletableFuture<List<ProductResponse>>> naverLookups = new HashMap<>();
+    Function<String, CompletableFuture<List<ProductResponse>>> lookup = query -> naverLookups.computeIfAbsent(
+        naverProductService.normalizeQuery(query),
+        key -> naverProductService.findCandidatesAsync(query, executorService));
+
+    // 1. 원본 키워드 직접 검색과 Flask 추천 키워드 요청을 동시에 시작
+    Map<String, List<CompletableFuture<List<ProductResponse>>>> lookupsByKeyword = new LinkedHashMap<>();
+    for (String keyword : keywords) {
+      List<CompletableFuture<List<ProductResponse>>> lookups = new ArrayList<>();
+      lookups.add(lookup.apply(keyword));
+      popularKeywordTracker.record(PopularKeywordTracker.RECOMMEND, keyword);
+      lookupsByKeyword.putIfAbsent(keyword, lookups);
+      flaskCalls.computeIfAbsent(recommendationService.normalizeKeyword(keyword),
+          key -> recommendationService.getRecommendationsAsync(keyword));
+    }
+
+    // 2. 추천 키워드가 도착한 만큼 하위 검색 시작 (Flask 몫 안에 오지 않은 호출은 취소 후 대체 색인 사용)
+    awaitAll(new ArrayList<>(flaskCalls.values()), flaskDeadline);
+    int cutOff = cancelUnfinished(flaskCalls.values());
+    for (Map.Entry<String, List<CompletableFuture<List<ProductResponse>>>> entry : lookupsByKeyword.entrySet()) {
+      String keyword = entry.getKey();
+      CompletableFuture<List<String>> flaskCall = flaskCalls.get(recommendationService.normalizeKeyword(keyword));
+      List<String> recommendations = flaskCall.isCancelled()
+          ? recommendationService.getFallbackRecommendations(keyword, "timeout")
+          : getNowOrEmpty(flaskCall);
+      for (String combinedQuery : RecommendationAssembler.subQueries(keyword, recommendations, TARGET_SIZE)) {
+        entry.getValue().add(lookup.apply(combinedQuery));
+      }
+    }
+
+    // 3. 남은 예산 안에서 네이버 조회 결과 수집 후 키워드별로 조립
+    awaitAll(new ArrayList<>(naverLookups.values()), deadline);
+    cutOff += cancelUnfinished(naverLookups.values());
+
+    Map<String, List<ProductResponse>> results = new LinkedHashMap<>();
+    for (Map.Entry<String, List<CompletableFuture<List<ProductResponse>>>> entry : lookupsByKeyword.entrySet()) {
+      RecommendationAssembler assembler = new RecommendationAssembler(TARGET_SIZE);
+      for (CompletableFuture<List<ProductResponse>> future : entry.getValue()) {
+        if (!future.isCancelled()) {
+          assembler.accept(getNowOrEmpty(future));
+        }
+      }
+      assembler.backfill();
+      results.put(entry.getKey(), fillWithDummies(assembler.getPicked(), TARGET_SIZE));
+    }
+
+    if (cutOff > 0) {
+      cutOffCounter.increment(cutOff);
+      log.warn("Batch recommendation budget ({} ms) exceeded, {} sub-requests cut off", batchBudgetMs, cutOff);
+    }
+    log.info("Batch of {} keywords served with {} Flask calls and {} Naver lookups",
+        keywords.size(), flaskCalls.size(), naverLookups.size());
+    return ResponseEntity.ok(results);
+  }
+
+  // 아직 끝나지 않은 Future를 취소하고 취소한 개수 반환
+  private int cancelUnfinished(Collection<? extends CompletableFuture<?>> futures) {
+    int cancelled = 0;
+    for (CompletableFuture<?> future : futures) {
+      if (!future.isDone()) {
+        future.cancel(true);
+        cancelled++;
+      }
     }
+    return cancelled;
+  }
 
-    // 결과 수집
-    List<ProductResponse> validProducts = futures.stream()
-        .map(CompletableFuture::join)
-        .filter(response -> response != null)
-        .toList();
+  // 마감 시각까지 결과를 기다리고, 시간이 지나면 취소 후 null 반환
+  private <T> T awaitUntil(CompletableFuture<T> future, long deadline) {
+    try {
+      return future.get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+    } catch (TimeoutException e) {
+      future.cancel(true);
+      cutOffCounter.increment();
+      log.warn("Flask budget ({} ms) exceeded, falling back to local recommendation index", flaskBudgetMs);
+      return null;
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      return null;
+    } catch (ExecutionException | CancellationException e) {
+      log.error("Error occurred while waiting for recommendations: {}", e.getMessage());
+      return null;
+    }
+  }
 
-    log.info("Fetched {} valid products from Naver API", validProducts.size());
-    results.addAll(validProducts);
+  // 마감 시각까지 모든 Future 완료를 기다림 (시간 초과 시 완료된 것만 사용)
+  private void awaitAll(List<? extends CompletableFuture<?>> futures, long deadline) {
+    try {
+      CompletableFuture.allOf(futures.toArray(new CompletableFuture[0]))
+          .get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+    } catch (TimeoutException | ExecutionException | CancellationException e) {
+      // 개별 결과는 호출한 쪽에서 isDone()/getNow()로 확인
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
 
-    // 정확히 5개를 반환하기 위해 더미 데이터로 채우거나 잘라내기
-    if (results.size() > 5) {
-      return results.subList(0, 5);
-    } else {
-      return fillWithDummies(results, 5);
+  private <T> List<T> getNowOrEmpty(CompletableFuture<List<T>> future) {
+    try {
+      return future.getNow(List.of());
+    } catch (CompletionException | CancellationException e) {
+      log.error("Error occurred while fetching product: {}", e.getMessage());
+      return List.of();
+    }
+  }
+
+  /**
+   * 추천 상품 스트리밍 (Server-Sent Events).
+   * 원본 키워드 상품을 먼저 보내고, 이후 추천 상품은 조회가 끝나는 순서대로 "product" 이벤트로 보낸다.
+   * 5개가 안 되면 차순위 후보, 그래도 부족하면 더미로 채운 뒤 "done" 이벤트를 보내고 연결을 닫는다.
+   */
+  @GetMapping(value = "api/recommend/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+  public SseEmitter streamRecommendations(@RequestParam("keyword") String keyword) {
+    log.info("Stream request received to get recommendations for keyword: {}", keyword);
+    popularKeywordTracker.record(PopularKeywordTracker.RECOMMEND, keyword);
+
+    SseEmitter emitter = new SseEmitter(streamTimeoutMs);
+    RecommendationStream stream = new RecommendationStream(emitter, TARGET_SIZE);
+    emitter.onTimeout(stream::close);
+    emitter.onError(ex -> stream.close());
+
+    CompletableFuture<List<ProductResponse>> directFuture =
+        naverProductService.findCandidatesAsync(keyword, executorService);
+    // Flask 예산을 넘기면 대체 색인 결과로 진행 (늦게 도착한 Flask 결과는 캐시에만 반영됨)
+    CompletableFuture<List<String>> recommendationsFuture = recommendationService.getRecommendationsAsync(keyword)
+        .completeOnTimeout(null, flaskBudgetMs, TimeUnit.MILLISECONDS)
+        .thenApply(recommendations -> recommendations != null
+            ? recommendations
+            : recommendationService.getFallbackRecommendations(keyword, "timeout"));
+
+    // 원본 키워드 상품이 항상 첫 번째 카드가 되도록, 추천 상품은 이 Future 이후에만 전송
+    CompletableFuture<Void> directSent = directFuture
+        .handle((candidates, ex) -> {
+          stream.send(candidates);
+          return null;
+        });
+
+    recommendationsFuture
+        .thenCompose(recommendations -> {
+          List<CompletableFuture<Void>> sends = new ArrayList<>();
+          for (String combinedQuery : RecommendationAssembler.subQueries(keyword, recommendations, TARGET_SIZE)) {
+            sends.add(naverProductService.findCandidatesAsync(combinedQuery, executorService)
+                .exceptionally(ex -> {
+                  log.error("Error occurred for query: {}, Exception: {}", combinedQuery, ex.getMessage());
+                  return List.of();
+                })
+                .thenCombine(directSent, (candidates, ignored) -> candidates)
+                .thenAccept(stream::send));
+          }
+          sends.add(directSent);
+          return CompletableFuture.allOf(sends.toArray(new CompletableFuture[0]));
+        })
+        .whenComplete((ignored, ex) -> {
+          if (ex != null) {
+            log.error("Error occurred while streaming recommendations for keyword: {}, Exception: {}",
+                keyword, ex.getMessage());
+          }
+          directSent.thenRun(stream::finish);
+        });
+
+    return emitter;
+  }
+
+  // SSE 전송 상태 (여러 스레드에서 완료 순서대로 호출됨)
+  private class RecommendationStream {
+    private final SseEmitter emitter;
+    private final int targetSize;
+    private final RecommendationAssembler assembler;
+    private final AtomicBoolean closed = new AtomicBoolean();
+
+    RecommendationStream(SseEmitter emitter, int targetSize) {
+      this.emitter = emitter;
+      this.targetSize = targetSize;
+      this.assembler = new RecommendationAssembler(targetSize);
+    }
+
+    // 하위 검색 1건의 후보 중 채택된 상품만 전송 (나머지는 백필용으로 보관)
+    void send(List<ProductResponse> candidates) {
+      if (closed.get()) {
+        return;
+      }
+      ProductResponse product = assembler.accept(candidates);
+      if (product != null) {
+        sendEvent("product", product);
+      }
+    }
+
+    // 남은 자리를 차순위 후보, 그래도 부족하면 더미로 채우고 스트림 종료
+    void finish() {
+      for (ProductResponse product : assembler.backfill()) {
+        sendEvent("product", product);
+      }
+      for (int i = assembler.size(); i < targetSize; i++) {
+        sendEvent("product", createDummyProduct(i));
+      }
+      sendEvent("done", targetSize);
+      if (closed.compareAndSet(false, true)) {
+        emitter.complete();
+      }
+    }
+
+    void close() {
+      closed.set(true);
+    }
+
+    private void sendEvent(String name, Object data) {
+      if (closed.get()) {
+        return;
+      }
+      try {
+        emitter.send(SseEmitter.event().name(name).data(data, MediaType.APPLICATION_JSON));
+      } catch (IOException | IllegalStateException e) {
+        // 클라이언트가 연결을 끊은 경우
+        log.debug("Recommendation stream closed by client: {}", e.getMessage());
+        closed.set(true);
+      }
     }
   }
 
@@ -119,7 +420,7 @@ public class RecommendationController {
    * List<CompletableFuture<ProductResponse>> futures = new ArrayList<>();
    * for (String recommendation : recommendations) {
    * futures.add(CompletableFuture.supplyAsync(
-   * () -> getNaverProductResponseWithFallback(recommendation),
+   * () -> naverProductService.getNaverProductResponseWithFallback(recommendation),
    * executorService).exceptionally(ex -> {
    * log.error("Error occurred for query: {}, Exception: {}", recommendation,
    * ex.getMessage());
@@ -142,40 +443,21 @@ public class RecommendationController {
   private ProductResponse getNaverProductResponse(String query) {
     log.debug("Searching for product on Naver with query: {}", query);
     try {
-      URI naverUri = UriComponentsBuilder.fromUriString(naverApiUrl)
-          .queryParam("query", query)
-          .build().encode().toUri();
-
-      HttpHeaders headers = new HttpHeaders();
-      headers.set("X-Naver-Client-Id", clientId);
-      headers.set("X-Naver-Client-Secret", clientSecret);
-
-      HttpEntity<String> entity = new HttpEntity<>(headers);
-      ResponseEntity<String> response = new RestTemplate().exchange(naverUri, HttpMethod.GET, entity, String.class);
-
-      if (response.getBody() == null) {
-        log.warn("No response body received for query: {}", query);
-        return null;
-      }
-
-      JsonNode root = new ObjectMapper().readTree(response.getBody());
-      JsonNode items = root.path("items");
+      List<NaverShoppingItem> items = naverShoppingClient.search(query, 1);
 
-      if (items.isArray() && items.size() > 0) {
-        JsonNode item = items.get(0);
-        JsonNode firstItem = items.get(0);
-        log.debug("First item fields: {}", firstItem.toString());
-        String category = item.path("category1").asText(); // 카테고리 추가
+      if (!items.isEmpty()) {
+        NaverShoppingItem item = items.get(0);
+        String category = item.getCategory1(); // 카테고리 추가
         log.info("Found product: {} with price: {}, category: {}",
-            item.path("title").asText(),
-            item.path("lprice").asInt(0),
+            item.getTitle(),
+            item.getLprice(),
             category); // 로그에 카테고리 추가
 
         return new ProductResponse(
-            item.path("title").asText(),
-            item.path("link").asText(),
-            item.path("image").asText(),
-            item.path("lprice").asInt(0),
+            item.getTitle(),
+            item.getLink(),
+            item.getImage(),
+            item.getLprice(),
             category, // 카테고리 필드 추가
             false);
       } else {
@@ -188,71 +470,6 @@ public class RecommendationController {
     return null;
   }
 
-  private ProductResponse getNaverProductResponseWithFallback(String query) {
-    log.debug("Searching for product on Naver with query: {}", query);
-    try {
-      // 네이버 API 호출 전 짧은 지연 추가 (속도 제한 방지)
-      Thread.sleep(200); // 300ms 지연
-      // 쿼리 최적화 (특수문자 제거, 키워드 정리 등)
-      String optimizedQuery = optimizeSearchQuery(query);
-
-      URI naverUri = UriComponentsBuilder.fromUriString(naverApiUrl)
-          .queryParam("query", optimizedQuery)
-          .queryParam("display", 5) // 여러 결과를 가져와서 최적의 결과 선택
-          .build().encode().toUri();
-
-      HttpHeaders headers = new HttpHeaders();
-      headers.set("X-Naver-Client-Id", clientId);
-      headers.set("X-Naver-Client-Secret", clientSecret);
-
-      HttpEntity<String> entity = new HttpEntity<>(headers);
-      ResponseEntity<String> response = new RestTemplate().exchange(naverUri, HttpMethod.GET, entity, String.class);
-
-      if (response.getBody() == null) {
-        log.warn("No response body received for query: {}", optimizedQuery);
-        return null;
-      }
-
-      JsonNode root = new ObjectMapper().readTree(response.getBody());
-      JsonNode items = root.path("items");
-
-      if (items.isArray() && items.size() > 0) {
-        // 최적의 결과 선택
-        JsonNode bestItem = findBestMatch(items, query);
-
-        if (bestItem != null) {
-          String category = bestItem.path("category1").asText();
-          log.info("Found product: {} with price: {}, category: {}",
-              bestItem.path("title").asText(),
-              bestItem.path("lprice").asInt(0),
-              category);
-
-          return new ProductResponse(
-              bestItem.path("title").asText(),
-              bestItem.path("link").asText(),
-              bestItem.path("image").asText(),
-              bestItem.path("lprice").asInt(0),
-              category, // 카테고리 정보도 함께 저장 (ProductResponse 클래스에 필드 추가 필요)
-              false); // 실제 상품이므로 isDummy = false
-        }
-      } else {
-        log.warn("No items found for query: {}", optimizedQuery);
-
-        // 대체 쿼리 시도 (키워드 단순화)
-        if (optimizedQuery.contains(" ")) {
-          String simplifiedQuery = optimizedQuery.split(" ")[0]; // 첫번째 단어만 사용
-          log.info("Trying simplified query: {}", simplifiedQuery);
-          return getNaverProductResponseWithFallback(simplifiedQuery);
-        }
-
-      }
-    } catch (Exception e) {
-      log.error("Error occurred while processing query: {}, Exception: {}", query, e.getMessage());
-    }
-
-    return null;
-  }
-
   // 더미 상품으로 채우는 헬퍼 메소드
   private List<ProductResponse> fillWithDummies(List<ProductResponse> products, int targetSize) {
     List<ProductResponse> result = new ArrayList<>(products);
@@ -272,85 +489,4 @@ public class RecommendationController {
         "미분류", // 카테고리 (기본값)
         true); // 더미 표시 플래그
   }
-
-  // 쿼리 최적화 메소드
-  private String optimizeSearchQuery(String query) {
-    // 괄호와 특수문자 제거
-    return query.replaceAll("[\\(\\)\\[\\]\\{\\}]", "").trim();
-  }
-
-  // 가장 적합한 결과 찾기
-  private JsonNode findBestMatch(JsonNode items, String originalQuery) {
-    JsonNode bestItem = null;
-    int highestScore = -1;
-
-    // 허용할 카테고리 목록 (필요에 따라 조정)
-    List<String> allowedCategories = Arrays.asList(
-        "식품"
-    // 원하는 카테고리 추가
-    );
-
-    // 제외할 카테고리
-    List<String> blockedCategories = Arrays.asList(
-        "서비스", "여행/항공권", "E쿠폰", "컨텐츠", "가구/인테리어", "스포츠/레저", "생활/건강", "화장품/미용", "패션의류", "출산/육아"
-    // 원치 않는 카테고리 추가
-    );
-
-    for (JsonNode item : items) {
-      String title = item.path("title").asText();
-      String category = item.path("category1").asText(); // 네이버 API의 카테고리 필드
-      // HTML 태그 제거
-      String cleanTitle = title.replaceAll("<[^>]*>", "");
-
-      // 카테고리 필터링
-      if (blockedCategories.stream().anyMatch(category::contains)) {
-        log.debug("Skipping item in blocked category: {}, title: {}", category, cleanTitle);
-        continue; // 제외 카테고리는 건너뛰기
-      }
-      // 허용된 카테고리 필터링 (옵션)
-      // 만약 허용 카테고리만 사용하려면 아래 코드 활성화
-
-      if (!allowedCategories.stream().anyMatch(category::contains)) {
-        log.debug("Skipping item not in allowed category: {}, title: {}", category,
-            cleanTitle);
-        continue;
-      }
-
-      // 간단한 관련성 점수 계산
-      int score = calculateRelevanceScore(originalQuery, cleanTitle);
-      // 원하는 카테고리에 가중치 부여
-      if (allowedCategories.stream().anyMatch(category::contains)) {
-        score += 50; // 원하는 카테고리에 점수 추가
-      }
-
-      if (score > highestScore) {
-        highestScore = score;
-        bestItem = item;
-      }
-    }
-
-    return bestItem;
-  }
-
-  // 관련성 점수 계산
-  private int calculateRelevanceScore(String query, String title) {
-    int score = 0;
-    String lowerQuery = query.toLowerCase();
-    String lowerTitle = title.toLowerCase();
-
-    // 전체 쿼리가 제목에 포함되면 높은 점수
-    if (lowerTitle.contains(lowerQuery)) {
-      score += 100;
-    }
-
-    // 개별 단어 일치 점수
-    String[] queryWords = lowerQuery.split("\\s+");
-    for (String word : queryWords) {
-      if (word.length() > 1 && lowerTitle.contains(word)) {
-        score += 10;
-      }
-    }
-
-    return score;
-  }
-}
\ No newline at end of file
+}
@@ -0,0 +1,21 @@
+package com.suppleit.backend.dto;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import lombok.Getter;
+import lombok.Setter;
+
+// 건강기능식품 공공데이터 API 응답 (header/body 중 사용하는 값만 보관)
+@Getter
+@Setter
+public class HealthFoodSearchResult {
+    private String resultCode = "";
+    private String resultMsg = "";
+    private int totalCount;
+    private List<HealthFunctionalFoodDto> items = new ArrayList<>();
+
+    public boolean isSuccess() {
+        return "00".equals(resultCode);
+    }
+}
@@ -0,0 +1,16 @@
+package com.suppleit.backend.dto;
+
+import lombok.Getter;
+import lombok.Setter;
+
+// 네이버 쇼핑 검색 응답의 items 원소 중 추천에 사용하는 필드만 보관
+@Getter
+@Setter
+public class NaverShoppingItem {
+  private String title = "";
+  private String link = "";
+  private String image = "";
+  private int lprice;
+  private String category1 = "";
+  private String productId = "";
+}
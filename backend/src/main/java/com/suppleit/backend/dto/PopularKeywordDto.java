@@ -0,0 +1,11 @@
+package com.suppleit.backend.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class PopularKeywordDto {
+    private String keyword;   // 정규화된 키워드
+    private long count;       // 추정 요청 수 (감쇠 적용)
+}
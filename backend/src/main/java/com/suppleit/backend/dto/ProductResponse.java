@@ -7,6 +7,8 @@ public class ProductResponse {
   private int price;
   private String category;
   private boolean isDummy;
+  // 네이버 쇼핑 상품 ID (하위 검색 간 중복 제거용, 더미는 빈 값)
+  private String productId;
 
   // 모든 필드를 포함하는 새 생성자
   public ProductResponse(String title, String link, String image, int price, String category, boolean isDummy) {
@@ -76,4 +78,12 @@ public class ProductResponse {
   public void setDummy(boolean dummy) {
     isDummy = dummy;
   }
+
+  public String getProductId() {
+    return productId;
+  }
+
+  public void setProductId(String productId) {
+    this.productId = productId;
+  }
 }
\ No newline at end of file
@@ -0,0 +1,12 @@
+package com.suppleit.backend.dto;
+
+import java.util.List;
+
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+public class RecommendationBatchRequest {
+  private List<String> keywords; // 추천을 받을 키워드 목록
+}
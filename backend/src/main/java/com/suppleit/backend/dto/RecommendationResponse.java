@@ -1,5 +1,7 @@
 package com.suppleit.backend.dto;
 
+import com.fasterxml.jackson.annotation.JsonProperty;
+
 import lombok.Getter;
 import lombok.Setter;
 
@@ -11,4 +13,7 @@ public class RecommendationResponse {
   private String keyword; // 검색한 키워드
   private int count; // 추천 개수
   private List<String> recommendations; // 추천된 제품 리스트
+  private boolean fallback; // 유사 제품이 없어 랜덤 추천된 결과인지 여부
+  @JsonProperty("model_version")
+  private String modelVersion; // 추천 모델(CSV/TF-IDF) 버전
 }
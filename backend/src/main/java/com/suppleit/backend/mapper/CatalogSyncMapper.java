@@ -0,0 +1,14 @@
+package com.suppleit.backend.mapper;
+
+import com.suppleit.backend.model.CatalogSyncCheckpoint;
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+
+@Mapper
+public interface CatalogSyncMapper {
+    // 작업별 체크포인트 조회 (없으면 null)
+    CatalogSyncCheckpoint getCheckpoint(@Param("jobName") String jobName);
+
+    // 체크포인트 저장 (없으면 추가)
+    void saveCheckpoint(CatalogSyncCheckpoint checkpoint);
+}
@@ -3,6 +3,7 @@ package com.suppleit.backend.mapper;
 import com.suppleit.backend.model.Product;
 import org.apache.ibatis.annotations.Mapper;
 import org.apache.ibatis.annotations.Param;
+import org.apache.ibatis.session.ResultHandler;
 
 import java.util.List;
 
@@ -14,12 +15,21 @@ public interface ProductMapper {
     // 제품명으로 검색
     List<Product> searchProducts(@Param("keyword") String keyword);
     
-    // 제품 추가 - 기능 구현 예정
+    // 전문 검색 (FULLTEXT ngram, 관련도순) - query는 BOOLEAN MODE 검색식
+    List<Product> searchProductsFulltext(@Param("keyword") String keyword, @Param("query") String query);
+    
+    // 제품 추가 (이미 있으면 제품명/업체명만 갱신)
     void insertProduct(Product product);
     
+    // 제품 추가 또는 전체 갱신 (INSERT ... ON DUPLICATE KEY UPDATE)
+    void upsertProduct(Product product);
+    
     // 제품 정보 업데이트
     void updateProduct(Product product);
     
     // 제품 개수 조회 (추가)
     long getProductCount();
+    
+    // 전체 제품을 한 건씩 전달 (검색 색인 생성용)
+    void scanProducts(ResultHandler<Product> handler);
 }
\ No newline at end of file
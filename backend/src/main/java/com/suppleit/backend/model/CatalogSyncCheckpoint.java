@@ -0,0 +1,33 @@
+package com.suppleit.backend.model;
+
+import java.time.LocalDateTime;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+// 카탈로그 동기화 작업의 진행 상태 (중단 후 재개 위치)
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class CatalogSyncCheckpoint {
+    public static final String RUNNING = "RUNNING";
+    public static final String COMPLETED = "COMPLETED";
+    public static final String FAILED = "FAILED";
+
+    private String jobName;
+    private String status;
+    private int pageSize;
+    private int totalCount;
+    private int nextPage;     // 이 페이지 앞까지는 모두 저장됨
+    private int syncedCount;
+    private String watermark; // 저장한 항목의 최신 등록일자 (yyyyMMdd)
+    private String lastError;
+    private LocalDateTime startedAt;
+    private LocalDateTime updatedAt;
+    private LocalDateTime completedAt;
+}
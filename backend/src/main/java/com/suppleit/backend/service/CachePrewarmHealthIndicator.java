@@ -0,0 +1,49 @@
+package com.suppleit.backend.service;
+
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.stereotype.Component;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 캐시 사전 워밍 진행 상태 (헬스 그룹 readiness에 포함).
+ * prewarm.readiness.enabled=true이면 첫 워밍이 목표 비율에 도달하거나 끝날 때까지 OUT_OF_SERVICE로
+ * 응답해 로드밸런서가 트래픽을 보내지 않게 한다. 제한 시간이 지나면 진행률과 관계없이 UP.
+ */
+@Component
+@RequiredArgsConstructor
+public class CachePrewarmHealthIndicator implements HealthIndicator {
+
+    private final CachePrewarmService cachePrewarmService;
+    private final long createdAt = System.nanoTime();
+
+    @Value("${prewarm.readiness.enabled:false}")
+    private boolean readinessEnabled;
+
+    @Value("${prewarm.readiness.target-fraction:0.8}")
+    private double targetFraction;
+
+    @Value("${prewarm.readiness.timeout-seconds:300}")
+    private long timeoutSeconds;
+
+    @Override
+    public Health health() {
+        double progress = cachePrewarmService.getFirstPassProgress();
+        boolean ready = !readinessEnabled
+                || !cachePrewarmService.isEnabled()
+                || cachePrewarmService.isFirstPassDone()
+                || progress >= targetFraction
+                || System.nanoTime() - createdAt > TimeUnit.SECONDS.toNanos(timeoutSeconds);
+
+        Health.Builder builder = ready ? Health.up() : Health.outOfService();
+        return builder
+                .withDetail("progress", progress)
+                .withDetail("targetFraction", targetFraction)
+                .withDetail("firstPassDone", cachePrewarmService.isFirstPassDone())
+                .build();
+    }
+}
@@ -0,0 +1,206 @@
+package com.suppleit.backend.service;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import com.suppleit.backend.dto.PopularKeywordDto;
+import com.suppleit.backend.support.TokenBucketRateLimiter;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 인기 키워드의 추천/네이버 상품 캐시를 미리 채우는 백그라운드 작업.
+ * 기동 직후와 이후 주기적으로 실행되며, 시드 키워드와 실시간 인기 키워드(PopularKeywordTracker)
+ * 상위 N개에 대해 사용자 요청과 같은 Flask 추천, 네이버 하위 검색을 수행한다.
+ * 네이버 호출은 공유 레이트 리미터와 별도로 prewarm.naver-permits-per-second로 한 번 더 제한해
+ * 사용자 요청에 쓸 쿼터를 남겨 둔다. 이미 캐시에 있는 검색어는 호출하지 않는다.
+ *
+ * 설정 예 (없으면 기본값)
+ * <pre>
+ * prewarm.enabled=true
+ * prewarm.seed-keywords=비타민 D,오메가3,유산균
+ * prewarm.top-n=50
+ * prewarm.naver-permits-per-second=2
+ * prewarm.interval-ms=1800000
+ * </pre>
+ */
+@Service
+@Slf4j
+public class CachePrewarmService {
+
+    private final RecommendationService recommendationService;
+    private final NaverProductService naverProductService;
+    private final PopularKeywordTracker popularKeywordTracker;
+    private final TokenBucketRateLimiter naverPermits;
+    private final Counter loadedCounter;
+    private final Counter cachedCounter;
+
+    private final boolean enabled;
+    private final List<String> seedKeywords;
+    private final int topN;
+    private final long flaskTimeoutMs;
+
+    private final AtomicBoolean running = new AtomicBoolean();
+    private volatile boolean stopping;
+
+    // 기동 후 첫 워밍의 진행률 (readiness 판단용)
+    private volatile int firstPassPlanned = -1;
+    private final AtomicInteger firstPassWarmed = new AtomicInteger();
+    private volatile boolean firstPassDone;
+
+    public CachePrewarmService(
+            RecommendationService recommendationService,
+            NaverProductService naverProductService,
+            PopularKeywordTracker popularKeywordTracker,
+            MeterRegistry meterRegistry,
+            @Value("${prewarm.enabled:true}") boolean enabled,
+            @Value("${prewarm.seed-keywords:비타민 D,오메가3,유산균,마그네슘,루테인,밀크씨슬,비타민 C,콜라겐}")
+            List<String> seedKeywords,
+            @Value("${prewarm.top-n:50}") int topN,
+            @Value("${prewarm.naver-permits-per-second:2}") double naverPermitsPerSecond,
+            @Value("${prewarm.flask-timeout-ms:5000}") long flaskTimeoutMs) {
+        this.recommendationService = recommendationService;
+        this.naverProductService = naverProductService;
+        this.popularKeywordTracker = popularKeywordTracker;
+        this.enabled = enabled;
+        this.seedKeywords = seedKeywords;
+        this.topN = topN;
+        this.flaskTimeoutMs = flaskTimeoutMs;
+
+        // 워밍 스레드는 기다려도 되므로 대기 한도를 넉넉하게 둠
+        this.naverPermits = new TokenBucketRateLimiter("prewarm:naver", naverPermitsPerSecond, 1,
+                TimeUnit.MINUTES.toMillis(1),
+                Timer.builder("prewarm.wait")
+                        .description("사전 워밍 네이버 호출 허용까지 대기한 시간")
+                        .register(meterRegistry),
+                Counter.builder("prewarm.rejected")
+                        .description("대기 한도 초과로 건너뛴 사전 워밍 네이버 호출 수")
+                        .register(meterRegistry));
+        this.loadedCounter = Counter.builder("prewarm.queries")
+                .description("사전 워밍으로 새로 채운 검색어 수")
+                .tag("result", "loaded")
+                .register(meterRegistry);
+        this.cachedCounter = Counter.builder("prewarm.queries")
+                .description("이미 캐시에 있어 건너뛴 검색어 수")
+                .tag("result", "cached")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(initialDelayString = "${prewarm.initial-delay-ms:5000}", fixedDelayString = "${prewarm.interval-ms:1800000}")
+    public void prewarm() {
+        if (!enabled || !running.compareAndSet(false, true)) {
+            return;
+        }
+        long startedAt = System.nanoTime();
+        try {
+            List<String> keywords = selectKeywords();
+            boolean firstPass = !firstPassDone;
+            if (firstPass) {
+                firstPassPlanned = keywords.size();
+            }
+            log.info("캐시 사전 워밍 시작: {}개 키워드", keywords.size());
+
+            for (String keyword : keywords) {
+                if (stopping) {
+                    break;
+                }
+                warm(keyword);
+                if (firstPass) {
+                    firstPassWarmed.incrementAndGet();
+                }
+            }
+            log.info("캐시 사전 워밍 완료: {}개 키워드, {} ms", keywords.size(),
+                    TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt));
+        } catch (Exception e) {
+            log.error("캐시 사전 워밍 중 오류: {}", e.getMessage(), e);
+        } finally {
+            firstPassDone = true;
+            running.set(false);
+        }
+    }
+
+    // 시드 키워드 우선, 이어서 실시간 인기 키워드 (정규화 기준 중복 제거, 최대 top-n개)
+    private List<String> selectKeywords() {
+        Map<String, String> keywords = new LinkedHashMap<>();
+        for (String seed : seedKeywords) {
+            if (seed != null && !seed.isBlank()) {
+                keywords.putIfAbsent(recommendationService.normalizeKeyword(seed), seed.trim());
+            }
+        }
+        for (PopularKeywordDto popular : popularKeywordTracker.top(PopularKeywordTracker.RECOMMEND, topN)) {
+            keywords.putIfAbsent(recommendationService.normalizeKeyword(popular.getKeyword()), popular.getKeyword());
+        }
+        List<String> result = new ArrayList<>(keywords.values());
+        return result.size() > topN ? result.subList(0, topN) : result;
+    }
+
+    // 사용자 요청과 같은 순서로 Flask 추천 → 원본/하위 검색어 네이버 조회
+    private void warm(String keyword) {
+        List<String> recommendations;
+        try {
+            recommendations = recommendationService.getRecommendationsAsync(keyword)
+                    .get(flaskTimeoutMs, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            stopping = true;
+            return;
+        } catch (Exception e) {
+            log.warn("사전 워밍 추천 조회 실패: keyword={}, {}", keyword, e.getMessage());
+            recommendations = List.of();
+        }
+
+        List<String> queries = new ArrayList<>();
+        queries.add(keyword);
+        queries.addAll(RecommendationAssembler.subQueries(keyword, recommendations,
+                RecommendationAssembler.RESPONSE_SIZE));
+        for (String query : queries) {
+            if (stopping) {
+                return;
+            }
+            if (naverProductService.isCached(query)) {
+                cachedCounter.increment();
+                continue;
+            }
+            if (!naverPermits.acquire()) {
+                continue;
+            }
+            naverProductService.getCandidates(query);
+            loadedCounter.increment();
+        }
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public boolean isFirstPassDone() {
+        return firstPassDone;
+    }
+
+    // 첫 워밍 진행률 (0.0 ~ 1.0, 대상 키워드가 없으면 1.0)
+    public double getFirstPassProgress() {
+        int planned = firstPassPlanned;
+        if (planned < 0) {
+            return 0.0;
+        }
+        return planned == 0 ? 1.0 : Math.min(1.0, (double) firstPassWarmed.get() / planned);
+    }
+
+    @PreDestroy
+    public void stop() {
+        stopping = true;
+    }
+}
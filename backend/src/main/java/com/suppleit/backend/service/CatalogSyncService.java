@@ -0,0 +1,533 @@
+package com.suppleit.backend.service;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import com.suppleit.backend.dto.HealthFoodSearchResult;
+import com.suppleit.backend.dto.HealthFunctionalFoodDto;
+import com.suppleit.backend.mapper.CatalogSyncMapper;
+import com.suppleit.backend.model.CatalogSyncCheckpoint;
+import com.suppleit.backend.model.Product;
+import com.suppleit.backend.support.ExecutorRegistry;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 건강기능식품 공공데이터 API 목록을 product 테이블로 동기화하는 백그라운드 작업.
+ *
+ * 전체 동기화: 첫 페이지로 전체 건수를 확인한 뒤 나머지 페이지를 최대 parallelism개씩 동시에 받아 페이지 단위로 일괄 upsert한다.
+ * 앞에서부터 연속으로 저장이 끝난 페이지까지를 catalog_sync_checkpoint에 기록해 두므로, 실패하거나 중단되면
+ * 다음 실행은 그 페이지부터 이어서 진행한다. 한 번이라도 전체 동기화가 끝나면 사용자 검색은 DB만 사용한다.
+ * 기동 시(완료된 적이 없거나 이전 실행이 중단됐으면)와 cron 주기로 실행되며, 관리자 API로도 시작할 수 있다.
+ *
+ * 증분 동기화: 저장한 항목의 최신 등록일자(REGIST_DT)를 기준일(watermark)로 두고, 목록의 최신 쪽 끝부터 페이지를 읽어
+ * 기준일 overlap-days일 전부터 등록된 항목을 upsert한다 (늦게 목록에 올라온 같은 시기 등록분도 다시 확인).
+ * 페이지 안의 등록일자가 읽는 방향으로 정렬돼 있고 그보다 오래된 항목이 나온 페이지에서 멈추므로 보통 몇 페이지면 끝난다.
+ * 정렬되지 않은 페이지는 멈출 근거로 쓰지 않으며, max-pages 안에 멈추지 못하거나 중간에 멈추면 기준일을 올리지 않는다.
+ * API는 등록일자로 조회 조건을 받지 않으므로 목록 양 끝의 등록일자를 비교해 어느 쪽이 최신인지 정한다.
+ * REGIST_DT는 신규 등록만 알려 주므로 기존 제품의 내용 수정은 증분 동기화로 알 수 없고, 주기적인 전체 동기화가 반영한다.
+ * 저장된 제품은 ProductChangedEvent로 검색 색인과 캐시에 반영된다.
+ * API 호출은 사용자 검색과 별도의 서킷 브레이커/벌크헤드(resilience.healthFoodSync.*)를 사용한다.
+ *
+ * 설정 예 (없으면 기본값)
+ * <pre>
+ * catalog.sync.enabled=true
+ * catalog.sync.on-startup=true
+ * catalog.sync.cron=0 0 4 * * SUN
+ * catalog.sync.page-size=100
+ * catalog.sync.parallelism=4
+ * catalog.sync.max-attempts=3
+ * catalog.sync.retry-backoff-ms=1000
+ * catalog.sync.delta.cron=0 30 * * * *
+ * catalog.sync.delta.max-pages=20
+ * catalog.sync.delta.overlap-days=3
+ * </pre>
+ */
+@Service
+@Slf4j
+public class CatalogSyncService {
+
+    public static final String FULL_SYNC = "full";
+    public static final String DELTA_SYNC = "delta";
+
+    private final HealthFunctionalFoodService healthFunctionalFoodService;
+    private final ProductBatchWriter productBatchWriter;
+    private final CatalogSyncMapper catalogSyncMapper;
+    private final ExecutorService jobExecutor;
+    private final ExecutorService pageExecutor;
+    private final Counter productCounter;
+    private final Counter pageFailureCounter;
+
+    private final boolean enabled;
+    private final boolean onStartup;
+    private final int pageSize;
+    private final int parallelism;
+    private final int maxAttempts;
+    private final long retryBackoffMillis;
+    private final int deltaMaxPages;
+    private final int deltaOverlapDays;
+
+    // 전체/증분 동기화 중 하나만 실행
+    private final AtomicBoolean running = new AtomicBoolean();
+    private volatile boolean stopping;
+    // 전체 동기화가 한 번이라도 끝났는지 (이후 검색은 DB만 사용)
+    private volatile boolean catalogLoaded;
+
+    public CatalogSyncService(
+            HealthFunctionalFoodService healthFunctionalFoodService,
+            ProductBatchWriter productBatchWriter,
+            CatalogSyncMapper catalogSyncMapper,
+            ExecutorRegistry executorRegistry,
+            MeterRegistry meterRegistry,
+            @Value("${catalog.sync.enabled:true}") boolean enabled,
+            @Value("${catalog.sync.on-startup:true}") boolean onStartup,
+            @Value("${catalog.sync.page-size:100}") int pageSize,
+            @Value("${catalog.sync.parallelism:4}") int parallelism,
+            @Value("${catalog.sync.max-attempts:3}") int maxAttempts,
+            @Value("${catalog.sync.retry-backoff-ms:1000}") long retryBackoffMillis,
+            @Value("${catalog.sync.delta.max-pages:20}") int deltaMaxPages,
+            @Value("${catalog.sync.delta.overlap-days:3}") int deltaOverlapDays) {
+        this.healthFunctionalFoodService = healthFunctionalFoodService;
+        this.productBatchWriter = productBatchWriter;
+        this.catalogSyncMapper = catalogSyncMapper;
+        this.enabled = enabled;
+        this.onStartup = onStartup;
+        this.pageSize = Math.max(1, pageSize);
+        this.parallelism = Math.max(1, parallelism);
+        this.maxAttempts = Math.max(1, maxAttempts);
+        this.retryBackoffMillis = Math.max(0, retryBackoffMillis);
+        this.deltaMaxPages = Math.max(1, deltaMaxPages);
+        this.deltaOverlapDays = Math.max(0, deltaOverlapDays);
+
+        // 작업 진행(1개)과 페이지 처리(parallelism개)를 분리 - 진행 스레드가 페이지 슬롯을 차지하지 않도록
+        this.jobExecutor = executorRegistry.get(ExecutorRegistry.CATALOG_SYNC_JOB, 1, 0);
+        // 작업이 끝난 스레드가 풀에 돌아오기 전 다음 페이지가 제출될 수 있어 대기열을 같은 크기로 둠
+        this.pageExecutor = executorRegistry.get(ExecutorRegistry.CATALOG_SYNC_PAGE, this.parallelism, this.parallelism);
+
+        this.productCounter = Counter.builder("catalog.sync.products")
+                .description("카탈로그 동기화로 저장(upsert)한 제품 수")
+                .register(meterRegistry);
+        this.pageFailureCounter = Counter.builder("catalog.sync.page.failures")
+                .description("재시도 후에도 실패한 페이지 수")
+                .register(meterRegistry);
+    }
+
+    // 기동 시 완료된 적이 없거나 이전 실행이 중단됐으면 이어서 실행
+    @EventListener(ApplicationReadyEvent.class)
+    public void resumeOnStartup() {
+        if (!enabled) {
+            return;
+        }
+        CatalogSyncCheckpoint checkpoint;
+        try {
+            checkpoint = catalogSyncMapper.getCheckpoint(FULL_SYNC);
+        } catch (Exception e) {
+            log.warn("카탈로그 동기화 체크포인트 조회 실패 (db/catalog_sync_checkpoint.sql 확인): {}", e.getMessage());
+            return;
+        }
+        catalogLoaded = checkpoint != null && checkpoint.getCompletedAt() != null;
+        if (onStartup && (checkpoint == null || !CatalogSyncCheckpoint.COMPLETED.equals(checkpoint.getStatus()))) {
+            startFullSync();
+        }
+    }
+
+    @Scheduled(cron = "${catalog.sync.cron:0 0 4 * * SUN}")
+    public void scheduledFullSync() {
+        if (enabled) {
+            startFullSync();
+        }
+    }
+
+    @Scheduled(cron = "${catalog.sync.delta.cron:0 30 * * * *}")
+    public void scheduledDeltaSync() {
+        if (enabled) {
+            startDeltaSync();
+        }
+    }
+
+    /**
+     * 백그라운드에서 전체 동기화를 시작한다. 이미 동기화가 실행 중이면 false.
+     */
+    public boolean startFullSync() {
+        return start(this::runFullSync);
+    }
+
+    /**
+     * 백그라운드에서 증분 동기화를 시작한다. 이미 동기화가 실행 중이면 false.
+     */
+    public boolean startDeltaSync() {
+        return start(this::runDeltaSync);
+    }
+
+    private boolean start(Runnable job) {
+        if (running.get()) {
+            return false;
+        }
+        try {
+            jobExecutor.execute(job);
+            return true;
+        } catch (RejectedExecutionException e) {
+            return false;
+        }
+    }
+
+    public boolean isRunning() {
+        return running.get();
+    }
+
+    public boolean isCatalogLoaded() {
+        return catalogLoaded;
+    }
+
+    public CatalogSyncCheckpoint getCheckpoint(String jobName) {
+        return catalogSyncMapper.getCheckpoint(jobName);
+    }
+
+    /**
+     * 전체 동기화 (호출 스레드에서 끝날 때까지 실행). 이전 실행이 중단됐으면 저장된 페이지 다음부터 이어서 진행한다.
+     */
+    public void runFullSync() {
+        if (!running.compareAndSet(false, true)) {
+            return;
+        }
+        long startedAt = System.nanoTime();
+        CatalogSyncCheckpoint checkpoint = null;
+        try {
+            checkpoint = catalogSyncMapper.getCheckpoint(FULL_SYNC);
+            boolean resume = checkpoint != null
+                    && !CatalogSyncCheckpoint.COMPLETED.equals(checkpoint.getStatus())
+                    && checkpoint.getPageSize() == pageSize
+                    && checkpoint.getNextPage() > 1;
+            if (!resume) {
+                LocalDateTime completedAt = checkpoint != null ? checkpoint.getCompletedAt() : null;
+                checkpoint = CatalogSyncCheckpoint.builder()
+                        .jobName(FULL_SYNC)
+                        .pageSize(pageSize)
+                        .nextPage(1)
+                        .startedAt(LocalDateTime.now())
+                        .completedAt(completedAt)
+                        .build();
+            }
+            int startPage = checkpoint.getNextPage();
+            log.info("카탈로그 전체 동기화 {}: page={}", resume ? "재개" : "시작", startPage);
+
+            // 첫 페이지로 전체 건수 확인
+            HealthFoodSearchResult first = fetchPage(startPage);
+            int totalPages = Math.max(startPage, (first.getTotalCount() + pageSize - 1) / pageSize);
+            checkpoint.setTotalCount(first.getTotalCount());
+            checkpoint.setStatus(CatalogSyncCheckpoint.RUNNING);
+            checkpoint.setLastError(null);
+            saveCheckpoint(checkpoint);
+
+            PageTracker tracker = new PageTracker(checkpoint, startPage);
+            tracker.done(startPage, store(first.getItems(), null, true));
+
+            Exception failure = syncPages(startPage + 1, totalPages, tracker);
+            if (failure == null && stopping) {
+                failure = new IllegalStateException("애플리케이션 종료로 중단");
+            }
+            if (failure != null) {
+                throw failure;
+            }
+            checkpoint.setStatus(CatalogSyncCheckpoint.COMPLETED);
+            checkpoint.setCompletedAt(LocalDateTime.now());
+            saveCheckpoint(checkpoint);
+            catalogLoaded = true;
+            log.info("카탈로그 전체 동기화 완료: {}페이지, {}건, 최신 등록일자 {}, {}초", totalPages - startPage + 1,
+                    checkpoint.getSyncedCount(), checkpoint.getWatermark(),
+                    TimeUnit.NANOSECONDS.toSeconds(System.nanoTime() - startedAt));
+        } catch (Exception e) {
+            log.error("카탈로그 전체 동기화 실패 (다음 실행에서 이어서 진행): {}", e.getMessage(), e);
+            saveFailure(checkpoint, e);
+        } finally {
+            running.set(false);
+        }
+    }
+
+    /**
+     * 증분 동기화 (호출 스레드에서 끝날 때까지 실행). 완료된 전체 동기화가 없으면 아무것도 하지 않는다.
+     * 실패하거나 max-pages 안에 기준일 이전 항목에 닿지 못하면 기준일을 그대로 두어 다음 실행에서 같은 범위를 다시 읽는다.
+     */
+    public void runDeltaSync() {
+        if (!running.compareAndSet(false, true)) {
+            return;
+        }
+        long startedAt = System.nanoTime();
+        CatalogSyncCheckpoint checkpoint = null;
+        try {
+            CatalogSyncCheckpoint previous = catalogSyncMapper.getCheckpoint(DELTA_SYNC);
+            String since = latest(previous != null ? previous.getWatermark() : null, fullSyncWatermark());
+            if (since == null) {
+                log.info("카탈로그 증분 동기화 건너뜀: 완료된 전체 동기화 없음");
+                return;
+            }
+            checkpoint = CatalogSyncCheckpoint.builder()
+                    .jobName(DELTA_SYNC)
+                    .status(CatalogSyncCheckpoint.RUNNING)
+                    .pageSize(pageSize)
+                    .nextPage(1)
+                    .watermark(since)
+                    .startedAt(LocalDateTime.now())
+                    .completedAt(previous != null ? previous.getCompletedAt() : null)
+                    .build();
+
+            HealthFoodSearchResult first = fetchPage(1);
+            int totalPages = Math.max(1, (first.getTotalCount() + pageSize - 1) / pageSize);
+            checkpoint.setTotalCount(first.getTotalCount());
+            // 목록 양 끝의 등록일자를 비교해 최신 쪽부터 읽음
+            HealthFoodSearchResult last = totalPages > 1 ? fetchPage(totalPages) : first;
+            boolean newestFirst = compareRegistDate(edgeRegistDate(first, true), edgeRegistDate(last, false)) >= 0;
+            String readFrom = minusDays(since, deltaOverlapDays);
+
+            int synced = 0;
+            int scanned = 0;
+            String watermark = since;
+            boolean reachedOlder = false;
+            for (int i = 0; i < totalPages && !stopping && !reachedOlder; i++) {
+                if (scanned >= deltaMaxPages) {
+                    throw new IllegalStateException(deltaMaxPages + "페이지 안에 " + readFrom
+                            + " 이전 항목에 닿지 못함 (기준일 유지, 전체 동기화 필요)");
+                }
+                int pageNo = newestFirst ? 1 + i : totalPages - i;
+                HealthFoodSearchResult page = pageNo == 1 ? first : pageNo == totalPages ? last : fetchPage(pageNo);
+                StoredPage stored = store(page.getItems(), readFrom, newestFirst);
+                synced += stored.count();
+                watermark = latest(watermark, stored.watermark());
+                reachedOlder = stored.reachedOlder();
+                scanned++;
+            }
+            if (stopping) {
+                throw new IllegalStateException("애플리케이션 종료로 중단");
+            }
+            checkpoint.setSyncedCount(synced);
+            checkpoint.setWatermark(watermark);
+            checkpoint.setStatus(CatalogSyncCheckpoint.COMPLETED);
+            checkpoint.setCompletedAt(LocalDateTime.now());
+            saveCheckpoint(checkpoint);
+            log.info("카탈로그 증분 동기화 완료: 기준일 {} -> {}, {}페이지 확인, {}건 저장, {}ms", since, watermark,
+                    scanned, synced, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt));
+        } catch (Exception e) {
+            log.error("카탈로그 증분 동기화 실패: {}", e.getMessage(), e);
+            saveFailure(checkpoint, e);
+        } finally {
+            running.set(false);
+        }
+    }
+
+    // 완료된 전체 동기화의 최신 등록일자
+    private String fullSyncWatermark() {
+        CatalogSyncCheckpoint full = catalogSyncMapper.getCheckpoint(FULL_SYNC);
+        return full != null && full.getCompletedAt() != null ? full.getWatermark() : null;
+    }
+
+    // fromPage~toPage를 최대 parallelism개씩 동시에 처리, 실패하면 새 페이지는 시작하지 않고 첫 실패를 반환
+    private Exception syncPages(int fromPage, int toPage, PageTracker tracker) {
+        Semaphore permits = new Semaphore(parallelism);
+        AtomicReference<Exception> failure = new AtomicReference<>();
+        try {
+            for (int page = fromPage; page <= toPage && failure.get() == null && !stopping; page++) {
+                permits.acquire();
+                // 대기하는 동안 앞 페이지가 실패했으면 새 페이지를 시작하지 않음
+                if (failure.get() != null || stopping) {
+                    permits.release();
+                    break;
+                }
+                int pageNo = page;
+                CompletableFuture.runAsync(() -> {
+                    try {
+                        tracker.done(pageNo, store(fetchPage(pageNo).getItems(), null, true));
+                    } catch (Exception e) {
+                        pageFailureCounter.increment();
+                        failure.compareAndSet(null, e);
+                    } finally {
+                        permits.release();
+                    }
+                }, pageExecutor);
+            }
+            // 진행 중인 페이지가 모두 끝날 때까지 대기
+            permits.acquire(parallelism);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            failure.compareAndSet(null, e);
+        } catch (RejectedExecutionException e) {
+            failure.compareAndSet(null, e);
+        }
+        return failure.get();
+    }
+
+    // 페이지 조회 (실패 시 max-attempts까지 재시도)
+    private HealthFoodSearchResult fetchPage(int pageNo) throws InterruptedException {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return healthFunctionalFoodService.fetchCatalogPage(pageNo, pageSize);
+            } catch (RuntimeException e) {
+                if (attempt >= maxAttempts || stopping) {
+                    throw new IllegalStateException("page " + pageNo + " 조회 실패: " + e.getMessage(), e);
+                }
+                log.debug("카탈로그 page {} 조회 실패, 재시도 {}/{}: {}", pageNo, attempt, maxAttempts, e.getMessage());
+                Thread.sleep(retryBackoffMillis * attempt);
+            }
+        }
+    }
+
+    // 페이지 항목 중 등록일자가 since 이후(같은 날 포함)인 것만 한 번에 upsert (since가 null이면 전부)
+    // since 이전 항목이 있어도 페이지가 읽는 방향(newestFirst면 최신 -> 과거 순)으로 정렬돼 있을 때만 reachedOlder
+    private StoredPage store(List<HealthFunctionalFoodDto> items, String since, boolean newestFirst) {
+        List<Product> products = new ArrayList<>(items.size());
+        String watermark = null;
+        boolean hasOlder = false;
+        boolean ordered = true;
+        String previousDate = null;
+        for (HealthFunctionalFoodDto item : items) {
+            String registDate = registDate(item);
+            if (registDate != null) {
+                if (previousDate != null && (newestFirst ? registDate.compareTo(previousDate) > 0
+                        : registDate.compareTo(previousDate) < 0)) {
+                    ordered = false;
+                }
+                previousDate = registDate;
+            }
+            if (since != null && (registDate == null || registDate.compareTo(since) < 0)) {
+                hasOlder |= registDate != null;
+                continue;
+            }
+            Product product = HealthFunctionalFoodService.toProduct(item);
+            if (product != null) {
+                products.add(product);
+                watermark = latest(watermark, registDate);
+            }
+        }
+        productBatchWriter.upsertAll(products);
+        productCounter.increment(products.size());
+        return new StoredPage(products.size(), watermark, hasOlder && ordered);
+    }
+
+    // REGIST_DT의 숫자만 모은 yyyyMMdd (형식이 다르면 null)
+    private static String registDate(HealthFunctionalFoodDto item) {
+        String value = item != null ? item.getRegistDt() : null;
+        if (value == null) {
+            return null;
+        }
+        String digits = value.replaceAll("\\D", "");
+        return digits.length() >= 8 ? digits.substring(0, 8) : null;
+    }
+
+    // 페이지 맨 앞(first=true) 또는 맨 뒤 항목의 등록일자
+    private static String edgeRegistDate(HealthFoodSearchResult page, boolean first) {
+        List<HealthFunctionalFoodDto> items = page.getItems();
+        return items.isEmpty() ? null : registDate(items.get(first ? 0 : items.size() - 1));
+    }
+
+    // yyyyMMdd 비교, null은 가장 오래된 것으로 취급
+    private static int compareRegistDate(String a, String b) {
+        if (a == null || b == null) {
+            return a == null ? (b == null ? 0 : -1) : 1;
+        }
+        return a.compareTo(b);
+    }
+
+    // yyyyMMdd에서 days일 전 (날짜로 읽을 수 없으면 그대로)
+    private static String minusDays(String date, int days) {
+        try {
+            return LocalDate.parse(date, DateTimeFormatter.BASIC_ISO_DATE).minusDays(days)
+                    .format(DateTimeFormatter.BASIC_ISO_DATE);
+        } catch (DateTimeParseException e) {
+            return date;
+        }
+    }
+
+    private static String latest(String a, String b) {
+        return compareRegistDate(a, b) >= 0 ? a : b;
+    }
+
+    private void saveCheckpoint(CatalogSyncCheckpoint checkpoint) {
+        checkpoint.setUpdatedAt(LocalDateTime.now());
+        catalogSyncMapper.saveCheckpoint(checkpoint);
+    }
+
+    private void saveFailure(CatalogSyncCheckpoint checkpoint, Exception e) {
+        if (checkpoint == null) {
+            return;
+        }
+        checkpoint.setStatus(CatalogSyncCheckpoint.FAILED);
+        String message = String.valueOf(e.getMessage());
+        checkpoint.setLastError(message.length() > 500 ? message.substring(0, 500) : message);
+        try {
+            saveCheckpoint(checkpoint);
+        } catch (Exception saveError) {
+            log.warn("카탈로그 동기화 체크포인트 저장 실패: {}", saveError.getMessage());
+        }
+    }
+
+    @PreDestroy
+    public void stop() {
+        stopping = true;
+    }
+
+    // 한 페이지 저장 결과 (저장 건수, 저장한 항목의 최신 등록일자, 기준일 이전 항목이 있었는지)
+    private record StoredPage(int count, String watermark, boolean reachedOlder) {
+    }
+
+    /**
+     * 끝난 페이지를 모아 앞에서부터 연속으로 끝난 페이지 다음(next_page)을 체크포인트에 기록한다.
+     * 저장까지 잠금 안에서 해 오래된 next_page가 새 값을 덮어쓰지 않도록 하며, synchronized와 달리
+     * ReentrantLock은 가상 스레드가 DB 저장을 기다리는 동안 캐리어 스레드를 붙잡지 않는다.
+     */
+    private final class PageTracker {
+
+        private final CatalogSyncCheckpoint checkpoint;
+        private final int startPage;
+        private final List<Boolean> done = new ArrayList<>();
+        private final ReentrantLock lock = new ReentrantLock();
+
+        PageTracker(CatalogSyncCheckpoint checkpoint, int startPage) {
+            this.checkpoint = checkpoint;
+            this.startPage = startPage;
+        }
+
+        void done(int pageNo, StoredPage stored) {
+            lock.lock();
+            try {
+                checkpoint.setSyncedCount(checkpoint.getSyncedCount() + stored.count());
+                checkpoint.setWatermark(latest(checkpoint.getWatermark(), stored.watermark()));
+                int index = pageNo - startPage;
+                while (done.size() <= index) {
+                    done.add(Boolean.FALSE);
+                }
+                done.set(index, Boolean.TRUE);
+
+                int nextPage = checkpoint.getNextPage();
+                while (nextPage - startPage < done.size() && done.get(nextPage - startPage)) {
+                    nextPage++;
+                }
+                if (nextPage != checkpoint.getNextPage()) {
+                    checkpoint.setNextPage(nextPage);
+                    saveCheckpoint(checkpoint);
+                }
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+}
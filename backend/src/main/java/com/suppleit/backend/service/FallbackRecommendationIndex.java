@@ -0,0 +1,178 @@
+package com.suppleit.backend.service;
+
+import java.io.BufferedReader;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
+import org.springframework.stereotype.Component;
+
+import com.suppleit.backend.support.SimpleCsvReader;
+import com.suppleit.backend.support.TfIdfIndex;
+
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Flask 추천 서버를 쓸 수 없을 때 사용하는 JVM 내 대체 추천 엔진.
+ * Flask와 같은 preprocessed_*.csv 코퍼스(빌드 시 recommend-corpus/로 JAR에 포함)를
+ * 카테고리별 TF-IDF 역색인으로 올려 두고, 같은 전처리/임계값으로 추천 제품명을 찾는다.
+ * 키워드에 카테고리명이 들어 있으면 해당 카테고리만, 아니면 전체 카테고리에서 유사도 순으로 고른다.
+ */
+@Component
+@Slf4j
+public class FallbackRecommendationIndex {
+
+  // Flask recommend()의 유사도 임계값, /recommend 기본 limit과 동일
+  private static final float THRESHOLD = 0.05f;
+  public static final int DEFAULT_LIMIT = 6;
+
+  @Value("${recommend.fallback.enabled:true}")
+  private boolean enabled;
+
+  @Value("${recommend.fallback.corpus-location:classpath*:recommend-corpus/**/preprocessed_*.csv}")
+  private String corpusLocation;
+
+  // 카테고리명 -> 색인 (로딩 후 읽기 전용)
+  private volatile Map<String, TfIdfIndex> indexes = Map.of();
+
+  @PostConstruct
+  public void load() {
+    if (!enabled) {
+      log.info("Fallback recommendation index disabled");
+      return;
+    }
+    long startedAt = System.nanoTime();
+    Map<String, TfIdfIndex> loaded = new LinkedHashMap<>();
+    try {
+      Resource[] resources = new PathMatchingResourcePatternResolver().getResources(corpusLocation);
+      for (Resource resource : resources) {
+        String fileName = resource.getFilename();
+        if (fileName == null) {
+          continue;
+        }
+        String category = fileName.replace("preprocessed_", "").replace(".csv", "");
+        TfIdfIndex index = loadCategory(resource);
+        if (index != null && index.size() > 0) {
+          loaded.put(category, index);
+        }
+      }
+    } catch (Exception e) {
+      log.warn("Failed to load fallback recommendation corpus: {}", e.getMessage());
+    }
+    indexes = loaded;
+    int documents = loaded.values().stream().mapToInt(TfIdfIndex::size).sum();
+    log.info("Fallback recommendation index loaded: {} categories, {} products, {} ms",
+        loaded.size(), documents, (System.nanoTime() - startedAt) / 1_000_000);
+  }
+
+  // 제품명, processed_text 열을 읽어 색인 생성 (Flask와 동일하게 둘 중 하나라도 비면 제외)
+  private TfIdfIndex loadCategory(Resource resource) throws Exception {
+    try (BufferedReader reader = new BufferedReader(
+        new InputStreamReader(resource.getInputStream(), StandardCharsets.UTF_8))) {
+      SimpleCsvReader csv = new SimpleCsvReader(reader);
+      List<String> header = csv.readRecord();
+      if (header == null) {
+        return null;
+      }
+      int nameColumn = -1;
+      int textColumn = -1;
+      for (int i = 0; i < header.size(); i++) {
+        String column = header.get(i).replace("\uFEFF", "").trim();
+        if (column.equals("제품명")) {
+          nameColumn = i;
+        } else if (column.equals("processed_text")) {
+          textColumn = i;
+        }
+      }
+      if (nameColumn < 0 || textColumn < 0) {
+        log.warn("Skipping fallback corpus without 제품명/processed_text columns: {}", resource.getFilename());
+        return null;
+      }
+
+      List<String> names = new ArrayList<>();
+      List<String> texts = new ArrayList<>();
+      List<String> record;
+      while ((record = csv.readRecord()) != null) {
+        if (record.size() <= Math.max(nameColumn, textColumn)) {
+          continue;
+        }
+        String name = record.get(nameColumn).trim();
+        String text = record.get(textColumn);
+        if (name.isEmpty() || text.isBlank()) {
+          continue;
+        }
+        names.add(name);
+        texts.add(text);
+      }
+      return new TfIdfIndex(names, texts);
+    }
+  }
+
+  public boolean isReady() {
+    return !indexes.isEmpty();
+  }
+
+  /**
+   * 키워드와 유사한 제품명 최대 limit개 (색인이 없거나 유사한 제품이 없으면 빈 목록)
+   */
+  public List<String> recommend(String keyword, int limit) {
+    Map<String, TfIdfIndex> current = indexes;
+    if (current.isEmpty() || keyword == null) {
+      return List.of();
+    }
+    String query = preprocessQuery(keyword);
+    if (query.isEmpty()) {
+      return List.of();
+    }
+
+    // Flask guess_category와 같이 키워드에 카테고리명이 들어 있으면 그 카테고리만 검색
+    for (Map.Entry<String, TfIdfIndex> entry : current.entrySet()) {
+      if (query.contains(entry.getKey().toLowerCase(Locale.ROOT))) {
+        return names(entry.getValue().search(query, limit, THRESHOLD));
+      }
+    }
+
+    List<TfIdfIndex.ScoredName> merged = new ArrayList<>();
+    for (TfIdfIndex index : current.values()) {
+      merged.addAll(index.search(query, limit, THRESHOLD));
+    }
+    merged.sort(Comparator.comparing(TfIdfIndex.ScoredName::getScore).reversed());
+    List<String> result = new ArrayList<>();
+    Set<String> seen = new HashSet<>();
+    for (TfIdfIndex.ScoredName hit : merged) {
+      if (result.size() >= limit) {
+        break;
+      }
+      if (seen.add(hit.getName())) {
+        result.add(hit.getName());
+      }
+    }
+    return result;
+  }
+
+  private static List<String> names(List<TfIdfIndex.ScoredName> hits) {
+    List<String> result = new ArrayList<>(hits.size());
+    for (TfIdfIndex.ScoredName hit : hits) {
+      result.add(hit.getName());
+    }
+    return result;
+  }
+
+  // Flask preprocess_query와 동일: 괄호 내용 제거, 한글/영문/숫자/공백만 남기고 공백 정리, 소문자
+  static String preprocessQuery(String keyword) {
+    String text = keyword.replaceAll("\\([^)]*\\)", "");
+    text = text.replaceAll("[^가-힣a-zA-Z0-9\\s]", "");
+    return text.replaceAll("\\s+", " ").trim().toLowerCase(Locale.ROOT);
+  }
+}
@@ -1,14 +1,14 @@
 package com.suppleit.backend.service;
 
-import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.suppleit.backend.client.HealthFoodResponseParser;
+import com.suppleit.backend.dto.HealthFoodSearchResult;
 import com.suppleit.backend.dto.HealthFunctionalFoodDto;
-import com.suppleit.backend.mapper.ProductMapper;
 import com.suppleit.backend.model.Product;
+import com.suppleit.backend.support.DependencyGuards;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.http.ResponseEntity;
+import org.springframework.http.HttpMethod;
 import org.springframework.stereotype.Service;
 import org.springframework.web.client.RestTemplate;
 import org.springframework.web.util.UriComponentsBuilder;
@@ -24,8 +24,9 @@ import java.util.List;
 public class HealthFunctionalFoodService {
 
     private final RestTemplate restTemplate;
-    private final ObjectMapper objectMapper;
-    private final ProductMapper productMapper; // 상품 정보를 DB에 저장하기 위한 매퍼 추가
+    private final HealthFoodResponseParser healthFoodResponseParser;
+    private final ProductWriteBehindQueue productWriteBehindQueue; // 상품 정보는 모아서 비동기로 일괄 저장
+    private final DependencyGuards dependencyGuards;
 
     @Value("${api.health-functional-food.url}")
     private String apiUrl;
@@ -56,45 +57,28 @@ public class HealthFunctionalFoodService {
             
             log.debug("요청 URL: {}", uri);
             
-            // API 호출
-            ResponseEntity<String> response = restTemplate.getForEntity(uri, String.class);
+            // API 호출 (공공데이터 API 장애 시 서킷 브레이커로 빠르게 실패)
+            HealthFoodSearchResult response = fetch(uri);
             
             // 응답 파싱
-            if (response.getStatusCode().is2xxSuccessful() && response.getBody() != null) {
-                JsonNode root = objectMapper.readTree(response.getBody());
-                
-                // 응답 구조 확인
-                JsonNode header = root.path("header");
-                String resultCode = header.path("resultCode").asText();
-                String resultMsg = header.path("resultMsg").asText();
-                
-                if (!"00".equals(resultCode)) {
-                    log.error("API 오류 응답: {}, {}", resultCode, resultMsg);
+            if (response != null) {
+                if (!response.isSuccess()) {
+                    log.error("API 오류 응답: {}, {}", response.getResultCode(), response.getResultMsg());
                     return new ArrayList<>();
                 }
                 
-                JsonNode body = root.path("body");
-                int totalCount = body.path("totalCount").asInt();
-                log.info("검색 결과 총 건수: {}", totalCount);
+                log.info("검색 결과 총 건수: {}", response.getTotalCount());
                 
                 List<HealthFunctionalFoodDto> results = new ArrayList<>();
-                JsonNode items = body.path("items");
-                
-                // API 응답 구조에 맞게 수정
-                if (items.isArray() && items.size() > 0) {
-                    for (JsonNode item : items) {
-                        HealthFunctionalFoodDto dto = parseHealthFoodItem(item);
-                        if (dto != null) {
-                            results.add(dto);
-                            saveToDatabase(dto); // DB에 저장
-                        }
-                    }
+                for (HealthFunctionalFoodDto dto : response.getItems()) {
+                    results.add(dto);
+                    saveToDatabase(dto); // DB 저장 대기열에 추가 (응답은 저장을 기다리지 않음)
                 }
                 
                 log.info("검색 완료: {}건 조회됨", results.size());
                 return results;
             } else {
-                log.error("API 응답 오류: {}", response.getStatusCode());
+                log.error("API 응답 본문 없음");
                 return new ArrayList<>();
             }
             
@@ -105,97 +89,100 @@ public class HealthFunctionalFoodService {
     }
     
     /**
-     * API 결과를 데이터베이스에 저장
+     * API 결과를 DB 저장 대기열에 넣음 (ProductWriteBehindQueue가 모아서 upsert)
      */
     private void saveToDatabase(HealthFunctionalFoodDto dto) {
         try {
-            // Product 객체로 변환
-            Product product = new Product();
-            
-            // 제품번호 생성 (등록번호가 있으면 이용, 없으면 제품명 해시코드 활용)
-            String registrationNo = dto.getSttemntNo();
-            Long productId;
-            
-            if (registrationNo != null && !registrationNo.isEmpty()) {
-                // 신고번호에서 숫자만 추출
-                String numericPart = registrationNo.replaceAll("[^0-9]", "");
-                if (!numericPart.isEmpty()) {
-                    try {
-                        productId = Long.parseLong(numericPart);
-                    } catch (NumberFormatException e) {
-                        productId = Math.abs((long) registrationNo.hashCode());
-                    }
-                } else {
-                    productId = Math.abs((long) registrationNo.hashCode());
-                }
-            } else {
-                productId = Math.abs((long) dto.getPrduct().hashCode());
-            }
-            
-            // 이미 DB에 있는지 확인
-            Product existingProduct = productMapper.getProductById(productId);
-            if (existingProduct != null) {
-                log.debug("이미 DB에 존재하는 제품: {}", dto.getPrduct());
-                return;
+            // 저장 대기열에 추가 (이미 있는 제품은 저장 시 최신 값으로 갱신)
+            Product product = toProduct(dto);
+            if (product != null) {
+                productWriteBehindQueue.enqueue(product);
             }
-            
-            // Product 객체 설정
-            product.setPrdId(productId);
-            product.setProductName(dto.getPrduct());
-            product.setCompanyName(dto.getEntrps());
-            product.setRegistrationNo(dto.getSttemntNo());
-            product.setExpirationPeriod(dto.getDistbPd());
-            product.setSrvUse(dto.getSrvUse());
-            product.setMainFunction(dto.getMainFnctn());
-            product.setPreservation(dto.getPrsrvPd());
-            product.setIntakeHint(dto.getIntakeHint());
-            product.setBaseStandard(dto.getBaseStandard());
-            
-            // DB 저장
-            productMapper.insertProduct(product);
-            log.info("공공데이터 API 결과를 DB에 저장: {}", dto.getPrduct());
         } catch (Exception e) {
-            log.error("DB 저장 중 오류: {}", e.getMessage(), e);
+            log.error("DB 저장 대기열 추가 중 오류: {}", e.getMessage(), e);
         }
     }
-    
+
     /**
-     * JSON 응답에서 건강기능식품 정보 파싱
+     * API 항목을 Product로 변환 (제품명이 없으면 null)
+     * 제품번호는 품목제조신고번호의 숫자 부분, 없으면 신고번호/제품명 해시코드
      */
-    private HealthFunctionalFoodDto parseHealthFoodItem(JsonNode itemNode) {
-        // item이 제대로 포맷되어 있는지 확인
-        JsonNode item = itemNode.has("item") ? itemNode.get("item") : itemNode;
+    public static Product toProduct(HealthFunctionalFoodDto dto) {
+        if (dto == null || dto.getPrduct() == null || dto.getPrduct().isEmpty()) {
+            return null;
+        }
+        Product product = new Product();
         
-        HealthFunctionalFoodDto dto = new HealthFunctionalFoodDto();
+        // 제품번호 생성 (등록번호가 있으면 이용, 없으면 제품명 해시코드 활용)
+        String registrationNo = dto.getSttemntNo();
+        Long productId;
         
-        try {
-            dto.setPrduct(getTextSafely(item, "PRDUCT")); // 제품명
-            dto.setEntrps(getTextSafely(item, "ENTRPS")); // 업체명
-            dto.setSttemntNo(getTextSafely(item, "STTEMNT_NO")); // 품목제조신고번호
-            dto.setRegistDt(getTextSafely(item, "REGIST_DT")); // 등록일자
-            dto.setDistbPd(getTextSafely(item, "DISTB_PD")); // 유통기한
-            dto.setSungsang(getTextSafely(item, "SUNGSANG")); // 성상
-            dto.setSrvUse(getTextSafely(item, "SRV_USE")); // 섭취방법
-            dto.setPrsrvPd(getTextSafely(item, "PRSRV_PD")); // 보관방법
-            dto.setIntakeHint(getTextSafely(item, "INTAKE_HINT1")); // 섭취 시 주의사항
-            dto.setMainFnctn(getTextSafely(item, "MAIN_FNCTN")); // 주요기능
-            dto.setBaseStandard(getTextSafely(item, "BASE_STANDARD")); // 기준규격
-        } catch (Exception e) {
-            log.error("건강기능식품 정보 파싱 중 오류: {}", e.getMessage());
-            return null;
+        if (registrationNo != null && !registrationNo.isEmpty()) {
+            // 신고번호에서 숫자만 추출
+            String numericPart = registrationNo.replaceAll("[^0-9]", "");
+            if (!numericPart.isEmpty()) {
+                try {
+                    productId = Long.parseLong(numericPart);
+                } catch (NumberFormatException e) {
+                    productId = Math.abs((long) registrationNo.hashCode());
+                }
+            } else {
+                productId = Math.abs((long) registrationNo.hashCode());
+            }
+        } else {
+            productId = Math.abs((long) dto.getPrduct().hashCode());
         }
         
-        return dto;
+        // Product 객체 설정
+        product.setPrdId(productId);
+        product.setProductName(dto.getPrduct());
+        product.setCompanyName(dto.getEntrps());
+        product.setRegistrationNo(dto.getSttemntNo());
+        product.setExpirationPeriod(dto.getDistbPd());
+        product.setSrvUse(dto.getSrvUse());
+        product.setMainFunction(dto.getMainFnctn());
+        product.setPreservation(dto.getPrsrvPd());
+        product.setIntakeHint(dto.getIntakeHint());
+        product.setBaseStandard(dto.getBaseStandard());
+        return product;
     }
-    
+
     /**
-     * JSON 노드에서 안전하게 텍스트 추출
+     * 전체 목록의 한 페이지 조회 (카탈로그 동기화용, 검색 조건 없음)
+     * 호출 실패나 오류 응답은 예외로 전달한다 (빈 결과와 구분).
+     * 사용자 검색과 따로 HEALTH_FOOD_SYNC 가드를 써서, 동기화 실패로 검색 서킷이 열리거나 동시 호출 한도를 나눠 쓰지 않게 한다.
      */
-    private String getTextSafely(JsonNode node, String fieldName) {
-        if (node == null || node.path(fieldName).isMissingNode()) {
-            return "";
+    public HealthFoodSearchResult fetchCatalogPage(int pageNo, int numOfRows) {
+        URI uri = UriComponentsBuilder.fromUriString(apiUrl + "/getHtfsItem01")
+                .queryParam("serviceKey", serviceKey)
+                .queryParam("pageNo", pageNo)
+                .queryParam("numOfRows", numOfRows)
+                .queryParam("type", "json")
+                .build(true)  // URI 인코딩
+                .toUri();
+        HealthFoodSearchResult response = fetch(uri, DependencyGuards.HEALTH_FOOD_SYNC);
+        if (response == null) {
+            throw new IllegalStateException("API 응답 본문 없음: page=" + pageNo);
         }
-        return node.path(fieldName).asText("").trim();
+        if (!response.isSuccess()) {
+            throw new IllegalStateException("API 오류 응답: " + response.getResultCode() + ", " + response.getResultMsg());
+        }
+        return response;
+    }
+    
+    // 사용자 검색용 가드로 API 호출
+    private HealthFoodSearchResult fetch(URI uri) {
+        return fetch(uri, DependencyGuards.HEALTH_FOOD);
+    }
+
+    /**
+     * API 호출 후 응답 스트림에서 필요한 필드만 바로 DTO로 읽음 (본문 문자열/JSON 트리 생성 없음)
+     * 오류 상태 코드는 RestTemplate 예외로 전달된다.
+     */
+    private HealthFoodSearchResult fetch(URI uri, String guardName) {
+        return dependencyGuards.get(guardName)
+                .call(() -> restTemplate.execute(uri, HttpMethod.GET, null,
+                        response -> healthFoodResponseParser.parse(response.getBody())));
     }
 
     /**
@@ -219,35 +206,25 @@ public class HealthFunctionalFoodService {
             
             log.debug("요청 URL: {}", uri);
             
-            // API 호출
-            ResponseEntity<String> response = restTemplate.getForEntity(uri, String.class);
+            // API 호출 (공공데이터 API 장애 시 서킷 브레이커로 빠르게 실패)
+            HealthFoodSearchResult response = fetch(uri);
             
             // 응답 파싱
-            if (response.getStatusCode().is2xxSuccessful() && response.getBody() != null) {
-                JsonNode root = objectMapper.readTree(response.getBody());
-                
-                // 응답 구조 확인
-                JsonNode header = root.path("header");
-                String resultCode = header.path("resultCode").asText();
-                String resultMsg = header.path("resultMsg").asText();
-                
-                if (!"00".equals(resultCode)) {
-                    log.error("API 오류 응답: {}, {}", resultCode, resultMsg);
+            if (response != null) {
+                if (!response.isSuccess()) {
+                    log.error("API 오류 응답: {}, {}", response.getResultCode(), response.getResultMsg());
                     return null;
                 }
                 
-                JsonNode body = root.path("body");
-                JsonNode items = body.path("items");
-                
-                if (items.isArray() && items.size() > 0) {
+                if (!response.getItems().isEmpty()) {
                     // 첫 번째 항목만 가져오기
-                    return parseHealthFoodItem(items.get(0));
+                    return response.getItems().get(0);
                 }
                 
                 log.info("해당 품목제조신고번호로 조회된 결과 없음");
                 return null;
             } else {
-                log.error("API 응답 오류: {}", response.getStatusCode());
+                log.error("API 응답 본문 없음");
                 return null;
             }
             
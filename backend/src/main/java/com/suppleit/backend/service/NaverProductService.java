@@ -0,0 +1,381 @@
+package com.suppleit.backend.service;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import com.github.benmanes.caffeine.cache.CacheLoader;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import com.suppleit.backend.client.NaverShoppingClient;
+import com.suppleit.backend.dto.NaverShoppingItem;
+import com.suppleit.backend.dto.ProductResponse;
+import com.suppleit.backend.model.Product;
+import com.suppleit.backend.support.ExecutorRegistry;
+import com.suppleit.backend.support.SingleFlight;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 네이버 쇼핑 검색으로 추천 키워드에 알맞은 상품 후보를 찾는 서비스.
+ * display=5 응답에서 카테고리 필터를 통과한 상품을 관련도 순으로 모두 보관해
+ * 1순위는 추천 상품으로, 나머지는 빈 자리 백필 후보로 사용한다.
+ * 정규화된 검색어 단위로 결과를 캐싱하며, 검색 결과가 없던 검색어도 짧게 캐싱한다.
+ * 네이버 호출과 관련도 점수에는 정규화 전 검색어를 쓰고, 백그라운드 갱신도 캐시에 함께 저장한 검색어로 조회한다.
+ * 결합 검색어(추천 제품명 + 키워드)에서 쓸 상품이 없으면 제품명 첫 단어로 다시 찾는데,
+ * 최근 결합 검색어의 실패율이 높으면 두 검색을 동시에 보내 직렬 재시도 지연을 없앤다.
+ */
+@Service
+@Slf4j
+public class NaverProductService {
+
+  private final NaverShoppingClient naverShoppingClient;
+  private final ProductCategoryFilter categoryFilter;
+  private final LoadingCache<String, CachedLookup> productCache;
+  // 같은 검색어의 동시 조회는 네이버 호출 1번으로 합침
+  private final SingleFlight<String, List<ProductResponse>> inFlightLookups;
+
+  // 단순화 검색어를 미리 보내는 풀 (가득 차면 미리 보내지 않고 필요할 때 직렬로 조회)
+  private final ExecutorService speculativeExecutor;
+  // 결합 검색어 실패율 (지수 이동 평균, double 비트) - 이 값 이상이면 단순화 검색어를 동시에 보냄
+  private final AtomicLong fullQueryMissRate = new AtomicLong(Double.doubleToLongBits(0.0));
+  private final double speculativeMissRate;
+  private final Counter fullHitCounter;
+  private final Counter simplifiedHitCounter;
+  private final Counter noHitCounter;
+  private final Counter speculativeWastedCounter;
+
+  public NaverProductService(
+      NaverShoppingClient naverShoppingClient,
+      ProductCategoryFilter categoryFilter,
+      ExecutorRegistry executorRegistry,
+      MeterRegistry meterRegistry,
+      @Value("${naver.cache.max-size:10000}") long maxSize,
+      @Value("${naver.cache.ttl-minutes:360}") long ttlMinutes,
+      @Value("${naver.cache.refresh-minutes:60}") long refreshMinutes,
+      @Value("${naver.cache.negative-ttl-minutes:10}") long negativeTtlMinutes,
+      @Value("${naver.fallback.speculative-miss-rate:0.3}") double speculativeMissRate) {
+    this.naverShoppingClient = naverShoppingClient;
+    this.categoryFilter = categoryFilter;
+    this.speculativeMissRate = speculativeMissRate;
+
+    long ttlNanos = Duration.ofMinutes(ttlMinutes).toNanos();
+    long negativeTtlNanos = Duration.ofMinutes(negativeTtlMinutes).toNanos();
+
+    // refreshAfterWrite: 만료 전 오래된 값은 그대로 응답하고 백그라운드에서 갱신 (stale-while-revalidate)
+    this.productCache = Caffeine.newBuilder()
+        .maximumSize(maxSize)
+        .expireAfter(new Expiry<String, CachedLookup>() {
+          @Override
+          public long expireAfterCreate(String key, CachedLookup value, long currentTime) {
+            return value.candidates().isEmpty() ? negativeTtlNanos : ttlNanos;
+          }
+
+          @Override
+          public long expireAfterUpdate(String key, CachedLookup value, long currentTime,
+              long currentDuration) {
+            return expireAfterCreate(key, value, currentTime);
+          }
+
+          @Override
+          public long expireAfterRead(String key, CachedLookup value, long currentTime,
+              long currentDuration) {
+            return currentDuration;
+          }
+        })
+        .refreshAfterWrite(Duration.ofMinutes(refreshMinutes))
+        // 갱신은 공용 ForkJoinPool 대신 전용 풀에서 (가득 차면 이번 갱신은 건너뛰고 다음 조회 때 다시 시도)
+        .executor(executorRegistry.get(ExecutorRegistry.NAVER_REFRESH, 4, 100))
+        .recordStats()
+        // 백그라운드 갱신 로더는 다른 키의 조회 Future를 기다리지 않도록 미리 보내기 없이 직렬로만 조회
+        .build(new CacheLoader<String, CachedLookup>() {
+          @Override
+          public CachedLookup load(String key) {
+            return new CachedLookup(key, loadCandidates(key, false));
+          }
+
+          @Override
+          public CachedLookup reload(String key, CachedLookup oldValue) {
+            return new CachedLookup(oldValue.query(), loadCandidates(oldValue.query(), false));
+          }
+        });
+
+    // cache.gets(hit/miss), cache.evictions 등 메트릭 등록
+    CaffeineCacheMetrics.monitor(meterRegistry, productCache, "naverProduct");
+    this.inFlightLookups = new SingleFlight<>("naverProduct", meterRegistry);
+
+    this.speculativeExecutor = executorRegistry.get(ExecutorRegistry.NAVER_SPECULATIVE, 10, 0);
+    this.fullHitCounter = fallbackCounter(meterRegistry, "full", "결합 검색어로 상품을 찾은 수");
+    this.simplifiedHitCounter = fallbackCounter(meterRegistry, "simplified", "단순화 검색어로 상품을 찾은 수");
+    this.noHitCounter = fallbackCounter(meterRegistry, "none", "어느 검색어로도 상품을 찾지 못한 수");
+    this.speculativeWastedCounter = Counter.builder("naver.fallback.speculative")
+        .description("결합 검색어가 성공해 이번 응답에 쓰이지 않은 단순화 검색 수")
+        .tag("result", "wasted")
+        .register(meterRegistry);
+  }
+
+  private static Counter fallbackCounter(MeterRegistry meterRegistry, String form, String description) {
+    return Counter.builder("naver.fallback")
+        .description(description)
+        .tag("form", form)
+        .register(meterRegistry);
+  }
+
+  /**
+   * 관련도 순 상품 후보 비동기 조회. 캐시에 있으면 즉시 완료된 Future를, 없으면 같은 검색어로
+   * 진행 중인 조회를 공유한다. 찾지 못하거나 오류가 나면 빈 목록으로 완료된다.
+   */
+  public CompletableFuture<List<ProductResponse>> findCandidatesAsync(String query, Executor executor) {
+    String cacheKey = normalizeQuery(query);
+    if (cacheKey.isEmpty()) {
+      return CompletableFuture.completedFuture(List.of());
+    }
+    CachedLookup cached = productCache.getIfPresent(cacheKey);
+    if (cached != null) {
+      return CompletableFuture.completedFuture(cached.candidates());
+    }
+    return inFlightLookups.execute(cacheKey,
+        () -> CompletableFuture.supplyAsync(() -> getCandidates(query), executor));
+  }
+
+  /**
+   * 비동기 조회 (1순위 상품만). 찾지 못하거나 오류가 나면 null로 완료된다.
+   */
+  public CompletableFuture<ProductResponse> findProductAsync(String query, Executor executor) {
+    return findCandidatesAsync(query, executor)
+        .thenApply(candidates -> candidates.isEmpty() ? null : candidates.get(0));
+  }
+
+  /**
+   * 검색어에 가장 적합한 상품을 반환한다. 찾지 못하면 null.
+   */
+  public ProductResponse getNaverProductResponseWithFallback(String query) {
+    List<ProductResponse> candidates = getCandidates(query);
+    return candidates.isEmpty() ? null : candidates.get(0);
+  }
+
+  /**
+   * 관련도 순 상품 후보 목록 (캐시 사용). 찾지 못하거나 오류가 나면 빈 목록.
+   */
+  public List<ProductResponse> getCandidates(String query) {
+    String cacheKey = normalizeQuery(query);
+    if (cacheKey.isEmpty()) {
+      return List.of();
+    }
+    try {
+      return getOrLoad(cacheKey, optimizeSearchQuery(query));
+    } catch (Exception e) {
+      // 조회 실패는 캐싱하지 않음 (다음 요청에서 재시도)
+      log.error("Error occurred while processing query: {}, Exception: {}", query, e.getMessage());
+      return List.of();
+    }
+  }
+
+  // 캐시에 없으면 캐시 잠금 밖에서 네이버 조회 후 저장 (예외는 저장하지 않고 전파)
+  // LoadingCache.get은 로더를 키별 synchronized 구간에서 실행해, 가상 스레드가 네이버 응답을 기다리는 동안
+  // 캐리어 스레드까지 붙잡으므로 사용하지 않음 (동시 조회 합치기는 SingleFlight가 담당)
+  // 조회에는 정규화 전 검색어(query)를 씀 (소문자 변환 등이 네이버 검색/관련도 점수에 영향을 주지 않도록)
+  private List<ProductResponse> getOrLoad(String cacheKey, String query) {
+    CachedLookup cached = productCache.getIfPresent(cacheKey);
+    if (cached != null) {
+      return cached.candidates();
+    }
+    List<ProductResponse> loaded = loadCandidates(query, true);
+    productCache.put(cacheKey, new CachedLookup(query, loaded));
+    return loaded;
+  }
+
+  // 캐시에 조회 결과(빈 결과 포함)가 있는지 (사전 워밍 대상 판단용, 캐시 적중률 통계에는 반영 안 됨)
+  public boolean isCached(String query) {
+    String cacheKey = normalizeQuery(query);
+    return cacheKey.isEmpty() || productCache.asMap().containsKey(cacheKey);
+  }
+
+  // 제품이 추가/수정되면 그 제품명으로 캐싱된 결과(특히 결과 없음 캐시)를 버려 다음 조회에서 다시 찾도록 함
+  @EventListener
+  public void onProductChanged(ProductChangedEvent event) {
+    for (Product product : event.products()) {
+      String name = product.getProductName();
+      if (name != null && !name.isBlank()) {
+        productCache.invalidate(normalizeQuery(name));
+      }
+    }
+  }
+
+  // 캐시 키: optimizeSearchQuery 결과의 공백/대소문자 정규화
+  public String normalizeQuery(String query) {
+    return optimizeSearchQuery(query).replaceAll("\\s+", " ").toLowerCase(Locale.ROOT);
+  }
+
+  // 캐시 미스/갱신 시 네이버 API 조회 (예외는 캐싱되지 않도록 그대로 전파)
+  // 결합 검색어 → 첫 단어 순으로 처음 쓸 만한 결과를 채택 (원본 키워드는 컨트롤러가 따로 병렬 조회)
+  // speculate가 false면 첫 단어 검색을 미리 보내지 않음 (캐시 로더 안에서 다른 키의 조회를 기다리지 않도록)
+  private List<ProductResponse> loadCandidates(String query, boolean speculate) {
+    String[] words = query.split("\\s+", 2);
+    String simplifiedQuery = words.length > 1 ? words[0] : null;
+    if (simplifiedQuery == null || simplifiedQuery.isEmpty()) {
+      return searchCandidates(query);
+    }
+
+    // 첫 단어 결과가 이미 캐시에 있으면 추가 호출 불필요, 최근 실패율이 높으면 미리 동시에 조회
+    // 첫 단어 검색도 캐시를 거쳐 같은 첫 단어(브랜드 등)의 다음 결합 검색어가 재사용
+    String simplifiedKey = normalizeQuery(simplifiedQuery);
+    CompletableFuture<List<ProductResponse>> simplified = null;
+    CachedLookup cachedSimplified = productCache.getIfPresent(simplifiedKey);
+    if (cachedSimplified != null) {
+      simplified = CompletableFuture.completedFuture(cachedSimplified.candidates());
+    } else if (speculate && Double.longBitsToDouble(fullQueryMissRate.get()) >= speculativeMissRate) {
+      simplified = lookupSimplified(simplifiedKey, simplifiedQuery);
+    }
+
+    List<ProductResponse> candidates = searchCandidates(query);
+    recordFullQueryResult(!candidates.isEmpty());
+    if (!candidates.isEmpty()) {
+      fullHitCounter.increment();
+      if (simplified != null && cachedSimplified == null) {
+        // 더 기다리지 않음 (이미 보낸 요청의 결과는 캐시에 남아 다음 검색에서 쓰임)
+        simplified.cancel(false);
+        speculativeWastedCounter.increment();
+      }
+      return candidates;
+    }
+
+    log.info("Trying simplified query: {}", simplifiedQuery);
+    List<ProductResponse> fallback = simplified != null ? await(simplified, simplifiedQuery)
+        : getOrLoad(simplifiedKey, simplifiedQuery);
+    (fallback.isEmpty() ? noHitCounter : simplifiedHitCounter).increment();
+    return fallback;
+  }
+
+  // 첫 단어 검색을 캐시를 통해 미리 비동기 조회 (풀이 가득 차면 null - 필요할 때 직렬로 조회)
+  private CompletableFuture<List<ProductResponse>> lookupSimplified(String simplifiedKey, String simplifiedQuery) {
+    try {
+      return CompletableFuture.supplyAsync(() -> getOrLoad(simplifiedKey, simplifiedQuery), speculativeExecutor);
+    } catch (RejectedExecutionException e) {
+      log.debug("Speculative executor saturated, simplified query will run serially: {}", simplifiedKey);
+      return null;
+    }
+  }
+
+  // 검색어 하나로 네이버 조회 후 관련도 순 후보 반환 (쓸 상품이 없으면 빈 목록)
+  private List<ProductResponse> searchCandidates(String query) {
+    log.debug("Searching for product on Naver with query: {}", query);
+
+    // 여러 결과를 가져와서 관련도 순으로 정렬
+    List<NaverShoppingItem> items = naverShoppingClient.search(query, 5);
+    if (items.isEmpty()) {
+      log.warn("No items found for query: {}", query);
+      return List.of();
+    }
+
+    List<ProductResponse> candidates = rankCandidates(items, query);
+    if (!candidates.isEmpty()) {
+      ProductResponse best = candidates.get(0);
+      log.info("Found product: {} with price: {}, category: {} ({} candidates)",
+          best.getTitle(), best.getPrice(), best.getCategory(), candidates.size());
+    }
+    return candidates;
+  }
+
+  // 단순화 검색 결과 대기 (실패는 호출자에게 전파해 캐싱되지 않도록)
+  private List<ProductResponse> await(CompletableFuture<List<ProductResponse>> future, String query) {
+    try {
+      return future.get();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new CancellationException("Interrupted while waiting for simplified query: " + query);
+    } catch (ExecutionException e) {
+      if (e.getCause() instanceof RuntimeException cause) {
+        throw cause;
+      }
+      throw new IllegalStateException(e.getCause());
+    }
+  }
+
+  // 결합 검색어 실패율 갱신 (최근 약 20건 가중)
+  private void recordFullQueryResult(boolean hit) {
+    double sample = hit ? 0.0 : 1.0;
+    fullQueryMissRate.getAndUpdate(bits ->
+        Double.doubleToLongBits(Double.longBitsToDouble(bits) * 0.95 + sample * 0.05));
+  }
+
+  // 쿼리 최적화 메소드
+  private String optimizeSearchQuery(String query) {
+    // 괄호와 특수문자 제거
+    return query.replaceAll("[\\(\\)\\[\\]\\{\\}]", "").trim();
+  }
+
+  // 캐시 값: 조회에 쓴 검색어(갱신 시 재사용)와 관련도 순 후보
+  private record CachedLookup(String query, List<ProductResponse> candidates) {
+  }
+
+  // 카테고리 필터를 통과한 상품을 관련도 점수 내림차순으로 정렬 (동점이면 네이버 응답 순서 유지)
+  private List<ProductResponse> rankCandidates(List<NaverShoppingItem> items, String originalQuery) {
+    // 검색어 전처리는 상품마다 반복하지 않고 한 번만
+    QueryScorer scorer = new QueryScorer(originalQuery);
+
+    NaverShoppingItem[] accepted = new NaverShoppingItem[items.size()];
+    int[] scores = new int[items.size()];
+    int count = 0;
+
+    for (NaverShoppingItem item : items) {
+      String category = item.getCategory1(); // 네이버 API의 카테고리 필드
+
+      // 카테고리 필터링
+      if (categoryFilter.isBlocked(category)) {
+        log.debug("Skipping item in blocked category: {}, title: {}", category, item.getTitle());
+        continue; // 제외 카테고리는 건너뛰기
+      }
+      // 허용된 카테고리만 사용
+      if (!categoryFilter.isAllowed(category)) {
+        log.debug("Skipping item not in allowed category: {}, title: {}", category, item.getTitle());
+        continue;
+      }
+
+      // 관련성 점수 + 허용 카테고리 가중치
+      int score = scorer.score(item.getTitle()) + 50;
+
+      // 삽입 정렬 (최대 5개)
+      int position = count;
+      while (position > 0 && scores[position - 1] < score) {
+        accepted[position] = accepted[position - 1];
+        scores[position] = scores[position - 1];
+        position--;
+      }
+      accepted[position] = item;
+      scores[position] = score;
+      count++;
+    }
+
+    List<ProductResponse> candidates = new ArrayList<>(count);
+    for (int i = 0; i < count; i++) {
+      NaverShoppingItem item = accepted[i];
+      ProductResponse product = new ProductResponse(
+          item.getTitle(),
+          item.getLink(),
+          item.getImage(),
+          item.getLprice(),
+          item.getCategory1(),
+          false); // 실제 상품이므로 isDummy = false
+      product.setProductId(item.getProductId());
+      candidates.add(product);
+    }
+    return List.copyOf(candidates);
+  }
+}
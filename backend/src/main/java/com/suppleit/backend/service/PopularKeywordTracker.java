@@ -0,0 +1,84 @@
+package com.suppleit.backend.service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.suppleit.backend.dto.PopularKeywordDto;
+import com.suppleit.backend.support.HeavyHitterSketch;
+
+/**
+ * 엔드포인트별 인기 검색어 추적기.
+ * 엔드포인트마다 고정 크기 HeavyHitterSketch를 하나씩 두고, decay-minutes마다 카운트를 절반으로 줄여
+ * 최근 트래픽 위주의 상위 키워드를 제공한다 (캐시 크기 산정, 사전 워밍 대상 선정용).
+ *
+ * 설정 예 (없으면 기본값)
+ * <pre>
+ * popular-keywords.depth=4
+ * popular-keywords.width=4096
+ * popular-keywords.capacity=100
+ * popular-keywords.decay-minutes=60
+ * </pre>
+ */
+@Component
+public class PopularKeywordTracker {
+
+    public static final String RECOMMEND = "recommend";
+    public static final String PRODUCT_SEARCH = "productSearch";
+    public static final String HEALTH_FOOD = "healthFood";
+
+    private final int depth;
+    private final int width;
+    private final int capacity;
+    private final long decayNanos;
+
+    private final Map<String, HeavyHitterSketch> sketches = new ConcurrentHashMap<>();
+
+    public PopularKeywordTracker(
+            @Value("${popular-keywords.depth:4}") int depth,
+            @Value("${popular-keywords.width:4096}") int width,
+            @Value("${popular-keywords.capacity:100}") int capacity,
+            @Value("${popular-keywords.decay-minutes:60}") long decayMinutes) {
+        this.depth = depth;
+        this.width = width;
+        this.capacity = capacity;
+        this.decayNanos = TimeUnit.MINUTES.toNanos(decayMinutes);
+    }
+
+    // 키워드 1회 요청 기록 (빈 키워드는 무시)
+    public void record(String endpoint, String keyword) {
+        if (keyword == null || keyword.isBlank()) {
+            return;
+        }
+        sketches.computeIfAbsent(endpoint, name -> new HeavyHitterSketch(depth, width, capacity, decayNanos))
+                .record(normalize(keyword));
+    }
+
+    // 추정 요청 수가 많은 순서로 최대 limit개
+    public List<PopularKeywordDto> top(String endpoint, int limit) {
+        HeavyHitterSketch sketch = sketches.get(endpoint);
+        List<PopularKeywordDto> result = new ArrayList<>();
+        if (sketch == null) {
+            return result;
+        }
+        for (Map.Entry<String, Long> entry : sketch.top(limit)) {
+            result.add(new PopularKeywordDto(entry.getKey(), entry.getValue()));
+        }
+        return result;
+    }
+
+    public Set<String> getEndpoints() {
+        return sketches.keySet();
+    }
+
+    private String normalize(String keyword) {
+        return keyword.trim().replaceAll("\\s+", " ").toLowerCase(Locale.ROOT);
+    }
+}
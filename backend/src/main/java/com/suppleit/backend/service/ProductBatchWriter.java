@@ -0,0 +1,38 @@
+package com.suppleit.backend.service;
+
+import java.util.List;
+
+import org.apache.ibatis.session.ExecutorType;
+import org.apache.ibatis.session.SqlSessionFactory;
+import org.mybatis.spring.SqlSessionTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.suppleit.backend.mapper.ProductMapper;
+import com.suppleit.backend.model.Product;
+
+/**
+ * 제품 일괄 저장 (MyBatis BATCH 실행기 + upsertProduct).
+ * 한 번 호출한 목록을 한 트랜잭션으로 묶어 커밋 시 JDBC 배치 하나로 보낸다
+ * (rewriteBatchedStatements=true면 여러 행 INSERT 문으로 합쳐짐).
+ * 기존 트랜잭션 안에서 호출하지 않는다 (같은 트랜잭션에서 실행기 종류를 바꿀 수 없음).
+ */
+@Component
+public class ProductBatchWriter {
+
+    private final ProductMapper batchMapper;
+    private final TransactionTemplate transactionTemplate;
+
+    public ProductBatchWriter(SqlSessionFactory sqlSessionFactory, PlatformTransactionManager transactionManager) {
+        this.batchMapper = new SqlSessionTemplate(sqlSessionFactory, ExecutorType.BATCH).getMapper(ProductMapper.class);
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    public void upsertAll(List<Product> products) {
+        if (products.isEmpty()) {
+            return;
+        }
+        transactionTemplate.executeWithoutResult(status -> products.forEach(batchMapper::upsertProduct));
+    }
+}
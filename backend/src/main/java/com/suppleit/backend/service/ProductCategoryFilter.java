@@ -0,0 +1,47 @@
+package com.suppleit.backend.service;
+
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.suppleit.backend.support.AhoCorasickMatcher;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 네이버 쇼핑 상품의 category1로 추천 대상 여부를 판단하는 필터.
+ * 허용/제외 카테고리는 설정에서 읽어 시작 시 한 번만 오토마톤으로 컴파일한다.
+ *
+ * 설정 예 (쉼표 구분, 없으면 기본값)
+ * <pre>
+ * recommend.category.allowed=식품
+ * recommend.category.blocked=서비스,여행/항공권,E쿠폰
+ * </pre>
+ */
+@Component
+@Slf4j
+public class ProductCategoryFilter {
+
+  private final AhoCorasickMatcher allowed;
+  private final AhoCorasickMatcher blocked;
+
+  public ProductCategoryFilter(
+      @Value("${recommend.category.allowed:식품}") List<String> allowedCategories,
+      @Value("${recommend.category.blocked:서비스,여행/항공권,E쿠폰,컨텐츠,가구/인테리어,스포츠/레저,생활/건강,화장품/미용,패션의류,출산/육아}")
+      List<String> blockedCategories) {
+    this.allowed = new AhoCorasickMatcher(allowedCategories);
+    this.blocked = new AhoCorasickMatcher(blockedCategories);
+    log.info("Product category filter initialized (allowed={}, blocked={})", allowedCategories, blockedCategories);
+  }
+
+  // 제외 카테고리 이름이 하나라도 포함되면 true
+  public boolean isBlocked(String category) {
+    return blocked.matchesAny(category);
+  }
+
+  // 허용 카테고리 이름이 하나라도 포함되면 true
+  public boolean isAllowed(String category) {
+    return allowed.matchesAny(category);
+  }
+}
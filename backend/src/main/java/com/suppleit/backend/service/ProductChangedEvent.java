@@ -0,0 +1,12 @@
+package com.suppleit.backend.service;
+
+import java.util.List;
+
+import com.suppleit.backend.model.Product;
+
+/**
+ * 제품 추가/수정이 커밋된 뒤 발행되는 이벤트 (트랜잭션 하나에 한 번, ProductChangeInterceptor).
+ * 제품 검색 색인, 제품명으로 만든 캐시 등이 받아서 해당 제품만 갱신/무효화한다.
+ */
+public record ProductChangedEvent(List<Product> products) {
+}
@@ -0,0 +1,336 @@
+package com.suppleit.backend.service;
+
+import com.suppleit.backend.mapper.ProductMapper;
+import com.suppleit.backend.model.Product;
+import com.suppleit.backend.support.NgramIndex;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import jakarta.annotation.PostConstruct;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 제품 검색용 JVM 내 색인 (제품명, 업체명, 주요 기능의 문자 2/3-gram 역색인).
+ * 시작 시 product 테이블 전체로 만들고, 이후 insertProduct/upsertProduct/updateProduct 커밋 때마다 해당 제품만 반영한다
+ * (ProductChangedEvent). 결과는 ProductMapper.searchProducts(LIKE '%kw%')와 같은 조건/순서로 DB 왕복 없이 반환한다.
+ * 제품이 바뀌면 새 문서 번호로 다시 색인하고 이전 문서는 삭제 표시만 해 두며, 삭제 표시가 많아지면 색인을 다시 만든다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ProductSearchIndex {
+
+    // ProductMapper.searchProducts와 같은 최대 결과 수
+    public static final int DEFAULT_LIMIT = 20;
+    // 삭제 표시 문서가 이 수와 살아 있는 문서 수를 모두 넘으면 재색인
+    private static final int MIN_COMPACT_DELETED = 1024;
+    // 색인 필드 번호
+    private static final int NAME = 0;
+    private static final int COMPANY = 1;
+    private static final int MAIN_FUNCTION = 2;
+    // 순위, 제품명 순 (ProductMapper.searchProducts의 ORDER BY)
+    private static final Comparator<Match> MATCH_ORDER = ProductSearchIndex::compare;
+
+    private final ProductMapper productMapper;
+
+    @Value("${product.search.index.enabled:true}")
+    private boolean enabled;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private NgramIndex index = new NgramIndex();
+    // 문서 번호 -> 제품 (삭제 표시는 null)
+    private List<Entry> entries = new ArrayList<>();
+    private Map<Long, Integer> docIdByPrdId = new HashMap<>();
+    private int deleted;
+    // [0, sortedCount) 문서 번호는 제품명 순 (재색인 때 정렬, 이후 추가분은 뒤에 붙음)
+    private int sortedCount;
+    private volatile boolean ready;
+
+    @PostConstruct
+    public void load() {
+        if (!enabled) {
+            log.info("제품 검색 색인 사용 안 함 (DB 검색)");
+            return;
+        }
+        try {
+            List<Product> products = new ArrayList<>();
+            productMapper.scanProducts(context -> products.add(context.getResultObject()));
+            rebuild(products);
+        } catch (Exception e) {
+            // DB를 쓸 수 없으면 색인 없이 시작 (검색은 DB로)
+            log.warn("제품 검색 색인 생성 실패, DB 검색 사용: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 주어진 제품 전체로 색인을 새로 만든다.
+     */
+    public void rebuild(Collection<Product> products) {
+        long startedAt = System.nanoTime();
+        lock.writeLock().lock();
+        try {
+            index = new NgramIndex();
+            entries = new ArrayList<>(products.size());
+            docIdByPrdId = new HashMap<>(products.size() * 2);
+            deleted = 0;
+            List<Entry> sorted = new ArrayList<>(products.size());
+            for (Product product : products) {
+                if (product != null && product.getPrdId() != null) {
+                    sorted.add(new Entry(product));
+                }
+            }
+            addSorted(sorted);
+            ready = true;
+            log.info("제품 검색 색인 생성: {}건, n-gram {}개, 게시 목록 {}KB, {}ms", docIdByPrdId.size(),
+                    index.gramCount(), index.postingBytes() / 1024, (System.nanoTime() - startedAt) / 1_000_000);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // 제품 추가/수정 커밋 후 해당 제품만 다시 색인
+    @EventListener
+    public void onProductChanged(ProductChangedEvent event) {
+        upsertAll(event.products());
+    }
+
+    /**
+     * 추가/변경된 제품들을 한 번의 쓰기 잠금으로 반영한다 (같은 prdId는 교체).
+     */
+    public void upsertAll(Collection<Product> products) {
+        if (!ready || products.isEmpty()) {
+            return;
+        }
+        lock.writeLock().lock();
+        try {
+            for (Product product : products) {
+                if (product == null || product.getPrdId() == null) {
+                    continue;
+                }
+                Integer previous = docIdByPrdId.get(product.getPrdId());
+                if (previous != null) {
+                    entries.set(previous, null);
+                    deleted++;
+                }
+                addEntry(new Entry(product));
+            }
+            if (deleted > MIN_COMPACT_DELETED && deleted > docIdByPrdId.size()) {
+                compact();
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    public int size() {
+        return ready ? docIdByPrdId.size() : 0;
+    }
+
+    /**
+     * 제품명, 업체명, 주요 기능 중 하나에 검색어가 들어 있는 제품 (ProductMapper.searchProducts와 같은 순서).
+     * 색인이 준비되지 않았거나 검색어가 2자 미만이면 null (DB 검색 사용).
+     */
+    public List<Product> search(String keyword, int limit) {
+        return search(keyword, limit, false);
+    }
+
+    /**
+     * 제품명에 검색어가 들어 있는 제품 (리뷰 작성 시 제품 선택용, 제품 번호/이름/업체명만 채움).
+     */
+    public List<Product> searchByName(String keyword, int limit) {
+        List<Product> products = search(keyword, limit, true);
+        if (products == null) {
+            return null;
+        }
+        List<Product> summaries = new ArrayList<>(products.size());
+        for (Product product : products) {
+            summaries.add(Product.builder()
+                    .prdId(product.getPrdId())
+                    .productName(product.getProductName())
+                    .companyName(product.getCompanyName())
+                    .build());
+        }
+        return summaries;
+    }
+
+    private List<Product> search(String keyword, int limit, boolean nameOnly) {
+        if (!ready || keyword == null) {
+            return null;
+        }
+        if (limit <= 0) {
+            return List.of();
+        }
+        String query = normalize(keyword);
+        lock.readLock().lock();
+        try {
+            int[] nameCandidates = index.candidates(query, NAME);
+            if (nameCandidates == null) {
+                return null;
+            }
+            // 후보에 검색어가 실제로 들어 있는지 확인하면서 상위 limit건만 유지 (힙 top이 현재 가장 낮은 순위)
+            PriorityQueue<Match> top = new PriorityQueue<>(limit, MATCH_ORDER.reversed());
+            // 1) 제품명 일치 (순위 0~2)
+            for (int docId : nameCandidates) {
+                Entry entry = entries.get(docId);
+                if (entry != null) {
+                    offer(top, limit, entry.nameRank(query), entry);
+                }
+            }
+            // 2) 업체명(3), 주요 기능(4) 일치 - 앞 순위로 limit건을 못 채웠을 때만.
+            // 제품명 순으로 번호를 매긴 구간에서는 먼저 찾은 것이 이름순으로 앞서므로 필요한 만큼 찾으면
+            // 나머지는 건너뛰고, 이후 추가된 문서(sortedCount 이후)만 마저 확인한다
+            for (int rank = 3; rank <= 4 && !nameOnly && top.size() < limit; rank++) {
+                int[] candidates = index.candidates(query, rank == 3 ? COMPANY : MAIN_FUNCTION);
+                int needed = limit - top.size();
+                int found = 0;
+                for (int i = 0; i < candidates.length; i++) {
+                    int docId = candidates[i];
+                    if (docId < sortedCount && found >= needed) {
+                        i = firstIndexAtLeast(candidates, sortedCount) - 1;
+                        continue;
+                    }
+                    Entry entry = entries.get(docId);
+                    if (entry != null && entry.rank(query) == rank) {
+                        offer(top, limit, rank, entry);
+                        found++;
+                    }
+                }
+            }
+            List<Product> products = new ArrayList<>(top.size());
+            top.stream().sorted(MATCH_ORDER).forEach(match -> products.add(match.product()));
+            return products;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private static void offer(PriorityQueue<Match> top, int limit, int rank, Entry entry) {
+        if (rank < 0) {
+            return;
+        }
+        if (top.size() < limit) {
+            top.add(new Match(rank, entry.name, entry.product));
+        } else if (compare(rank, entry.name, top.peek()) < 0) {
+            top.poll();
+            top.add(new Match(rank, entry.name, entry.product));
+        }
+    }
+
+    // 오름차순 배열에서 value 이상인 첫 위치
+    private static int firstIndexAtLeast(int[] sorted, int value) {
+        int position = Arrays.binarySearch(sorted, value);
+        return position >= 0 ? position : -position - 1;
+    }
+
+    // 제품명 순으로 문서 번호를 매겨 색인 (쓰기 잠금 안에서, 빈 색인에 호출)
+    private void addSorted(List<Entry> sorted) {
+        sorted.sort(Comparator.comparing((Entry entry) -> entry.name, Comparator.nullsLast(Comparator.naturalOrder())));
+        for (Entry entry : sorted) {
+            addEntry(entry);
+        }
+        sortedCount = entries.size();
+        index.trimToSize();
+    }
+
+    private void addEntry(Entry entry) {
+        int docId = entries.size();
+        entries.add(entry);
+        docIdByPrdId.put(entry.product.getPrdId(), docId);
+        index.add(docId, entry.name, entry.company, entry.mainFunction);
+    }
+
+    // 살아 있는 문서만으로 재색인 (쓰기 잠금 안에서 호출)
+    private void compact() {
+        List<Entry> live = new ArrayList<>(docIdByPrdId.size());
+        for (Entry entry : entries) {
+            if (entry != null) {
+                live.add(entry);
+            }
+        }
+        index = new NgramIndex();
+        entries = new ArrayList<>(live.size());
+        docIdByPrdId = new HashMap<>(live.size() * 2);
+        deleted = 0;
+        addSorted(live);
+        log.info("제품 검색 색인 재구성: {}건", live.size());
+    }
+
+    // MySQL 기본 콜레이션(utf8mb4_unicode_ci)처럼 대소문자 구분 없이 비교
+    private static String normalize(String text) {
+        return text == null ? null : text.toLowerCase(Locale.ROOT);
+    }
+
+    private static final class Entry {
+        final Product product;
+        final String name;
+        final String company;
+        final String mainFunction;
+
+        Entry(Product product) {
+            this.product = product;
+            this.name = normalize(product.getProductName());
+            this.company = normalize(product.getCompanyName());
+            this.mainFunction = normalize(product.getMainFunction());
+        }
+
+        // ProductMapper.searchProducts의 ORDER BY CASE 순위, 일치하지 않으면 -1
+        int rank(String query) {
+            int nameRank = nameRank(query);
+            if (nameRank >= 0) {
+                return nameRank;
+            }
+            if (company != null && company.contains(query)) {
+                return 3;
+            }
+            if (mainFunction != null && mainFunction.contains(query)) {
+                return 4;
+            }
+            return -1;
+        }
+
+        // 제품명만 비교한 순위 (같음 0, 시작 1, 포함 2), 일치하지 않으면 -1
+        int nameRank(String query) {
+            if (name == null) {
+                return -1;
+            }
+            if (name.startsWith(query)) {
+                return name.length() == query.length() ? 0 : 1;
+            }
+            return name.contains(query) ? 2 : -1;
+        }
+    }
+
+    private static int compare(Match a, Match b) {
+        return compare(a.rank(), a.name(), b);
+    }
+
+    private static int compare(int rank, String name, Match other) {
+        if (rank != other.rank()) {
+            return Integer.compare(rank, other.rank());
+        }
+        if (name == null || other.name() == null) {
+            return name == null ? (other.name() == null ? 0 : 1) : -1;
+        }
+        return name.compareTo(other.name());
+    }
+
+    // name은 비교용 소문자 제품명
+    private record Match(int rank, String name, Product product) {
+    }
+}
@@ -1,18 +1,18 @@
 package com.suppleit.backend.service;
 
-import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.suppleit.backend.client.HealthFoodResponseParser;
+import com.suppleit.backend.dto.HealthFoodSearchResult;
+import com.suppleit.backend.dto.HealthFunctionalFoodDto;
 import com.suppleit.backend.dto.ProductDto;
 import com.suppleit.backend.mapper.ProductMapper;
 import com.suppleit.backend.model.Product;
+import com.suppleit.backend.support.DependencyGuards;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.http.HttpEntity;
-import org.springframework.http.HttpHeaders;
+import org.springframework.dao.DataAccessException;
 import org.springframework.http.HttpMethod;
 import org.springframework.http.MediaType;
-import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
 import org.springframework.web.client.RestTemplate;
 import org.springframework.web.util.UriComponentsBuilder;
@@ -22,6 +22,7 @@ import java.net.URI;
 import java.net.URLDecoder;
 import java.net.URLEncoder;
 import java.nio.charset.StandardCharsets;
+import java.sql.SQLException;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
@@ -36,7 +37,11 @@ public class ProductService {
 
     private final ProductMapper productMapper;
     private final RestTemplate restTemplate;
-    private final ObjectMapper objectMapper;
+    private final HealthFoodResponseParser healthFoodResponseParser;
+    private final DependencyGuards dependencyGuards;
+    private final ProductSearchIndex productSearchIndex;
+    private final ProductWriteBehindQueue productWriteBehindQueue;
+    private final CatalogSyncService catalogSyncService;
 
     @Value("${api.health-functional-food.url}")
     private String apiUrl;
@@ -44,6 +49,26 @@ public class ProductService {
     @Value("${api.health-functional-food.key}")
     private String apiKey;
 
+    // MySQL: 사용할 FULLTEXT 인덱스가 없음 (ER_FT_MATCHING_KEY_NOT_FOUND)
+    private static final int ER_FT_MATCHING_KEY_NOT_FOUND = 1191;
+    // BOOLEAN MODE 연산자 (사용자 입력은 검색어로만 취급)
+    private static final String BOOLEAN_OPERATORS = "[+\\-<>()~*\"@]";
+
+    // DB 검색 방식: fulltext (ngram 전문 검색, 기본) 또는 like
+    @Value("${product.search.mode:fulltext}")
+    private String searchMode;
+
+    // ngram 토큰 길이 (MySQL ngram_token_size와 같게). 이보다 짧은 단어는 전문 검색으로 찾을 수 없음
+    @Value("${product.search.ngram-token-size:2}")
+    private int ngramTokenSize;
+
+    // 카탈로그 전체 동기화가 끝난 뒤에는 사용자 검색에서 외부 API를 호출하지 않음 (DB만 사용)
+    @Value("${catalog.sync.db-only-search:true}")
+    private boolean dbOnlyAfterCatalogSync;
+
+    // 인덱스가 없는 DB(기존 볼륨 등)에서는 LIKE 검색으로 전환
+    private volatile boolean fulltextAvailable = true;
+
     // 초기 데이터 확인 및 설정
     @PostConstruct
     public void initializeData() {
@@ -69,8 +94,8 @@ public class ProductService {
             // 먼저 DB 검색
             List<ProductDto> dbResults = searchProductsFromDb(keyword);
     
-            // DB 결과가 부족할 경우 API 검색
-            if (dbResults.size() < 5) {
+            // DB 결과가 부족할 경우 API 검색 (카탈로그 동기화 전까지만)
+            if (dbResults.size() < 5 && !(dbOnlyAfterCatalogSync && catalogSyncService.isCatalogLoaded())) {
                 log.info("DB 결과 부족 ({}건), 외부 API로 검색 진행", dbResults.size());
     
                 List<ProductDto> apiResults = searchProductsFromApi(keyword, page);
@@ -103,7 +128,7 @@ public class ProductService {
     private List<ProductDto> searchProductsFromDb(String keyword) {
         log.info("DB에서 제품 검색: {}", keyword);
         try {
-            List<Product> products = productMapper.searchProducts(keyword);
+            List<Product> products = findProducts(keyword);
             return products.stream()
                     .map(this::convertToDto)
                     .collect(Collectors.toList());
@@ -116,7 +141,7 @@ public class ProductService {
     public List<ProductDto> searchProductsFromDbOnly(String keyword) {
         log.info("DB에서만 제품 검색: {}", keyword);
         try {
-            List<Product> products = productMapper.searchProducts(keyword);
+            List<Product> products = findProducts(keyword);
             return products.stream()
                     .map(this::convertToDto)
                     .collect(Collectors.toList());
@@ -126,6 +151,50 @@ public class ProductService {
         }
     }
 
+    // JVM 내 검색 색인 우선, 색인을 쓸 수 없으면 DB 전문 검색, 짧은 검색어나 인덱스가 없을 때는 LIKE 검색
+    private List<Product> findProducts(String keyword) {
+        List<Product> indexed = productSearchIndex.search(keyword, ProductSearchIndex.DEFAULT_LIMIT);
+        if (indexed != null) {
+            return indexed;
+        }
+        String query = toBooleanQuery(keyword);
+        if (!"fulltext".equalsIgnoreCase(searchMode) || !fulltextAvailable || query.isEmpty()) {
+            return productMapper.searchProducts(keyword);
+        }
+        try {
+            // ngram 검색은 토큰 길이 이상의 단어에 대해 부분 문자열 검색과 같으므로 결과가 없어도 LIKE로 다시 찾지 않음
+            return productMapper.searchProductsFulltext(keyword.trim(), query);
+        } catch (DataAccessException e) {
+            if (e.getMostSpecificCause() instanceof SQLException sqlException
+                    && sqlException.getErrorCode() == ER_FT_MATCHING_KEY_NOT_FOUND) {
+                fulltextAvailable = false;
+                log.warn("FULLTEXT 인덱스가 없어 LIKE 검색으로 전환합니다 (db/product_fulltext_index.sql로 인덱스 추가 가능)");
+            } else {
+                log.warn("전문 검색 실패, LIKE 검색으로 대체: {}", e.getMessage());
+            }
+            return productMapper.searchProducts(keyword);
+        }
+    }
+
+    // 검색어 -> BOOLEAN MODE 검색식 (모든 단어 포함). 쓸 수 있는 단어가 없으면 빈 문자열
+    private String toBooleanQuery(String keyword) {
+        if (keyword == null) {
+            return "";
+        }
+        StringBuilder query = new StringBuilder();
+        for (String word : keyword.replaceAll(BOOLEAN_OPERATORS, " ").trim().split("\\s+")) {
+            if (word.length() < ngramTokenSize) {
+                // 한 글자 단어가 섞이면 ngram으로는 같은 결과를 낼 수 없음
+                return "";
+            }
+            if (query.length() > 0) {
+                query.append(' ');
+            }
+            query.append('+').append(word);
+        }
+        return query.toString();
+    }
+
     // API에서 제품 검색
     private List<ProductDto> searchProductsFromApi(String keyword, int page) {
         log.info("API 검색: keyword={}, page={}", keyword, page);
@@ -142,31 +211,24 @@ public class ProductService {
     
             URI uri = URI.create(fullUrl);
     
-            HttpHeaders headers = new HttpHeaders();
-            headers.setAccept(Collections.singletonList(MediaType.APPLICATION_JSON));
-            HttpEntity<?> entity = new HttpEntity<>(headers);
-    
-            ResponseEntity<String> response = restTemplate.exchange(uri, HttpMethod.GET, entity, String.class);
+            // 공공데이터 API 장애 시 서킷 브레이커로 빠르게 실패
+            // 응답 본문은 문자열/트리로 올리지 않고 스트림에서 바로 DTO로 읽음 (오류 상태 코드는 예외)
+            HealthFoodSearchResult response = dependencyGuards.get(DependencyGuards.HEALTH_FOOD)
+                    .call(() -> restTemplate.execute(uri, HttpMethod.GET,
+                            request -> request.getHeaders().setAccept(Collections.singletonList(MediaType.APPLICATION_JSON)),
+                            apiResponse -> healthFoodResponseParser.parse(apiResponse.getBody())));
     
-            if (response.getStatusCode().is2xxSuccessful() && response.getBody() != null) {
-                JsonNode root = objectMapper.readTree(response.getBody());
-                JsonNode header = root.path("header");
-    
-                String resultCode = header.path("resultCode").asText();
-                if (!"00".equals(resultCode)) {
-                    log.error("API 오류 응답: {}, {}", resultCode, header.path("resultMsg").asText());
+            if (response != null) {
+                if (!response.isSuccess()) {
+                    log.error("API 오류 응답: {}, {}", response.getResultCode(), response.getResultMsg());
                     return results;
                 }
     
-                JsonNode body = root.path("body");
-                JsonNode items = body.path("items");
-    
-                if (items.isArray()) {
-                    for (JsonNode itemNode : items) {
-                        JsonNode item = itemNode.path("item");
-                        ProductDto productDto = item.isMissingNode() ?
-                                parseProductFromJson(itemNode) : parseProductFromJson(item);
-                        if (productDto != null) results.add(productDto);
+                for (HealthFunctionalFoodDto item : response.getItems()) {
+                    ProductDto productDto = toProductDto(item);
+                    if (productDto != null) {
+                        results.add(productDto);
+                        saveProductToDb(productDto);
                     }
                 }
     
@@ -193,17 +255,14 @@ public class ProductService {
         return convertToDto(product);
     }
 
-    // JSON을 Product 객체로 파싱
-    private ProductDto parseProductFromJson(JsonNode item) {
+    // API 응답 항목을 ProductDto로 변환
+    private ProductDto toProductDto(HealthFunctionalFoodDto item) {
         if (item == null) {
             return null;
         }
         
         try {
-            // 로그에 파싱할 항목 출력
-            log.debug("파싱할 항목: {}", item.toString());
-            
-            String productName = getTextFromNode(item, "PRDUCT"); // 제품명
+            String productName = item.getPrduct(); // 제품명
             
             // 제품명이 없으면 건너뛰기
             if (productName.isEmpty()) {
@@ -211,8 +270,8 @@ public class ProductService {
                 return null;
             }
             
-            String companyName = getTextFromNode(item, "ENTRPS"); // 업체명
-            String reportNo = getTextFromNode(item, "STTEMNT_NO"); // 품목제조신고번호
+            String companyName = item.getEntrps(); // 업체명
+            String reportNo = item.getSttemntNo(); // 품목제조신고번호
             
             // 제품 ID 생성
             Long prdId;
@@ -240,12 +299,12 @@ public class ProductService {
             dto.setRegistrationNo(reportNo);
             
             // 추가 정보 매핑
-            dto.setExpirationPeriod(getTextFromNode(item, "DISTB_PD")); // 유통기한
-            dto.setMainFunction(getTextFromNode(item, "MAIN_FNCTN")); // 주요기능
-            dto.setIntakeHint(getTextFromNode(item, "INTAKE_HINT1")); // 섭취시 주의사항
-            dto.setPreservation(getTextFromNode(item, "PRSRV_PD")); // 보관방법
-            dto.setSrvUse(getTextFromNode(item, "SRV_USE")); // 섭취방법
-            dto.setBaseStandard(getTextFromNode(item, "BASE_STANDARD")); // 기준규격
+            dto.setExpirationPeriod(item.getDistbPd()); // 유통기한
+            dto.setMainFunction(item.getMainFnctn()); // 주요기능
+            dto.setIntakeHint(item.getIntakeHint()); // 섭취시 주의사항
+            dto.setPreservation(item.getPrsrvPd()); // 보관방법
+            dto.setSrvUse(item.getSrvUse()); // 섭취방법
+            dto.setBaseStandard(item.getBaseStandard()); // 기준규격
             
             log.info("파싱된 제품: {}", productName);
             return dto;
@@ -255,40 +314,19 @@ public class ProductService {
         }
     }
 
-    // 노드에서 텍스트 안전하게 가져오기
-    private String getTextFromNode(JsonNode node, String fieldName) {
-        if (node == null || node.path(fieldName).isMissingNode()) {
-            return "";
-        }
-        return node.path(fieldName).asText("").trim();
-    }
-
-    // 제품 정보를 DB에 저장 - 기능 구현예정
+    // 제품 정보를 DB 저장 대기열에 추가 (ProductWriteBehindQueue가 모아서 upsert, 검색 응답은 기다리지 않음)
+    // 신고번호로 만든 ID만 저장 - 그 외 임시 ID는 요청마다 달라져 같은 제품이 중복 저장됨
     private void saveProductToDb(ProductDto productDto) {
-        /* try { 
-            // ID가 0인 경우 처리
-            if (productDto.getPrdId() == 0) {
-                productDto.setPrdId(generateTempId(productDto.getProductName()));
-            }
-            
-            // 이미 존재하는지 확인
-            Product existingProduct = productMapper.getProductById(productDto.getPrdId());
-            
-            if (existingProduct == null) {
-                // 새 제품 저장
-                Product product = convertToEntity(productDto);
-                productMapper.insertProduct(product);
-                log.info("새 제품 DB에 저장: {}", productDto.getProductName());
-            } else {
-                // 기존 제품 갱신
-                Product product = convertToEntity(productDto);
-                productMapper.updateProduct(product);
-                log.info("기존 제품 정보 업데이트: {}", productDto.getProductName());
-            }
-        } catch (Exception e) {
-            log.error("제품 저장 중 오류: {}", e.getMessage(), e);
-            throw e;
-        } */
+        String registrationNo = productDto.getRegistrationNo();
+        if (registrationNo == null || productDto.getPrdId() == null) {
+            return;
+        }
+        String numericPart = registrationNo.replaceAll("[^0-9]", "");
+        if (numericPart.isEmpty() || numericPart.length() > 18
+                || Long.parseLong(numericPart) != productDto.getPrdId()) {
+            return;
+        }
+        productWriteBehindQueue.enqueue(convertToEntity(productDto));
     }
 
     // 임시 ID 생성
@@ -0,0 +1,263 @@
+package com.suppleit.backend.service;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.RecoverableDataAccessException;
+import org.springframework.dao.TransientDataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import com.suppleit.backend.model.Product;
+import com.suppleit.backend.support.ExecutorRegistry;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 공공데이터 API로 받은 제품을 모아 두었다가 일괄 저장하는 write-behind 큐.
+ * 검색 요청은 큐에 넣기만 하고 바로 응답하며, 같은 품목제조신고번호(없으면 제품 ID)는 마지막 값 하나만 남긴다.
+ * 주기적으로(또는 batch-size만큼 쌓이면 바로) ProductBatchWriter로 batch-size건씩 upsert한다
+ * (MyBatis BATCH 실행기, INSERT ... ON DUPLICATE KEY UPDATE).
+ * 연결 실패나 락 대기 같은 일시적 오류면 배치를 다시 큐에 넣어 다음 주기에 재시도하고, 제품마다 max-attempts번 실패하면 버린다.
+ * 제약 조건 위반 같은 그 밖의 DB 오류는 재시도해도 같으므로 배치를 절반씩 나눠 다시 저장하고, 한 건만 남아도 실패하는 제품은 바로 버린다.
+ * 큐가 max-pending을 넘으면 새 제품은 버린다 (다음 검색에서 다시 들어옴).
+ *
+ * 설정 예 (없으면 기본값)
+ * <pre>
+ * product.write-behind.batch-size=200
+ * product.write-behind.max-pending=10000
+ * product.write-behind.flush-interval-ms=2000
+ * product.write-behind.max-attempts=5
+ * </pre>
+ */
+@Service
+@Slf4j
+public class ProductWriteBehindQueue {
+
+    private final ProductBatchWriter productBatchWriter;
+    private final ExecutorService flushExecutor;
+    private final int batchSize;
+    private final int maxPending;
+    private final int maxAttempts;
+
+    // 중복 제거 키 -> 저장 대기 제품
+    private final Map<String, Product> pending = new ConcurrentHashMap<>();
+    // 중복 제거 키 -> 일시적 오류로 저장에 실패한 횟수 (저장하거나 버리면 삭제)
+    private final Map<String, Integer> attempts = new ConcurrentHashMap<>();
+    private final AtomicBoolean flushing = new AtomicBoolean();
+
+    private final Counter enqueuedCounter;
+    private final Counter droppedCounter;
+    private final Counter writtenCounter;
+    private final Counter failedCounter;
+    private final Counter discardedCounter;
+    private final Timer flushTimer;
+
+    public ProductWriteBehindQueue(
+            ProductBatchWriter productBatchWriter,
+            ExecutorRegistry executorRegistry,
+            MeterRegistry meterRegistry,
+            @Value("${product.write-behind.batch-size:200}") int batchSize,
+            @Value("${product.write-behind.max-pending:10000}") int maxPending,
+            @Value("${product.write-behind.max-attempts:5}") int maxAttempts) {
+        this.productBatchWriter = productBatchWriter;
+        // 한 번에 하나만 flush (대기열 1: 진행 중일 때 한 번 더 예약)
+        this.flushExecutor = executorRegistry.get(ExecutorRegistry.PRODUCT_WRITE_BEHIND, 1, 1);
+        this.batchSize = Math.max(1, batchSize);
+        this.maxPending = maxPending;
+        this.maxAttempts = Math.max(1, maxAttempts);
+
+        Gauge.builder("product.ingest.pending", pending, Map::size)
+                .description("저장 대기 중인 공공데이터 API 제품 수")
+                .register(meterRegistry);
+        this.enqueuedCounter = counter(meterRegistry, "enqueued", "저장 대기열에 넣은 제품 수 (중복 포함)");
+        this.droppedCounter = counter(meterRegistry, "dropped", "대기열이 가득 차 버린 제품 수");
+        this.writtenCounter = counter(meterRegistry, "written", "DB에 저장(upsert)한 제품 수");
+        this.failedCounter = counter(meterRegistry, "failed", "저장에 실패해 다시 대기열에 넣은 제품 수");
+        this.discardedCounter = counter(meterRegistry, "discarded", "저장에 계속 실패해 버린 제품 수");
+        this.flushTimer = Timer.builder("product.ingest.flush")
+                .description("일괄 저장 1회(배치 하나) 소요 시간")
+                .register(meterRegistry);
+    }
+
+    private static Counter counter(MeterRegistry meterRegistry, String result, String description) {
+        return Counter.builder("product.ingest")
+                .description(description)
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    /**
+     * 저장 대기열에 넣는다 (DB 작업 없음). 제품 ID가 없으면 무시한다.
+     */
+    public void enqueue(Product product) {
+        if (product == null || product.getPrdId() == null) {
+            return;
+        }
+        String key = dedupeKey(product);
+        if (pending.size() >= maxPending && !pending.containsKey(key)) {
+            droppedCounter.increment();
+            return;
+        }
+        pending.put(key, product);
+        enqueuedCounter.increment();
+        if (pending.size() >= batchSize) {
+            requestFlush();
+        }
+    }
+
+    public int pendingCount() {
+        return pending.size();
+    }
+
+    @Scheduled(initialDelayString = "${product.write-behind.flush-interval-ms:2000}",
+            fixedDelayString = "${product.write-behind.flush-interval-ms:2000}")
+    public void scheduledFlush() {
+        if (!pending.isEmpty()) {
+            requestFlush();
+        }
+    }
+
+    private void requestFlush() {
+        try {
+            flushExecutor.execute(this::flush);
+        } catch (RejectedExecutionException e) {
+            // 이미 flush가 진행 중이고 한 번 더 예약되어 있음
+        }
+    }
+
+    /**
+     * 대기 중인 제품을 batch-size씩 저장한다 (동시에 한 번만 실행).
+     */
+    public void flush() {
+        if (!flushing.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            List<Product> batch;
+            while (!(batch = drain()).isEmpty()) {
+                if (!write(batch)) {
+                    break; // DB 장애 시 다음 주기에 재시도
+                }
+            }
+        } finally {
+            flushing.set(false);
+        }
+    }
+
+    // 대기열에서 최대 batch-size건을 꺼냄
+    private List<Product> drain() {
+        List<Product> batch = new ArrayList<>(Math.min(batchSize, pending.size()));
+        Iterator<Map.Entry<String, Product>> iterator = pending.entrySet().iterator();
+        while (iterator.hasNext() && batch.size() < batchSize) {
+            Map.Entry<String, Product> entry = iterator.next();
+            // 꺼내는 사이에 새 값으로 바뀌었으면 새 값은 남겨 둠
+            if (pending.remove(entry.getKey(), entry.getValue())) {
+                batch.add(entry.getValue());
+            }
+        }
+        return batch;
+    }
+
+    // 배치 저장. 일시적 오류로 다시 큐에 넣었으면 false (DB 장애로 보고 이번 flush 중단)
+    private boolean write(List<Product> batch) {
+        long startedAt = System.nanoTime();
+        try {
+            return writeOrSplit(batch);
+        } finally {
+            flushTimer.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    // 일시적이지 않은 오류면 절반씩 나눠 다시 저장해 실패하는 제품만 골라 버림
+    private boolean writeOrSplit(List<Product> batch) {
+        try {
+            productBatchWriter.upsertAll(batch);
+            batch.forEach(product -> attempts.remove(dedupeKey(product)));
+            writtenCounter.increment(batch.size());
+            log.debug("공공데이터 API 제품 {}건 일괄 저장", batch.size());
+            return true;
+        } catch (Exception e) {
+            if (isTransient(e)) {
+                requeue(batch, e);
+                return false;
+            }
+            if (batch.size() == 1) {
+                discard(batch.get(0), e);
+                return true;
+            }
+            int middle = batch.size() / 2;
+            List<Product> rest = batch.subList(middle, batch.size());
+            if (!writeOrSplit(batch.subList(0, middle))) {
+                // 나머지 절반은 시도하지 않았으므로 실패 횟수 없이 되돌림
+                rest.forEach(product -> pending.putIfAbsent(dedupeKey(product), product));
+                return false;
+            }
+            return writeOrSplit(rest);
+        }
+    }
+
+    // 실패 횟수를 올려 max-attempts 전이면 다시 큐에 넣고, 넘으면 버림
+    private void requeue(List<Product> batch, Exception e) {
+        int requeued = 0;
+        for (Product product : batch) {
+            String key = dedupeKey(product);
+            if (attempts.merge(key, 1, Integer::sum) >= maxAttempts) {
+                discard(product, e);
+            } else {
+                // 대기 중 더 새로운 값이 들어왔으면 그 값을 유지
+                pending.putIfAbsent(key, product);
+                requeued++;
+            }
+        }
+        failedCounter.increment(requeued);
+        log.warn("공공데이터 API 제품 일괄 저장 실패 ({}건, 다음 주기에 재시도): {}", requeued, e.getMessage());
+    }
+
+    private void discard(Product product, Exception e) {
+        attempts.remove(dedupeKey(product));
+        discardedCounter.increment();
+        log.warn("공공데이터 API 제품 저장 포기 (prdId={}, 품목제조신고번호={}): {}", product.getPrdId(),
+                product.getRegistrationNo(), e.getMessage());
+    }
+
+    // 연결 실패, 락 대기 시간 초과, 트랜잭션 시작 실패처럼 다시 시도하면 성공할 수 있는 오류
+    private static boolean isTransient(Exception e) {
+        return !(e instanceof DataAccessException)
+                || e instanceof TransientDataAccessException
+                || e instanceof RecoverableDataAccessException
+                || e instanceof DataAccessResourceFailureException;
+    }
+
+    // 품목제조신고번호 우선, 없으면 제품 ID
+    private static String dedupeKey(Product product) {
+        String registrationNo = product.getRegistrationNo();
+        return registrationNo != null && !registrationNo.isBlank()
+                ? "reg:" + registrationNo.trim()
+                : "id:" + product.getPrdId();
+    }
+
+    // 종료 전에 남은 제품 저장 (ExecutorRegistry 종료와 별개로 호출 스레드에서 실행)
+    @PreDestroy
+    public void shutdown() {
+        if (!pending.isEmpty()) {
+            log.info("종료 전 저장 대기 제품 {}건 저장", pending.size());
+            flush();
+        }
+    }
+}
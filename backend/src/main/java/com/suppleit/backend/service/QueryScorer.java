@@ -0,0 +1,87 @@
+package com.suppleit.backend.service;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 검색어 1건에 대한 상품명 관련성 점수 계산기.
+ * 검색어 소문자 변환과 단어 분리는 생성 시 한 번만 하고, 상품명은 재사용 버퍼에 태그를 걷어낸
+ * 소문자로 복사해 비교하므로 점수 계산 중에는 객체를 할당하지 않는다 (버퍼보다 긴 상품명 제외).
+ * 내부 버퍼를 쓰므로 스레드 간에 공유하지 않는다 (요청/검색어마다 생성).
+ */
+public final class QueryScorer {
+
+  private final String lowerQuery;
+  private final String[] words;
+  private char[] buffer = new char[128];
+  private int length;
+
+  public QueryScorer(String query) {
+    this.lowerQuery = query.toLowerCase();
+    List<String> tokens = new ArrayList<>();
+    for (String word : lowerQuery.split("\\s+")) {
+      // 한 글자 단어는 점수에 반영하지 않음
+      if (word.length() > 1) {
+        tokens.add(word);
+      }
+    }
+    this.words = tokens.toArray(new String[0]);
+  }
+
+  /**
+   * 상품명(네이버 응답의 &lt;b&gt; 태그 포함)의 관련성 점수.
+   * 전체 검색어가 포함되면 +100, 두 글자 이상 단어가 포함될 때마다 +10.
+   */
+  public int score(String title) {
+    load(title);
+    int score = 0;
+
+    // 전체 쿼리가 제목에 포함되면 높은 점수
+    if (contains(lowerQuery)) {
+      score += 100;
+    }
+
+    // 개별 단어 일치 점수
+    for (String word : words) {
+      if (contains(word)) {
+        score += 10;
+      }
+    }
+    return score;
+  }
+
+  // HTML 태그("<...>")를 건너뛰며 소문자로 버퍼에 복사 (닫는 '>'가 없으면 그대로 둠)
+  private void load(String title) {
+    if (buffer.length < title.length()) {
+      buffer = new char[Math.max(title.length(), buffer.length * 2)];
+    }
+    length = 0;
+    int i = 0;
+    while (i < title.length()) {
+      char c = title.charAt(i);
+      if (c == '<') {
+        int close = title.indexOf('>', i + 1);
+        if (close >= 0) {
+          i = close + 1;
+          continue;
+        }
+      }
+      buffer[length++] = Character.toLowerCase(c);
+      i++;
+    }
+  }
+
+  private boolean contains(String pattern) {
+    int last = length - pattern.length();
+    for (int start = 0; start <= last; start++) {
+      int j = 0;
+      while (j < pattern.length() && buffer[start + j] == pattern.charAt(j)) {
+        j++;
+      }
+      if (j == pattern.length()) {
+        return true;
+      }
+    }
+    return false;
+  }
+}
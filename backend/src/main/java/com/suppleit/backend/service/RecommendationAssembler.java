@@ -0,0 +1,113 @@
+package com.suppleit.backend.service;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import com.suppleit.backend.dto.ProductResponse;
+
+/**
+ * 추천 응답 1건을 조립하는 도우미 (요청마다 새로 생성).
+ * 하위 검색마다 관련도 1순위 상품을 채택하고, 나머지 후보는 버리지 않고 보관했다가
+ * 빈 자리를 채울 때 사용한다. 상품은 productId(없으면 링크) 기준으로 중복 제거한다.
+ * 여러 스레드에서 조회가 끝나는 순서대로 호출될 수 있으므로 메서드는 동기화한다.
+ */
+public class RecommendationAssembler {
+
+  // 추천 응답 상품 개수
+  public static final int RESPONSE_SIZE = 5;
+
+  private final int targetSize;
+  private final List<ProductResponse> picked = new ArrayList<>();
+  // 하위 검색별 남은 후보 (관련도 순)
+  private final List<List<ProductResponse>> runnerUps = new ArrayList<>();
+  private final Set<String> usedKeys = new HashSet<>();
+
+  public RecommendationAssembler(int targetSize) {
+    this.targetSize = targetSize;
+  }
+
+  /**
+   * 추천 키워드별 네이버 하위 검색어 목록 (추천 키워드 + 원본 키워드로 검색 관련성 높이기).
+   * 빈 자리는 차순위 후보로 채우므로 원본 키워드 검색 1건을 제외한 자리 수만큼만 만든다.
+   */
+  public static List<String> subQueries(String keyword, List<String> recommendations, int targetSize) {
+    List<String> queries = new ArrayList<>();
+    for (String recommendation : recommendations) {
+      if (queries.size() >= targetSize - 1) {
+        break;
+      }
+      queries.add(recommendation + " " + keyword);
+    }
+    return queries;
+  }
+
+  /**
+   * 하위 검색 1건의 후보 목록을 받아 아직 쓰지 않은 최상위 상품을 채택한다.
+   * 채택된 상품을 반환하며, 자리가 다 찼거나 쓸 수 있는 후보가 없으면 null.
+   */
+  public synchronized ProductResponse accept(List<ProductResponse> candidates) {
+    if (candidates == null || candidates.isEmpty()) {
+      return null;
+    }
+    ProductResponse chosen = null;
+    List<ProductResponse> rest = new ArrayList<>();
+    for (ProductResponse candidate : candidates) {
+      if (chosen == null && picked.size() < targetSize && usedKeys.add(keyOf(candidate))) {
+        chosen = candidate;
+        picked.add(candidate);
+      } else {
+        rest.add(candidate);
+      }
+    }
+    if (!rest.isEmpty()) {
+      runnerUps.add(rest);
+    }
+    return chosen;
+  }
+
+  /**
+   * 남은 자리를 보관한 후보로 채우고 새로 추가된 상품을 반환한다.
+   * 하위 검색마다 순위가 높은 후보부터 번갈아 꺼내 한 검색어 결과로 쏠리지 않게 한다.
+   */
+  public synchronized List<ProductResponse> backfill() {
+    List<ProductResponse> added = new ArrayList<>();
+    for (int rank = 0; picked.size() < targetSize; rank++) {
+      boolean remaining = false;
+      for (List<ProductResponse> candidates : runnerUps) {
+        if (rank >= candidates.size()) {
+          continue;
+        }
+        remaining = true;
+        ProductResponse candidate = candidates.get(rank);
+        if (picked.size() < targetSize && usedKeys.add(keyOf(candidate))) {
+          picked.add(candidate);
+          added.add(candidate);
+        }
+      }
+      if (!remaining) {
+        break;
+      }
+    }
+    runnerUps.clear();
+    return added;
+  }
+
+  public synchronized List<ProductResponse> getPicked() {
+    return new ArrayList<>(picked);
+  }
+
+  public synchronized int size() {
+    return picked.size();
+  }
+
+  // 중복 판단 키: 네이버 상품 ID, 없으면 상품 링크
+  private static String keyOf(ProductResponse product) {
+    String productId = product.getProductId();
+    if (productId != null && !productId.isEmpty()) {
+      return "id:" + productId;
+    }
+    return "link:" + product.getLink();
+  }
+}
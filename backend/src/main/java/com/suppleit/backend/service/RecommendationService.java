@@ -1,10 +1,13 @@
 package com.suppleit.backend.service;
 
 import java.net.URI;
-import java.util.ArrayList;
+import java.time.Duration;
 import java.util.List;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicReference;
 
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpHeaders;
@@ -13,9 +16,17 @@ import org.springframework.stereotype.Service;
 import org.springframework.web.client.RestTemplate;
 import org.springframework.web.util.UriComponentsBuilder;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import com.suppleit.backend.dto.RecommendationResponse;
+import com.suppleit.backend.support.DependencyGuards;
+import com.suppleit.backend.support.ExecutorRegistry;
+import com.suppleit.backend.support.SingleFlight;
 
-import jakarta.annotation.PreDestroy;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
@@ -25,11 +36,40 @@ import lombok.extern.slf4j.Slf4j;
 public class RecommendationService {
 
   private final RestTemplate restTemplate;
-  private final ExecutorService executorService = Executors.newFixedThreadPool(10);
+  private final MeterRegistry meterRegistry;
+  private final DependencyGuards dependencyGuards;
+  private final FallbackRecommendationIndex fallbackIndex;
+  private final ExecutorRegistry executorRegistry;
+  private ExecutorService executorService;
 
   @Value("${flask.api.url}")
   private String flaskUrl;
 
+  @Value("${flask.cache.max-size:5000}")
+  private long cacheMaxSize;
+
+  @Value("${flask.cache.ttl-hours:24}")
+  private long cacheTtlHours;
+
+  // 키워드 -> 추천 제품명 캐시 (TF-IDF 모델은 CSV 재배포 시에만 바뀌므로 모델 버전 단위로 유지)
+  private Cache<String, List<String>> recommendationCache;
+  // 캐시에 담긴 결과를 만든 모델 버전
+  private final AtomicReference<String> modelVersion = new AtomicReference<>();
+  // 같은 키워드의 동시 요청은 Flask 호출 1번으로 합침
+  private SingleFlight<String, List<String>> inFlightRequests;
+
+  @PostConstruct
+  public void initCache() {
+    recommendationCache = Caffeine.newBuilder()
+        .maximumSize(cacheMaxSize)
+        .expireAfterWrite(Duration.ofHours(cacheTtlHours))
+        .recordStats()
+        .build();
+    CaffeineCacheMetrics.monitor(meterRegistry, recommendationCache, "flaskRecommendation");
+    inFlightRequests = new SingleFlight<>("flaskRecommendation", meterRegistry);
+    executorService = executorRegistry.get(ExecutorRegistry.FLASK, 10, 100);
+  }
+
   @Value("${naver.api.client-id}")
   private String clientId;
 
@@ -44,34 +84,107 @@ public class RecommendationService {
   }
 
   public List<String> getRecommendations(String keyword) {
+    return getRecommendationsAsync(keyword).join();
+  }
+
+  /**
+   * 추천 키워드 비동기 조회. 캐시에 없으면 같은 키워드로 진행 중인 Flask 호출을 공유하고,
+   * 진행 중인 호출도 없을 때만 새로 요청한다.
+   * Flask 서킷이 열려 있으면 호출하지 않고 JVM 내 대체 색인 결과를 바로 반환한다.
+   */
+  public CompletableFuture<List<String>> getRecommendationsAsync(String keyword) {
+    String cacheKey = normalizeKeyword(keyword);
+    List<String> cached = recommendationCache.getIfPresent(cacheKey);
+    if (cached != null) {
+      log.debug("Recommendation cache hit for keyword: {}", keyword);
+      return CompletableFuture.completedFuture(cached);
+    }
+    if (fallbackIndex.isReady() && dependencyGuards.get(DependencyGuards.FLASK).isOpen()) {
+      return CompletableFuture.completedFuture(getFallbackRecommendations(keyword, "circuit_open"));
+    }
+    return inFlightRequests.execute(cacheKey,
+        () -> CompletableFuture.supplyAsync(() -> fetchRecommendations(keyword, cacheKey), executorService));
+  }
+
+  // 캐시에 추천 결과가 있는지 (사전 워밍 대상 판단용, 캐시 적중률 통계에는 반영 안 됨)
+  public boolean isCached(String keyword) {
+    return recommendationCache.asMap().containsKey(normalizeKeyword(keyword));
+  }
+
+  private List<String> fetchRecommendations(String keyword, String cacheKey) {
     log.info("Fetching recommendations for keyword: {}", keyword);
-    // 캐시 버스팅을 위한 타임스탬프 추가
-    String timestamp = String.valueOf(System.currentTimeMillis());
     // Flask 서버의 recommend 엔드포인트로 요청
     URI uri = UriComponentsBuilder.fromUriString(flaskUrl + "/recommend")
         .queryParam("keyword", keyword)
-        .queryParam("_", timestamp) // 캐시 버스팅 파라미터 추가
         .build()
         .encode() // 이 줄이 추가됨 - URI 인코딩 처리
         .toUri();
     try {
       log.debug("Calling Flask API with URI: {}", uri);
-      ResponseEntity<RecommendationResponse> response = restTemplate.getForEntity(uri, RecommendationResponse.class);
-      if (response.getBody() != null && response.getBody().getRecommendations() != null) {
-        log.info("Received recommendations: {}", response.getBody().getRecommendations());
-        return response.getBody().getRecommendations();
+      // Flask 컨테이너 재시작 등으로 실패가 이어지면 서킷이 열려 타임아웃을 기다리지 않고 바로 실패
+      ResponseEntity<RecommendationResponse> response = dependencyGuards.get(DependencyGuards.FLASK)
+          .call(() -> restTemplate.getForEntity(uri, RecommendationResponse.class));
+      RecommendationResponse body = response.getBody();
+      if (body != null && body.getRecommendations() != null) {
+        log.info("Received recommendations: {}", body.getRecommendations());
+        List<String> recommendations = List.copyOf(body.getRecommendations());
+        // 랜덤 추천(fallback)은 요청마다 달라지므로 캐싱하지 않음
+        if (!body.isFallback()) {
+          onModelVersion(body.getModelVersion());
+          recommendationCache.put(cacheKey, recommendations);
+        }
+        return recommendations;
       } else {
         log.warn("No recommendations found for keyword: {}", keyword);
-        return new ArrayList<>();
+        return getFallbackRecommendations(keyword, "empty");
       }
     } catch (Exception e) {
       log.error("Error fetching recommendations from Flask API: {}", e.getMessage());
-      return new ArrayList<>();
+      return getFallbackRecommendations(keyword, "error");
+    }
+  }
+
+  /**
+   * JVM 내 대체 색인으로 추천 키워드 조회 (Flask 장애, 서킷 열림, 응답 시간 예산 초과 시).
+   * Flask 모델 결과와 다를 수 있으므로 캐시에는 넣지 않는다.
+   */
+  public List<String> getFallbackRecommendations(String keyword, String reason) {
+    List<String> recommendations = fallbackIndex.recommend(keyword, FallbackRecommendationIndex.DEFAULT_LIMIT);
+    Counter.builder("recommend.fallback")
+        .description("Flask 대신 JVM 내 대체 색인으로 응답한 추천 요청 수")
+        .tag("reason", reason)
+        .register(meterRegistry)
+        .increment();
+    log.info("Serving {} fallback recommendations for keyword: {} ({})", recommendations.size(), keyword, reason);
+    return recommendations;
+  }
+
+  // Flask 응답의 모델 버전이 바뀌었으면 이전 모델로 만든 캐시를 모두 비움
+  private void onModelVersion(String version) {
+    if (version == null) {
+      return;
     }
+    String previous = modelVersion.getAndSet(version);
+    if (previous != null && !Objects.equals(previous, version)) {
+      log.info("Recommendation model changed ({} -> {}), clearing cache", previous, version);
+      recommendationCache.invalidateAll();
+    }
+  }
+
+  /**
+   * 추천 캐시 수동 비우기 (관리자용)
+   */
+  public void clearCache() {
+    log.info("Recommendation cache cleared manually ({} entries)", recommendationCache.estimatedSize());
+    recommendationCache.invalidateAll();
+  }
+
+  public String getModelVersion() {
+    return modelVersion.get();
   }
 
-  @PreDestroy
-  public void shutdown() {
-    executorService.shutdown();
+  // 캐시 키: 앞뒤 공백 제거, 연속 공백 통일, 소문자 (TF-IDF 벡터라이저도 소문자로 처리)
+  public String normalizeKeyword(String keyword) {
+    return keyword.trim().replaceAll("\\s+", " ").toLowerCase(Locale.ROOT);
   }
 }
\ No newline at end of file
@@ -15,6 +15,7 @@ import java.util.List;
 @RequiredArgsConstructor
 public class ReviewService {
     private final ReviewMapper reviewMapper;
+    private final ProductSearchIndex productSearchIndex;
 
     public List<ReviewDto> getAllReviews() {
         return reviewMapper.getAllReviews();
@@ -41,8 +42,10 @@ public class ReviewService {
         reviewMapper.deleteReview(reviewId);
     }
 
+    // 리뷰 작성 시 제품 선택 (제품 검색 색인 우선, 색인을 쓸 수 없으면 DB)
     public List<Product> searchProducts(String keyword) {
-        return reviewMapper.searchProducts(keyword);
+        List<Product> indexed = productSearchIndex.searchByName(keyword, 10);
+        return indexed != null ? indexed : reviewMapper.searchProducts(keyword);
     }
 
     @Transactional
@@ -0,0 +1,131 @@
+package com.suppleit.backend.support;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.TreeMap;
+
+/**
+ * 여러 키워드 중 하나라도 문자열에 포함되는지 한 번의 순회로 판단하는 Aho-Corasick 오토마톤.
+ * 생성 시점에 전이표를 배열로 컴파일해 두므로 검사 시에는 객체를 할당하지 않는다.
+ * 생성 후에는 읽기 전용이라 여러 스레드에서 공유해도 안전하다.
+ */
+public final class AhoCorasickMatcher {
+
+    // 노드 i의 전이: edgeChars/edgeTargets[edgeStart[i] .. edgeStart[i + 1]) (문자 오름차순)
+    private final int[] edgeStart;
+    private final char[] edgeChars;
+    private final int[] edgeTargets;
+    private final int[] fail;
+    private final boolean[] terminal;
+
+    public AhoCorasickMatcher(Collection<String> keywords) {
+        List<TreeMap<Character, Integer>> trie = new ArrayList<>();
+        List<Boolean> ends = new ArrayList<>();
+        trie.add(new TreeMap<>());
+        ends.add(false);
+
+        for (String keyword : keywords) {
+            if (keyword == null || keyword.isEmpty()) {
+                continue;
+            }
+            int node = 0;
+            for (int i = 0; i < keyword.length(); i++) {
+                Integer next = trie.get(node).get(keyword.charAt(i));
+                if (next == null) {
+                    next = trie.size();
+                    trie.get(node).put(keyword.charAt(i), next);
+                    trie.add(new TreeMap<>());
+                    ends.add(false);
+                }
+                node = next;
+            }
+            ends.set(node, true);
+        }
+
+        int size = trie.size();
+        int edgeCount = size - 1;
+        this.edgeStart = new int[size + 1];
+        this.edgeChars = new char[edgeCount];
+        this.edgeTargets = new int[edgeCount];
+        this.fail = new int[size];
+        this.terminal = new boolean[size];
+
+        int offset = 0;
+        for (int node = 0; node < size; node++) {
+            edgeStart[node] = offset;
+            for (Map.Entry<Character, Integer> edge : trie.get(node).entrySet()) {
+                edgeChars[offset] = edge.getKey();
+                edgeTargets[offset] = edge.getValue();
+                offset++;
+            }
+            terminal[node] = ends.get(node);
+        }
+        edgeStart[size] = offset;
+
+        // BFS로 실패 링크 계산, 실패 링크 쪽이 키워드 끝이면 현재 노드도 매칭으로 표시
+        Queue<Integer> queue = new ArrayDeque<>();
+        for (int e = edgeStart[0]; e < edgeStart[1]; e++) {
+            fail[edgeTargets[e]] = 0;
+            queue.add(edgeTargets[e]);
+        }
+        while (!queue.isEmpty()) {
+            int node = queue.poll();
+            for (int e = edgeStart[node]; e < edgeStart[node + 1]; e++) {
+                int child = edgeTargets[e];
+                char c = edgeChars[e];
+                int f = fail[node];
+                int target;
+                while ((target = next(f, c)) < 0 && f != 0) {
+                    f = fail[f];
+                }
+                fail[child] = target < 0 || target == child ? 0 : target;
+                terminal[child] |= terminal[fail[child]];
+                queue.add(child);
+            }
+        }
+    }
+
+    /**
+     * 키워드 중 하나라도 text에 포함되어 있으면 true (String.contains와 같은 대소문자 구분 비교)
+     */
+    public boolean matchesAny(CharSequence text) {
+        if (text == null) {
+            return false;
+        }
+        int state = 0;
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            int target;
+            while ((target = next(state, c)) < 0 && state != 0) {
+                state = fail[state];
+            }
+            state = target < 0 ? 0 : target;
+            if (terminal[state]) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // 노드의 c 전이 대상 (없으면 -1), 전이 문자는 정렬되어 있으므로 이진 탐색
+    private int next(int node, char c) {
+        int low = edgeStart[node];
+        int high = edgeStart[node + 1] - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            char value = edgeChars[mid];
+            if (value < c) {
+                low = mid + 1;
+            } else if (value > c) {
+                high = mid - 1;
+            } else {
+                return edgeTargets[mid];
+            }
+        }
+        return -1;
+    }
+}
@@ -0,0 +1,87 @@
+package com.suppleit.backend.support;
+
+import java.util.List;
+import java.util.concurrent.AbstractExecutorService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 작업마다 가상 스레드를 새로 만드는 실행기 (풀링 없음).
+ * 동시 실행 수만 maxConcurrent로 제한하고, 넘치면 거절하거나 호출 스레드에서 실행한다.
+ * 블로킹 I/O 대기 중에는 캐리어(플랫폼) 스레드를 반납하므로 스레드 수가 처리량 상한이 되지 않는다.
+ */
+public class BoundedVirtualThreadExecutor extends AbstractExecutorService {
+
+    private final String name;
+    private final ExecutorService delegate;
+    private final Semaphore permits;
+    private final int maxConcurrent;
+    private final boolean callerRuns;
+    private final Runnable onRejected;
+
+    public BoundedVirtualThreadExecutor(String name, int maxConcurrent, boolean callerRuns, Runnable onRejected) {
+        this.name = name;
+        this.delegate = Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name(name + "-", 1).factory());
+        this.permits = new Semaphore(maxConcurrent);
+        this.maxConcurrent = maxConcurrent;
+        this.callerRuns = callerRuns;
+        this.onRejected = onRejected;
+    }
+
+    @Override
+    public void execute(Runnable command) {
+        if (!permits.tryAcquire()) {
+            onRejected.run();
+            if (callerRuns && !delegate.isShutdown()) {
+                command.run();
+                return;
+            }
+            throw new RejectedExecutionException("동시 실행 한도(" + maxConcurrent + ") 초과: " + name);
+        }
+        try {
+            delegate.execute(() -> {
+                try {
+                    command.run();
+                } finally {
+                    permits.release();
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            permits.release();
+            throw e;
+        }
+    }
+
+    // 실행 중인 작업 수
+    public int getActiveCount() {
+        return maxConcurrent - permits.availablePermits();
+    }
+
+    @Override
+    public void shutdown() {
+        delegate.shutdown();
+    }
+
+    @Override
+    public List<Runnable> shutdownNow() {
+        return delegate.shutdownNow();
+    }
+
+    @Override
+    public boolean isShutdown() {
+        return delegate.isShutdown();
+    }
+
+    @Override
+    public boolean isTerminated() {
+        return delegate.isTerminated();
+    }
+
+    @Override
+    public boolean awaitTermination(long timeout, TimeUnit unit) throws InterruptedException {
+        return delegate.awaitTermination(timeout, unit);
+    }
+}
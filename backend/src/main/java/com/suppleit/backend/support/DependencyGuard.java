@@ -0,0 +1,38 @@
+package com.suppleit.backend.support;
+
+import java.util.function.Supplier;
+
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+
+/**
+ * 외부 의존성 1개에 대한 서킷 브레이커 + 벌크헤드 묶음.
+ * 서킷이 열려 있으면 CallNotPermittedException, 동시 호출 한도를 넘으면 BulkheadFullException으로
+ * 대기 없이 바로 실패한다. 벌크헤드를 서킷 브레이커 바깥에 두어, 자체 동시 호출 한도로 거절된 호출은
+ * 의존성 장애(실패율)로 집계되지 않는다.
+ */
+public class DependencyGuard {
+
+    private final CircuitBreaker circuitBreaker;
+    private final Bulkhead bulkhead;
+
+    public DependencyGuard(CircuitBreaker circuitBreaker, Bulkhead bulkhead) {
+        this.circuitBreaker = circuitBreaker;
+        this.bulkhead = bulkhead;
+    }
+
+    public <T> T call(Supplier<T> supplier) {
+        return Bulkhead.decorateSupplier(bulkhead,
+                CircuitBreaker.decorateSupplier(circuitBreaker, supplier)).get();
+    }
+
+    // 서킷이 열려 있어 호출이 바로 거절되는 상태인지 여부
+    public boolean isOpen() {
+        CircuitBreaker.State state = circuitBreaker.getState();
+        return state == CircuitBreaker.State.OPEN || state == CircuitBreaker.State.FORCED_OPEN;
+    }
+
+    public String getName() {
+        return circuitBreaker.getName();
+    }
+}
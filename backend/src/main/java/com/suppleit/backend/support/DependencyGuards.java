@@ -0,0 +1,103 @@
+package com.suppleit.backend.support;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.HttpClientErrorException;
+
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadConfig;
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerConfig;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 외부 의존성별 DependencyGuard 레지스트리.
+ * 의존성마다 서킷 브레이커와 동시 호출 한도(벌크헤드)를 따로 두어, 한 의존성이 느려져도
+ * 다른 의존성이나 서블릿 스레드 풀 전체가 묶이지 않게 한다.
+ *
+ * 설정 예 (resilience.{name}.*, 없으면 기본값)
+ * <pre>
+ * resilience.naver.failure-rate-threshold=50
+ * resilience.naver.slow-call-ms=3000
+ * resilience.naver.window-size=20
+ * resilience.naver.open-seconds=30
+ * resilience.naver.half-open-calls=3
+ * resilience.naver.max-concurrent=10
+ * resilience.naver.max-wait-ms=50
+ * </pre>
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class DependencyGuards {
+
+    public static final String FLASK = "flask";
+    public static final String NAVER = "naver";
+    public static final String HEALTH_FOOD = "healthFood";
+    // 카탈로그 동기화용 (대량 페이지 조회가 사용자 검색의 서킷/동시 호출 한도를 쓰지 않도록 분리)
+    public static final String HEALTH_FOOD_SYNC = "healthFoodSync";
+
+    private final CircuitBreakerRegistry circuitBreakerRegistry;
+    private final BulkheadRegistry bulkheadRegistry;
+    private final Environment environment;
+
+    private final Map<String, DependencyGuard> guards = new ConcurrentHashMap<>();
+
+    public DependencyGuard get(String name) {
+        return guards.computeIfAbsent(name, this::create);
+    }
+
+    private DependencyGuard create(String name) {
+        String prefix = "resilience." + name + ".";
+
+        CircuitBreakerConfig circuitBreakerConfig = CircuitBreakerConfig.custom()
+                .failureRateThreshold(environment.getProperty(prefix + "failure-rate-threshold", Float.class, 50f))
+                .slowCallRateThreshold(environment.getProperty(prefix + "slow-call-rate-threshold", Float.class, 80f))
+                .slowCallDurationThreshold(Duration.ofMillis(
+                        environment.getProperty(prefix + "slow-call-ms", Long.class, 3000L)))
+                .slidingWindowSize(environment.getProperty(prefix + "window-size", Integer.class, 20))
+                .minimumNumberOfCalls(environment.getProperty(prefix + "minimum-calls", Integer.class, 10))
+                .waitDurationInOpenState(Duration.ofSeconds(
+                        environment.getProperty(prefix + "open-seconds", Long.class, 30L)))
+                // 열린 뒤 대기 시간이 지나면 자동으로 half-open 전환 후 일부 호출로 복구 여부 확인
+                .automaticTransitionFromOpenToHalfOpenEnabled(true)
+                .permittedNumberOfCallsInHalfOpenState(
+                        environment.getProperty(prefix + "half-open-calls", Integer.class, 3))
+                .recordException(DependencyGuards::isDependencyFailure)
+                .build();
+
+        BulkheadConfig bulkheadConfig = BulkheadConfig.custom()
+                .maxConcurrentCalls(environment.getProperty(prefix + "max-concurrent", Integer.class, 10))
+                .maxWaitDuration(Duration.ofMillis(environment.getProperty(prefix + "max-wait-ms", Long.class, 50L)))
+                .build();
+
+        CircuitBreaker circuitBreaker = circuitBreakerRegistry.circuitBreaker(name, circuitBreakerConfig);
+        circuitBreaker.getEventPublisher().onStateTransition(event ->
+                log.warn("Circuit breaker '{}' state changed: {}", name, event.getStateTransition()));
+        Bulkhead bulkhead = bulkheadRegistry.bulkhead(name, bulkheadConfig);
+
+        return new DependencyGuard(circuitBreaker, bulkhead);
+    }
+
+    // 의존성 장애로 볼 예외인지 판단 (요청 자체가 잘못된 4xx와 자체 레이트 리밋/벌크헤드/서킷 거절은 제외, 429는 포함)
+    private static boolean isDependencyFailure(Throwable ex) {
+        if (ex instanceof RateLimitExceededException
+                || ex instanceof BulkheadFullException
+                || ex instanceof CallNotPermittedException) {
+            return false;
+        }
+        if (ex instanceof HttpClientErrorException clientError) {
+            return clientError.getStatusCode().value() == 429;
+        }
+        return true;
+    }
+}
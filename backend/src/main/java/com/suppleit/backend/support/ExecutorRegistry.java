@@ -0,0 +1,162 @@
+package com.suppleit.backend.support;
+
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 이름별 스레드 풀 레지스트리.
+ * 풀마다 크기와 대기열 길이에 상한을 두고, executor.* 메트릭(활성 스레드, 대기열 길이, 대기 시간 executor.idle,
+ * 실행 시간)과 거절 수(executor.rejected)를 내보낸다. 애플리케이션 종료 시 남은 작업을 기다렸다가 정리한다.
+ * 가상 스레드 모드(spring.threads.virtual.enabled=true 또는 executor.{name}.virtual=true)에서는 스레드를
+ * 풀링하지 않고 작업마다 가상 스레드를 만들며, 동시 실행 수만 max-concurrent(기본 max-size + queue-capacity)로 제한한다.
+ *
+ * 설정 예 (executor.{name}.*, 없으면 호출한 쪽이 정한 기본값)
+ * <pre>
+ * executor.recommendFanout.max-size=20
+ * executor.recommendFanout.core-size=20
+ * executor.recommendFanout.queue-capacity=100
+ * executor.recommendFanout.keep-alive-seconds=60
+ * executor.recommendFanout.rejection-policy=abort
+ * executor.recommendFanout.virtual=true
+ * executor.recommendFanout.max-concurrent=110
+ * executor.shutdown-timeout-seconds=10
+ * </pre>
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ExecutorRegistry {
+
+    public static final String RECOMMEND_FANOUT = "recommendFanout";
+    public static final String FLASK = "flask";
+    public static final String NAVER_HEDGE = "naverHedge";
+    public static final String NAVER_SPECULATIVE = "naverSpeculative";
+    public static final String NAVER_REFRESH = "naverRefresh";
+    public static final String PRODUCT_WRITE_BEHIND = "productWriteBehind";
+    public static final String CATALOG_SYNC_JOB = "catalogSyncJob";
+    public static final String CATALOG_SYNC_PAGE = "catalogSyncPage";
+
+    /**
+     * 풀과 대기열이 모두 찼을 때의 처리.
+     * ABORT: RejectedExecutionException (호출한 쪽이 빈 결과 등으로 처리), CALLER_RUNS: 호출 스레드에서 바로 실행
+     */
+    public enum RejectionPolicy {
+        ABORT, CALLER_RUNS
+    }
+
+    private final Environment environment;
+    private final MeterRegistry meterRegistry;
+
+    private final Map<String, ExecutorService> pools = new ConcurrentHashMap<>();
+    private final Map<String, ExecutorService> executors = new ConcurrentHashMap<>();
+
+    public ExecutorService get(String name, int maxSize, int queueCapacity) {
+        return get(name, maxSize, queueCapacity, RejectionPolicy.ABORT);
+    }
+
+    /**
+     * 이름에 해당하는 풀을 반환한다 (처음 요청 시 생성). queueCapacity가 0이면 대기열 없이 바로 스레드에 넘긴다.
+     */
+    public ExecutorService get(String name, int maxSize, int queueCapacity, RejectionPolicy rejectionPolicy) {
+        return executors.computeIfAbsent(name, key -> create(key, maxSize, queueCapacity, rejectionPolicy));
+    }
+
+    private ExecutorService create(String name, int defaultMaxSize, int defaultQueueCapacity,
+            RejectionPolicy defaultRejectionPolicy) {
+        String prefix = "executor." + name + ".";
+        int maxSize = environment.getProperty(prefix + "max-size", Integer.class, defaultMaxSize);
+        int coreSize = Math.min(maxSize, environment.getProperty(prefix + "core-size", Integer.class, maxSize));
+        int queueCapacity = environment.getProperty(prefix + "queue-capacity", Integer.class, defaultQueueCapacity);
+        long keepAliveSeconds = environment.getProperty(prefix + "keep-alive-seconds", Long.class, 60L);
+        RejectionPolicy rejectionPolicy = environment.getProperty(prefix + "rejection-policy",
+                RejectionPolicy.class, defaultRejectionPolicy);
+
+        Counter rejected = Counter.builder("executor.rejected")
+                .description("풀과 대기열이 가득 차 거절(또는 호출 스레드에서 실행)된 작업 수")
+                .tag("name", name)
+                .register(meterRegistry);
+        if (environment.getProperty(prefix + "virtual", Boolean.class,
+                environment.getProperty("spring.threads.virtual.enabled", Boolean.class, false))) {
+            int maxConcurrent = environment.getProperty(prefix + "max-concurrent", Integer.class,
+                    maxSize + queueCapacity);
+            BoundedVirtualThreadExecutor executor = new BoundedVirtualThreadExecutor(name, maxConcurrent,
+                    rejectionPolicy == RejectionPolicy.CALLER_RUNS, rejected::increment);
+            Gauge.builder("executor.active", executor, BoundedVirtualThreadExecutor::getActiveCount)
+                    .description("실행 중인 작업 수")
+                    .tag("name", name)
+                    .register(meterRegistry);
+            pools.put(name, executor);
+            log.info("Executor created: name={}, virtual threads, maxConcurrent={}, rejectionPolicy={}",
+                    name, maxConcurrent, rejectionPolicy);
+            return ExecutorServiceMetrics.monitor(meterRegistry, executor, name, Tags.empty());
+        }
+
+        RejectedExecutionHandler delegate = rejectionPolicy == RejectionPolicy.CALLER_RUNS
+                ? new ThreadPoolExecutor.CallerRunsPolicy()
+                : new ThreadPoolExecutor.AbortPolicy();
+        RejectedExecutionHandler handler = (runnable, executor) -> {
+            rejected.increment();
+            delegate.rejectedExecution(runnable, executor);
+        };
+
+        BlockingQueue<Runnable> queue = queueCapacity > 0
+                ? new ArrayBlockingQueue<>(queueCapacity)
+                : new SynchronousQueue<>();
+        ThreadPoolExecutor pool = new ThreadPoolExecutor(coreSize, maxSize, keepAliveSeconds, TimeUnit.SECONDS,
+                queue, threadFactory(name), handler);
+        // 요청이 없을 때는 core 스레드도 정리
+        pool.allowCoreThreadTimeOut(true);
+        pools.put(name, pool);
+
+        log.info("Executor created: name={}, coreSize={}, maxSize={}, queueCapacity={}, rejectionPolicy={}",
+                name, coreSize, maxSize, queueCapacity, rejectionPolicy);
+        // 제출~실행 시작 대기 시간(executor.idle)과 실행 시간(executor)을 기록하는 래퍼
+        return ExecutorServiceMetrics.monitor(meterRegistry, pool, name, Tags.empty());
+    }
+
+    private static ThreadFactory threadFactory(String name) {
+        AtomicInteger threadCount = new AtomicInteger();
+        return runnable -> new Thread(runnable, name + "-" + threadCount.incrementAndGet());
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        long timeoutSeconds = environment.getProperty("executor.shutdown-timeout-seconds", Long.class, 10L);
+        pools.values().forEach(ExecutorService::shutdown);
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(timeoutSeconds);
+        for (Map.Entry<String, ExecutorService> entry : pools.entrySet()) {
+            try {
+                if (!entry.getValue().awaitTermination(Math.max(0, deadline - System.nanoTime()),
+                        TimeUnit.NANOSECONDS)) {
+                    int dropped = entry.getValue().shutdownNow().size();
+                    log.warn("Executor {} did not terminate in {}s, {} queued tasks dropped",
+                            entry.getKey(), timeoutSeconds, dropped);
+                }
+            } catch (InterruptedException e) {
+                entry.getValue().shutdownNow();
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+}
@@ -0,0 +1,166 @@
+package com.suppleit.backend.support;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * 자주 등장하는 키(인기 검색어)를 고정 메모리로 추적하는 스케치.
+ * 빈도는 Count-Min 스케치(depth x width 카운터)로 추정하고, 추정치가 큰 후보 capacity개를
+ * 슬롯 배열에 유지한다. 모든 갱신은 락 없이 CAS로 처리한다.
+ *
+ * decayNanos마다 모든 카운터를 절반으로 줄여(지수 감쇠) 최근 트래픽의 비중이 커지도록 한다.
+ * 동시 갱신 경합으로 같은 키가 두 슬롯에 들어갈 수 있으나 조회 시 큰 값 하나만 남긴다.
+ */
+public final class HeavyHitterSketch {
+
+    private final int depth;
+    private final int width;
+    private final AtomicLongArray counters;
+    private final AtomicReferenceArray<Candidate> candidates;
+    private final long decayNanos;
+    private final AtomicLong nextDecayAt;
+
+    public HeavyHitterSketch(int depth, int width, int capacity, long decayNanos) {
+        this.depth = depth;
+        this.width = width;
+        this.counters = new AtomicLongArray(depth * width);
+        this.candidates = new AtomicReferenceArray<>(capacity);
+        this.decayNanos = decayNanos;
+        this.nextDecayAt = new AtomicLong(System.nanoTime() + decayNanos);
+    }
+
+    /**
+     * 키 1회 등장을 기록한다.
+     */
+    public void record(String key) {
+        decayIfDue();
+
+        int hash = spread(key.hashCode());
+        for (int row = 0; row < depth; row++) {
+            counters.incrementAndGet(index(row, hash));
+        }
+        // 증가가 끝난 뒤 다시 읽어 추정 (증가 시점의 값으로 추정하면 동시 기록 중 어떤 스레드도 모든 행의 최종값을 못 볼 수 있음)
+        long estimate = Long.MAX_VALUE;
+        for (int row = 0; row < depth; row++) {
+            estimate = Math.min(estimate, counters.get(index(row, hash)));
+        }
+        offer(key, estimate);
+    }
+
+    /**
+     * 추정 빈도가 높은 순서로 최대 limit개 반환한다. limit이 0 이하면 빈 목록.
+     */
+    public List<Map.Entry<String, Long>> top(int limit) {
+        if (limit <= 0) {
+            return new ArrayList<>();
+        }
+        Map<String, Long> merged = new HashMap<>();
+        for (int i = 0; i < candidates.length(); i++) {
+            Candidate candidate = candidates.get(i);
+            if (candidate != null) {
+                merged.merge(candidate.key, candidate.estimate, Math::max);
+            }
+        }
+        List<Map.Entry<String, Long>> result = new ArrayList<>(merged.entrySet());
+        result.sort(Map.Entry.<String, Long>comparingByValue(Comparator.reverseOrder()));
+        return result.size() > limit ? new ArrayList<>(result.subList(0, limit)) : result;
+    }
+
+    // 후보 슬롯 갱신: 이미 있으면 추정치 갱신, 없으면 빈 슬롯이나 가장 작은 후보를 대체
+    private void offer(String key, long estimate) {
+        // 슬롯을 실제로 바꿀 때만 만듦 (대부분의 호출은 기존 추정치가 같거나 커서 그냥 반환)
+        Candidate updated = null;
+        retry:
+        while (true) {
+            int emptySlot = -1;
+            int minSlot = -1;
+            Candidate min = null;
+            for (int i = 0; i < candidates.length(); i++) {
+                Candidate current = candidates.get(i);
+                if (current == null) {
+                    if (emptySlot < 0) {
+                        emptySlot = i;
+                    }
+                } else if (current.key.equals(key)) {
+                    if (current.estimate >= estimate) {
+                        return;
+                    }
+                    if (updated == null) {
+                        updated = new Candidate(key, estimate);
+                    }
+                    if (candidates.compareAndSet(i, current, updated)) {
+                        return;
+                    }
+                    continue retry; // 다른 스레드가 먼저 바꿨으면 처음부터 다시 확인
+                } else if (min == null || current.estimate < min.estimate) {
+                    minSlot = i;
+                    min = current;
+                }
+            }
+            if (emptySlot < 0 && (min == null || min.estimate >= estimate)) {
+                return;
+            }
+            if (updated == null) {
+                updated = new Candidate(key, estimate);
+            }
+            if (emptySlot >= 0) {
+                if (candidates.compareAndSet(emptySlot, null, updated)) {
+                    return;
+                }
+            } else if (candidates.compareAndSet(minSlot, min, updated)) {
+                return;
+            }
+        }
+    }
+
+    // 감쇠 주기가 지났으면 한 스레드만 카운터와 후보 추정치를 절반으로 줄임
+    private void decayIfDue() {
+        long now = System.nanoTime();
+        long due = nextDecayAt.get();
+        if (now - due < 0 || !nextDecayAt.compareAndSet(due, now + decayNanos)) {
+            return;
+        }
+        for (int i = 0; i < counters.length(); i++) {
+            counters.getAndUpdate(i, count -> count >> 1);
+        }
+        for (int i = 0; i < candidates.length(); i++) {
+            Candidate current = candidates.get(i);
+            if (current != null) {
+                // 절반으로 줄어 0이 된 후보는 슬롯을 비움
+                Candidate decayed = current.estimate > 1 ? new Candidate(current.key, current.estimate >> 1) : null;
+                candidates.compareAndSet(i, current, decayed);
+            }
+        }
+    }
+
+    // 행마다 다른 해시 함수 (키 해시에 행별 상수를 섞음)
+    private int index(int row, int hash) {
+        int h = spread(hash + row * 0x9E3779B9);
+        return row * width + Math.floorMod(h, width);
+    }
+
+    private static int spread(int h) {
+        h ^= h >>> 16;
+        h *= 0x85EBCA6B;
+        h ^= h >>> 13;
+        h *= 0xC2B2AE35;
+        h ^= h >>> 16;
+        return h;
+    }
+
+    private static final class Candidate {
+        private final String key;
+        private final long estimate;
+
+        private Candidate(String key, long estimate) {
+            this.key = key;
+            this.estimate = estimate;
+        }
+    }
+}
@@ -0,0 +1,202 @@
+package com.suppleit.backend.support;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 문자 2-gram/3-gram 역색인 (부분 문자열 검색용). 필드마다 따로 색인해 필드별로 후보를 찾는다.
+ * 문서 번호는 추가 순서대로 증가해야 하며, 게시 목록은 문서 번호 차이를 가변 길이 정수(varint)로 압축해 이어 붙인다.
+ * 후보 조회 결과는 검색어를 포함할 수 있는 문서의 상위 집합이므로, 실제 포함 여부는 호출한 쪽이 확인한다.
+ * 스레드 안전하지 않다 (호출한 쪽에서 읽기/쓰기 잠금).
+ */
+public class NgramIndex {
+
+    private static final int[] EMPTY = new int[0];
+    // 교집합을 멈추는 후보 수, 교집합할 목록 길이의 상한 (현재 후보 수 대비)
+    private static final int STOP_INTERSECT_SIZE = 64;
+    private static final int MAX_LENGTH_RATIO = 8;
+
+    // 필드당 최대 개수 (키의 필드 비트 수)
+    public static final int MAX_FIELDS = 8;
+
+    // n-gram 키 -> 게시 목록. 키는 문자들을 16비트씩 이어 붙이고 2-gram/3-gram 구분 비트, 필드 번호를 그 위에 둠
+    private final Map<Long, PostingList> postings = new HashMap<>();
+    private int lastDocId = -1;
+
+    /**
+     * 문서의 필드들을 색인한다 (필드 번호는 인자 순서). 필드 경계를 넘는 n-gram은 만들지 않는다.
+     */
+    public void add(int docId, String... fields) {
+        if (fields.length > MAX_FIELDS) {
+            throw new IllegalArgumentException("필드는 최대 " + MAX_FIELDS + "개까지 색인할 수 있습니다: " + fields.length);
+        }
+        if (docId <= lastDocId) {
+            throw new IllegalArgumentException("문서 번호는 증가해야 합니다: " + docId + " <= " + lastDocId);
+        }
+        lastDocId = docId;
+        for (int f = 0; f < fields.length; f++) {
+            String text = fields[f];
+            if (text == null) {
+                continue;
+            }
+            for (int i = 0; i + 2 <= text.length(); i++) {
+                append(bigram(f, text, i), docId);
+                if (i + 3 <= text.length()) {
+                    append(trigram(f, text, i), docId);
+                }
+            }
+        }
+    }
+
+    /**
+     * 해당 필드에서 검색어의 n-gram(3자 이상이면 3-gram, 2자면 2-gram)으로 좁힌 후보 문서 번호를 오름차순으로 반환한다.
+     * 필드에 검색어를 포함하는 문서는 모두 들어 있지만 포함하지 않는 문서가 섞일 수 있다.
+     * 검색어가 2자 미만이면 null (n-gram으로 좁힐 수 없음).
+     */
+    public int[] candidates(String query, int field) {
+        if (query == null || query.length() < 2) {
+            return null;
+        }
+        PostingList[] lists;
+        if (query.length() == 2) {
+            lists = new PostingList[] { postings.get(bigram(field, query, 0)) };
+        } else {
+            lists = new PostingList[query.length() - 2];
+            for (int i = 0; i < lists.length; i++) {
+                lists[i] = postings.get(trigram(field, query, i));
+            }
+        }
+        for (PostingList list : lists) {
+            if (list == null) {
+                return EMPTY;
+            }
+        }
+        // 가장 짧은 목록부터 교집합. 후보가 충분히 줄었거나 남은 목록이 훨씬 길면 풀어 보는 것보다
+        // 호출한 쪽에서 문자열로 확인하는 편이 싸므로 멈춘다
+        Arrays.sort(lists, (a, b) -> Integer.compare(a.count, b.count));
+        int[] result = lists[0].decode();
+        int size = result.length;
+        for (int i = 1; i < lists.length && size > STOP_INTERSECT_SIZE; i++) {
+            if (lists[i].count > (long) size * MAX_LENGTH_RATIO) {
+                break;
+            }
+            size = lists[i].retainAll(result, size);
+        }
+        return size == result.length ? result : Arrays.copyOf(result, size);
+    }
+
+    // 서로 다른 n-gram 수
+    public int gramCount() {
+        return postings.size();
+    }
+
+    // 게시 목록 전체 크기 (bytes)
+    public long postingBytes() {
+        long bytes = 0;
+        for (PostingList list : postings.values()) {
+            bytes += list.size;
+        }
+        return bytes;
+    }
+
+    // 일괄 색인 후 게시 목록 배열의 여유 공간 정리
+    public void trimToSize() {
+        for (PostingList list : postings.values()) {
+            list.trimToSize();
+        }
+    }
+
+    private void append(long key, int docId) {
+        postings.computeIfAbsent(key, k -> new PostingList()).add(docId);
+    }
+
+    private static long bigram(int field, String text, int i) {
+        return ((long) field << 49) | ((long) text.charAt(i) << 16) | text.charAt(i + 1);
+    }
+
+    private static long trigram(int field, String text, int i) {
+        return ((long) field << 49) | (1L << 48)
+                | ((long) text.charAt(i) << 32) | ((long) text.charAt(i + 1) << 16) | text.charAt(i + 2);
+    }
+
+    /**
+     * 문서 번호 차이를 varint로 이어 붙인 게시 목록 (7비트씩, 상위 비트는 다음 바이트 존재 여부).
+     */
+    private static final class PostingList {
+
+        private byte[] bytes = new byte[4];
+        private int size;
+        private int count;
+        private int lastDocId;
+
+        void add(int docId) {
+            if (count > 0 && docId == lastDocId) {
+                return; // 같은 문서에서 반복된 n-gram
+            }
+            int delta = count == 0 ? docId : docId - lastDocId;
+            if (size + 5 > bytes.length) {
+                bytes = Arrays.copyOf(bytes, Math.max(bytes.length * 2, size + 5));
+            }
+            while ((delta & ~0x7F) != 0) {
+                bytes[size++] = (byte) ((delta & 0x7F) | 0x80);
+                delta >>>= 7;
+            }
+            bytes[size++] = (byte) delta;
+            lastDocId = docId;
+            count++;
+        }
+
+        void trimToSize() {
+            if (bytes.length > size) {
+                bytes = Arrays.copyOf(bytes, size);
+            }
+        }
+
+        int[] decode() {
+            int[] docIds = new int[count];
+            int position = 0;
+            int docId = 0;
+            for (int i = 0; i < count; i++) {
+                int delta = 0;
+                int shift = 0;
+                byte b;
+                do {
+                    b = bytes[position++];
+                    delta |= (b & 0x7F) << shift;
+                    shift += 7;
+                } while (b < 0);
+                docId = i == 0 ? delta : docId + delta;
+                docIds[i] = docId;
+            }
+            return docIds;
+        }
+
+        // docIds[0..size) 중 이 목록에 있는 것만 앞으로 모으고 남은 개수를 반환 (둘 다 오름차순)
+        int retainAll(int[] docIds, int size) {
+            int kept = 0;
+            int j = 0;
+            int position = 0;
+            int docId = 0;
+            for (int i = 0; i < count && j < size; i++) {
+                int delta = 0;
+                int shift = 0;
+                byte b;
+                do {
+                    b = bytes[position++];
+                    delta |= (b & 0x7F) << shift;
+                    shift += 7;
+                } while (b < 0);
+                docId = i == 0 ? delta : docId + delta;
+                while (j < size && docIds[j] < docId) {
+                    j++;
+                }
+                if (j < size && docIds[j] == docId) {
+                    docIds[kept++] = docId;
+                    j++;
+                }
+            }
+            return kept;
+        }
+    }
+}
@@ -0,0 +1,9 @@
+package com.suppleit.backend.support;
+
+// 레이트 리미터가 허용 대기 시간 안에 토큰을 발급하지 못한 경우
+public class RateLimitExceededException extends RuntimeException {
+
+    public RateLimitExceededException(String limiterName) {
+        super("요청 한도를 초과했습니다: " + limiterName);
+    }
+}
@@ -0,0 +1,79 @@
+package com.suppleit.backend.support;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * API 키별 토큰 버킷을 공유하는 레지스트리.
+ * 키는 설정에서 붙인 별칭(alias)으로 구분하며, 설정 이름과 메트릭 태그에 키 원문은 어느 부분도 쓰지 않는다.
+ *
+ * 설정 예 (키별 설정이 없으면 API 공통 설정, 그것도 없으면 기본값 사용)
+ * <pre>
+ * rate-limit.naver.permits-per-second=10
+ * rate-limit.naver.burst=10
+ * rate-limit.naver.max-wait-ms=2000
+ * rate-limit.naver.keys.{alias}.permits-per-second=20
+ * </pre>
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class RateLimiterRegistry {
+
+    private static final double DEFAULT_PERMITS_PER_SECOND = 10;
+    private static final long DEFAULT_MAX_WAIT_MS = 2000;
+
+    private final Environment environment;
+    private final MeterRegistry meterRegistry;
+
+    private final Map<String, TokenBucketRateLimiter> limiters = new ConcurrentHashMap<>();
+
+    // 같은 별칭을 쓰는 모든 호출이 하나의 버킷을 공유
+    public TokenBucketRateLimiter get(String api, String keyAlias) {
+        return limiters.computeIfAbsent(api + ":" + keyAlias, name -> create(api, keyAlias));
+    }
+
+    private TokenBucketRateLimiter create(String api, String keyAlias) {
+        String keyPrefix = "rate-limit." + api + ".keys." + keyAlias + ".";
+        String apiPrefix = "rate-limit." + api + ".";
+
+        double permitsPerSecond = property(keyPrefix, apiPrefix, "permits-per-second",
+                Double.class, DEFAULT_PERMITS_PER_SECOND);
+        int burst = property(keyPrefix, apiPrefix, "burst",
+                Integer.class, (int) Math.max(1, Math.ceil(permitsPerSecond)));
+        long maxWaitMs = property(keyPrefix, apiPrefix, "max-wait-ms", Long.class, DEFAULT_MAX_WAIT_MS);
+
+        Timer waitTimer = Timer.builder("ratelimit.wait")
+                .description("토큰 획득까지 대기한 시간")
+                .tag("api", api)
+                .tag("key", keyAlias)
+                .register(meterRegistry);
+        Counter rejected = Counter.builder("ratelimit.rejected")
+                .description("최대 대기 시간 초과로 거절된 요청 수")
+                .tag("api", api)
+                .tag("key", keyAlias)
+                .register(meterRegistry);
+
+        log.info("Rate limiter created: api={}, key={}, permitsPerSecond={}, burst={}, maxWaitMs={}",
+                api, keyAlias, permitsPerSecond, burst, maxWaitMs);
+        return new TokenBucketRateLimiter(api + ":" + keyAlias, permitsPerSecond, burst, maxWaitMs,
+                waitTimer, rejected);
+    }
+
+    private <T> T property(String keyPrefix, String apiPrefix, String name, Class<T> type, T defaultValue) {
+        T value = environment.getProperty(keyPrefix + name, type);
+        if (value == null) {
+            value = environment.getProperty(apiPrefix + name, type, defaultValue);
+        }
+        return value;
+    }
+}
@@ -0,0 +1,227 @@
+package com.suppleit.backend.support;
+
+import java.util.Arrays;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.BooleanSupplier;
+import java.util.function.Supplier;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * 꼬리 지연 완화를 위한 요청 헤징 (hedged request).
+ * 호출이 최근 응답 시간의 p90(설정값)까지 끝나지 않으면 같은 호출을 한 번 더 보내고 먼저 성공한 결과를 쓴다.
+ * 추가 호출은 전체 호출 대비 maxRatio 이내로 제한한다 (호출마다 maxRatio만큼 적립, 헤지 1건에 1 차감).
+ * 늦게 끝난 쪽의 결과는 버린다 (블로킹 I/O는 중단되지 않으므로 취소하지 않음).
+ *
+ * 응답 시간은 supplier 실행 시간만 기록하므로 레이트 리미터 토큰 대기 같은 호출 전 대기는 supplier 밖에서 처리한다.
+ * 추가 호출에 토큰이 필요하면 hedgePermit으로 대기 없이 받아 오고, 받지 못하면 헤징하지 않는다.
+ */
+public class RequestHedger {
+
+    // 적립 단위 (헤지 1건 = UNIT)
+    private static final long UNIT = 1000;
+    private static final int WINDOW = 512;
+    private static final int RECOMPUTE_EVERY = 64;
+
+    private final Executor executor;
+    private final double percentile;
+    private final long minDelayNanos;
+    private final int minSamples;
+    private final long creditPerCall;
+    private final long maxCredit;
+
+    // 최근 응답 시간 링 버퍼와 주기적으로 다시 계산한 헤지 지연
+    private final AtomicLongArray samples = new AtomicLongArray(WINDOW);
+    private final AtomicLong sampleCount = new AtomicLong();
+    private volatile long hedgeDelayNanos = -1;
+    private final AtomicLong credit = new AtomicLong();
+
+    private final Counter callCounter;
+    private final Counter hedgedCounter;
+    private final Counter wonCounter;
+    private final Counter budgetExhaustedCounter;
+    private final Counter throttledCounter;
+
+    public RequestHedger(String name, Executor executor, double percentile, long minDelayMillis, int minSamples,
+            double maxRatio, int maxBurst, MeterRegistry meterRegistry) {
+        if (percentile <= 0 || percentile >= 1 || maxRatio < 0) {
+            throw new IllegalArgumentException("percentile은 0~1 사이, maxRatio는 0 이상이어야 합니다: " + name);
+        }
+        this.executor = executor;
+        this.percentile = percentile;
+        this.minDelayNanos = TimeUnit.MILLISECONDS.toNanos(minDelayMillis);
+        this.minSamples = Math.min(minSamples, WINDOW);
+        this.creditPerCall = Math.round(maxRatio * UNIT);
+        this.maxCredit = Math.max(1, maxBurst) * UNIT;
+
+        this.callCounter = Counter.builder("hedge.calls")
+                .description("헤징 대상 호출 수")
+                .tag("name", name)
+                .tag("result", "call")
+                .register(meterRegistry);
+        this.hedgedCounter = Counter.builder("hedge.calls")
+                .description("지연으로 추가 호출을 보낸 수")
+                .tag("name", name)
+                .tag("result", "hedged")
+                .register(meterRegistry);
+        this.wonCounter = Counter.builder("hedge.calls")
+                .description("추가 호출이 원 호출보다 먼저 성공한 수")
+                .tag("name", name)
+                .tag("result", "won")
+                .register(meterRegistry);
+        this.budgetExhaustedCounter = Counter.builder("hedge.calls")
+                .description("추가 호출 한도 초과로 헤징하지 않은 수")
+                .tag("name", name)
+                .tag("result", "budget_exhausted")
+                .register(meterRegistry);
+        this.throttledCounter = Counter.builder("hedge.calls")
+                .description("추가 호출에 쓸 토큰이 없어 헤징하지 않은 수")
+                .tag("name", name)
+                .tag("result", "throttled")
+                .register(meterRegistry);
+        Gauge.builder("hedge.delay", this, h -> Math.max(0, h.hedgeDelayNanos) / 1_000_000.0)
+                .description("현재 헤지 지연 (최근 응답 시간 백분위수, ms)")
+                .tag("name", name)
+                .register(meterRegistry);
+    }
+
+    /**
+     * 호출을 실행하고 결과를 반환한다. 통계가 충분히 쌓이기 전에는 헤징하지 않는다.
+     * 두 호출이 모두 실패하면 나중에 실패한 쪽의 예외를 던진다.
+     */
+    public <T> T call(Supplier<T> supplier) {
+        return call(supplier, () -> true);
+    }
+
+    /**
+     * 추가 호출 직전에 hedgePermit을 확인해 false면 헤징하지 않고 원 호출을 기다린다.
+     * hedgePermit은 대기하지 않아야 한다 (예: {@link TokenBucketRateLimiter#tryAcquire()}).
+     */
+    public <T> T call(Supplier<T> supplier, BooleanSupplier hedgePermit) {
+        callCounter.increment();
+        credit.getAndUpdate(c -> Math.min(maxCredit, c + creditPerCall));
+
+        CompletableFuture<T> primary = submit(supplier);
+        long delay = hedgeDelayNanos;
+        if (delay < 0) {
+            return join(primary);
+        }
+        try {
+            return primary.get(delay, TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            // 아래에서 헤징
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CancellationException("헤징 대기 중 인터럽트");
+        } catch (ExecutionException e) {
+            throw unwrap(e);
+        }
+
+        if (!tryConsumeCredit()) {
+            budgetExhaustedCounter.increment();
+            return join(primary);
+        }
+        if (!hedgePermit.getAsBoolean()) {
+            // 보내지 않은 헤지는 한도에서 빼지 않음
+            credit.getAndUpdate(c -> Math.min(maxCredit, c + UNIT));
+            throttledCounter.increment();
+            return join(primary);
+        }
+        hedgedCounter.increment();
+        CompletableFuture<T> hedge = submit(supplier);
+
+        // 먼저 성공한 결과 채택, 둘 다 실패하면 두 번째 실패로 완료
+        CompletableFuture<T> first = new CompletableFuture<>();
+        AtomicInteger failures = new AtomicInteger();
+        primary.whenComplete((value, ex) -> {
+            if (ex == null) {
+                first.complete(value);
+            } else if (failures.incrementAndGet() == 2) {
+                first.completeExceptionally(ex);
+            }
+        });
+        hedge.whenComplete((value, ex) -> {
+            if (ex == null) {
+                if (first.complete(value)) {
+                    wonCounter.increment();
+                }
+            } else if (failures.incrementAndGet() == 2) {
+                first.completeExceptionally(ex);
+            }
+        });
+        return join(first);
+    }
+
+    private <T> CompletableFuture<T> submit(Supplier<T> supplier) {
+        return CompletableFuture.supplyAsync(() -> {
+            long startedAt = System.nanoTime();
+            T value = supplier.get();
+            record(System.nanoTime() - startedAt);
+            return value;
+        }, executor);
+    }
+
+    // 성공한 호출의 응답 시간만 기록 (빠르게 실패한 호출이 백분위수를 끌어내리지 않도록)
+    private void record(long nanos) {
+        long n = sampleCount.getAndIncrement();
+        samples.set((int) (n % WINDOW), nanos);
+        long recorded = n + 1;
+        if (recorded == minSamples || (recorded > minSamples && recorded % RECOMPUTE_EVERY == 0)) {
+            recompute((int) Math.min(recorded, WINDOW));
+        }
+    }
+
+    private void recompute(int size) {
+        long[] copy = new long[size];
+        for (int i = 0; i < size; i++) {
+            copy[i] = samples.get(i);
+        }
+        Arrays.sort(copy);
+        int index = (int) Math.min(copy.length - 1, Math.ceil(percentile * copy.length) - 1);
+        hedgeDelayNanos = Math.max(minDelayNanos, copy[Math.max(0, index)]);
+    }
+
+    private boolean tryConsumeCredit() {
+        while (true) {
+            long current = credit.get();
+            if (current < UNIT) {
+                return false;
+            }
+            if (credit.compareAndSet(current, current - UNIT)) {
+                return true;
+            }
+        }
+    }
+
+    private static <T> T join(CompletableFuture<T> future) {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CancellationException("헤징 대기 중 인터럽트");
+        } catch (ExecutionException e) {
+            throw unwrap(e);
+        }
+    }
+
+    private static RuntimeException unwrap(ExecutionException e) {
+        Throwable cause = e.getCause();
+        if (cause instanceof RuntimeException runtime) {
+            return runtime;
+        }
+        if (cause instanceof Error error) {
+            throw error;
+        }
+        return new IllegalStateException(cause);
+    }
+}
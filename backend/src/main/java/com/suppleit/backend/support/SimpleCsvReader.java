@@ -0,0 +1,89 @@
+package com.suppleit.backend.support;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * RFC 4180 형식 CSV 리더 (큰따옴표로 감싼 필드 안의 쉼표, 줄바꿈, "" 이스케이프 지원).
+ * 추천 코퍼스처럼 기능성 설명에 줄바꿈이 들어간 CSV를 읽기 위한 최소 구현이다.
+ */
+public class SimpleCsvReader {
+
+    private final Reader reader;
+    private int peeked = -2;
+
+    public SimpleCsvReader(Reader reader) {
+        this.reader = reader;
+    }
+
+    /**
+     * 다음 레코드를 읽는다. 더 이상 없으면 null.
+     */
+    public List<String> readRecord() throws IOException {
+        int c = read();
+        if (c == -1) {
+            return null;
+        }
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        while (true) {
+            if (quoted) {
+                if (c == -1) {
+                    // 닫히지 않은 따옴표: 남은 내용을 마지막 필드로 처리
+                    fields.add(field.toString());
+                    return fields;
+                }
+                if (c == '"') {
+                    int next = read();
+                    if (next == '"') {
+                        field.append('"');
+                    } else {
+                        quoted = false;
+                        c = next;
+                        continue;
+                    }
+                } else {
+                    field.append((char) c);
+                }
+            } else {
+                if (c == -1 || c == '\n') {
+                    fields.add(field.toString());
+                    return fields;
+                }
+                if (c == '\r') {
+                    int next = read();
+                    if (next != '\n') {
+                        unread(next);
+                    }
+                    fields.add(field.toString());
+                    return fields;
+                }
+                if (c == ',') {
+                    fields.add(field.toString());
+                    field.setLength(0);
+                } else if (c == '"' && field.length() == 0) {
+                    quoted = true;
+                } else {
+                    field.append((char) c);
+                }
+            }
+            c = read();
+        }
+    }
+
+    private int read() throws IOException {
+        if (peeked != -2) {
+            int c = peeked;
+            peeked = -2;
+            return c;
+        }
+        return reader.read();
+    }
+
+    private void unread(int c) {
+        peeked = c;
+    }
+}
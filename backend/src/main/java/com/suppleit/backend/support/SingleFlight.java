@@ -0,0 +1,92 @@
+package com.suppleit.backend.support;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * 같은 키에 대한 동시 요청을 하나의 진행 중 호출로 합치는 유틸리티.
+ * 첫 호출자만 실제 작업을 시작하고, 작업이 끝나기 전에 들어온 호출자는 같은 결과를 공유한다.
+ * 작업이 끝나면 키가 제거되므로 결과 자체를 보관하지는 않는다 (보관은 캐시의 역할).
+ */
+public class SingleFlight<K, V> {
+
+    private final ConcurrentMap<K, Flight<V>> inFlight = new ConcurrentHashMap<>();
+    private final Counter executedCounter;
+    private final Counter coalescedCounter;
+
+    public SingleFlight(String name, MeterRegistry meterRegistry) {
+        this.executedCounter = Counter.builder("singleflight.calls")
+                .description("실제로 실행된 호출 수")
+                .tag("name", name)
+                .tag("result", "executed")
+                .register(meterRegistry);
+        this.coalescedCounter = Counter.builder("singleflight.calls")
+                .description("진행 중인 호출에 합쳐진 호출 수")
+                .tag("name", name)
+                .tag("result", "coalesced")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 키에 대해 진행 중인 호출이 있으면 그 결과를, 없으면 새로 시작한 호출의 결과를 반환한다.
+     * 반환된 Future를 완료해도 공유 중인 다른 호출자에게는 영향이 없다.
+     * 반환된 Future를 취소하면 해당 호출자만 빠지며, 모든 호출자가 취소하면 원본 호출도 취소된다.
+     * (실행 대기 중인 supplyAsync 작업은 취소되면 실행되지 않는다)
+     */
+    public CompletableFuture<V> execute(K key, Supplier<CompletableFuture<V>> call) {
+        Flight<V> created = new Flight<>();
+        Flight<V> existing = inFlight.putIfAbsent(key, created);
+        if (existing != null) {
+            coalescedCounter.increment();
+            return existing.subscribe();
+        }
+
+        executedCounter.increment();
+        try {
+            created.source = call.get();
+            created.source.whenComplete((value, ex) -> {
+                inFlight.remove(key, created);
+                if (ex != null) {
+                    created.result.completeExceptionally(ex);
+                } else {
+                    created.result.complete(value);
+                }
+            });
+        } catch (RuntimeException e) {
+            inFlight.remove(key, created);
+            created.result.completeExceptionally(e);
+        }
+        return created.subscribe();
+    }
+
+    public int inFlightCount() {
+        return inFlight.size();
+    }
+
+    // 진행 중인 호출 1건과 그 결과를 기다리는 호출자 수
+    private static final class Flight<V> {
+        private final CompletableFuture<V> result = new CompletableFuture<>();
+        private final AtomicInteger waiters = new AtomicInteger();
+        private volatile CompletableFuture<V> source;
+
+        CompletableFuture<V> subscribe() {
+            waiters.incrementAndGet();
+            CompletableFuture<V> view = result.copy();
+            view.whenComplete((value, ex) -> {
+                if (view.isCancelled() && waiters.decrementAndGet() == 0) {
+                    CompletableFuture<V> s = source;
+                    if (s != null) {
+                        s.cancel(false);
+                    }
+                }
+            });
+            return view;
+        }
+    }
+}
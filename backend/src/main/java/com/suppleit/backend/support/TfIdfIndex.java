@@ -0,0 +1,188 @@
+package com.suppleit.backend.support;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 문서(상품명 + 본문)에 대한 TF-IDF 역색인.
+ * scikit-learn TfidfVectorizer 기본값과 같은 방식(2글자 이상 단어, 소문자, smooth idf, L2 정규화)으로
+ * 가중치를 계산하고, 검색어와의 코사인 유사도로 상품명을 찾는다.
+ * 게시 목록은 단어별로 이어 붙인 int/float 배열(CSR)로 보관해 객체 수를 최소화한다.
+ * 생성 후에는 읽기 전용이라 여러 스레드에서 공유해도 안전하다.
+ */
+public final class TfIdfIndex {
+
+    // TfidfVectorizer 기본 token_pattern: (?u)\b\w\w+\b
+    private static final Pattern TOKEN = Pattern.compile("\\b\\w\\w+\\b", Pattern.UNICODE_CHARACTER_CLASS);
+
+    private final String[] names;
+    private final Map<String, Integer> vocabulary;
+    private final float[] idf;
+    // 단어 t의 게시 목록: postingDocs/postingWeights[postingStart[t] .. postingStart[t + 1])
+    private final int[] postingStart;
+    private final int[] postingDocs;
+    private final float[] postingWeights;
+
+    public TfIdfIndex(List<String> names, List<String> texts) {
+        int docCount = names.size();
+        this.names = names.toArray(new String[0]);
+        this.vocabulary = new HashMap<>();
+
+        // 1. 문서별 단어 빈도
+        int[][] docTerms = new int[docCount][];
+        int[][] docCounts = new int[docCount][];
+        List<Integer> documentFrequency = new ArrayList<>();
+        for (int doc = 0; doc < docCount; doc++) {
+            Map<Integer, Integer> counts = new HashMap<>();
+            for (String token : tokenize(texts.get(doc))) {
+                Integer term = vocabulary.get(token);
+                if (term == null) {
+                    term = vocabulary.size();
+                    vocabulary.put(token, term);
+                    documentFrequency.add(0);
+                }
+                counts.merge(term, 1, Integer::sum);
+            }
+            docTerms[doc] = new int[counts.size()];
+            docCounts[doc] = new int[counts.size()];
+            int i = 0;
+            for (Map.Entry<Integer, Integer> entry : counts.entrySet()) {
+                docTerms[doc][i] = entry.getKey();
+                docCounts[doc][i] = entry.getValue();
+                documentFrequency.set(entry.getKey(), documentFrequency.get(entry.getKey()) + 1);
+                i++;
+            }
+        }
+
+        // 2. idf = ln((1 + n) / (1 + df)) + 1
+        int termCount = vocabulary.size();
+        this.idf = new float[termCount];
+        this.postingStart = new int[termCount + 1];
+        for (int term = 0; term < termCount; term++) {
+            int df = documentFrequency.get(term);
+            idf[term] = (float) (Math.log((1.0 + docCount) / (1.0 + df)) + 1.0);
+            postingStart[term + 1] = postingStart[term] + df;
+        }
+
+        // 3. 문서 벡터 L2 정규화 후 게시 목록에 기록
+        this.postingDocs = new int[postingStart[termCount]];
+        this.postingWeights = new float[postingStart[termCount]];
+        int[] fill = Arrays.copyOf(postingStart, termCount);
+        for (int doc = 0; doc < docCount; doc++) {
+            double norm = 0;
+            for (int i = 0; i < docTerms[doc].length; i++) {
+                double weight = docCounts[doc][i] * idf[docTerms[doc][i]];
+                norm += weight * weight;
+            }
+            norm = Math.sqrt(norm);
+            for (int i = 0; i < docTerms[doc].length; i++) {
+                int term = docTerms[doc][i];
+                int slot = fill[term]++;
+                postingDocs[slot] = doc;
+                postingWeights[slot] = (float) (docCounts[doc][i] * idf[term] / norm);
+            }
+        }
+    }
+
+    /**
+     * 코사인 유사도가 threshold보다 큰 상품명을 유사도 순으로 최대 limit개 반환한다 (상품명 중복 제거).
+     */
+    public List<ScoredName> search(String query, int limit, float threshold) {
+        // 검색어 벡터 (단어 빈도 x idf, L2 정규화)
+        Map<Integer, Integer> counts = new HashMap<>();
+        for (String token : tokenize(query)) {
+            Integer term = vocabulary.get(token);
+            if (term != null) {
+                counts.merge(term, 1, Integer::sum);
+            }
+        }
+        if (counts.isEmpty()) {
+            return List.of();
+        }
+        double norm = 0;
+        for (Map.Entry<Integer, Integer> entry : counts.entrySet()) {
+            double weight = entry.getValue() * idf[entry.getKey()];
+            norm += weight * weight;
+        }
+        norm = Math.sqrt(norm);
+
+        // 검색어 단어의 게시 목록만 훑어 점수 누적
+        float[] scores = new float[names.length];
+        int[] touched = new int[names.length];
+        int touchedCount = 0;
+        for (Map.Entry<Integer, Integer> entry : counts.entrySet()) {
+            int term = entry.getKey();
+            float queryWeight = (float) (entry.getValue() * idf[term] / norm);
+            for (int p = postingStart[term]; p < postingStart[term + 1]; p++) {
+                int doc = postingDocs[p];
+                if (scores[doc] == 0f) {
+                    touched[touchedCount++] = doc;
+                }
+                scores[doc] += queryWeight * postingWeights[p];
+            }
+        }
+
+        // (점수 비트 << 32 | 문서 번호)로 정렬 - 양수 float는 비트 순서와 크기 순서가 같음
+        long[] ranked = new long[touchedCount];
+        int rankedCount = 0;
+        for (int i = 0; i < touchedCount; i++) {
+            int doc = touched[i];
+            if (scores[doc] > threshold) {
+                ranked[rankedCount++] = ((long) Float.floatToIntBits(scores[doc]) << 32) | (Integer.MAX_VALUE - doc);
+            }
+        }
+        Arrays.sort(ranked, 0, rankedCount);
+
+        List<ScoredName> result = new ArrayList<>();
+        Set<String> seen = new HashSet<>();
+        for (int i = rankedCount - 1; i >= 0 && result.size() < limit; i--) {
+            int doc = Integer.MAX_VALUE - (int) ranked[i];
+            if (seen.add(names[doc])) {
+                result.add(new ScoredName(names[doc], Float.intBitsToFloat((int) (ranked[i] >>> 32))));
+            }
+        }
+        return result;
+    }
+
+    public int size() {
+        return names.length;
+    }
+
+    private static List<String> tokenize(String text) {
+        List<String> tokens = new ArrayList<>();
+        if (text == null) {
+            return tokens;
+        }
+        Matcher matcher = TOKEN.matcher(text.toLowerCase());
+        while (matcher.find()) {
+            tokens.add(matcher.group());
+        }
+        return tokens;
+    }
+
+    // 검색 결과 상품명과 코사인 유사도
+    public static final class ScoredName {
+        private final String name;
+        private final float score;
+
+        public ScoredName(String name, float score) {
+            this.name = name;
+            this.score = score;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public float getScore() {
+            return score;
+        }
+    }
+}
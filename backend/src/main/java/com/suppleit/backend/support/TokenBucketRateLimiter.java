@@ -0,0 +1,87 @@
+package com.suppleit.backend.support;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * 락 없는 토큰 버킷 레이트 리미터.
+ * 다음 토큰이 발급될 시각(nanoTime) 하나만 CAS로 갱신하므로 호출 스레드 간 경합이 없고,
+ * 버킷에 토큰이 남아 있으면 대기 없이 즉시 통과한다.
+ */
+public class TokenBucketRateLimiter {
+
+    private final String name;
+    private final long intervalNanos;   // 토큰 1개가 채워지는 간격
+    private final long burstNanos;      // 버킷이 가득 찼을 때 미리 당겨 쓸 수 있는 시간
+    private final long maxWaitNanos;    // 이 시간 이상 기다려야 하면 거절
+    private final AtomicLong nextFreeNanos;
+
+    private final Timer waitTimer;
+    private final Counter rejectedCounter;
+
+    public TokenBucketRateLimiter(String name, double permitsPerSecond, int burst, long maxWaitMillis,
+            Timer waitTimer, Counter rejectedCounter) {
+        if (permitsPerSecond <= 0 || burst < 1) {
+            throw new IllegalArgumentException("permitsPerSecond와 burst는 양수여야 합니다: " + name);
+        }
+        this.name = name;
+        this.intervalNanos = (long) (TimeUnit.SECONDS.toNanos(1) / permitsPerSecond);
+        this.burstNanos = intervalNanos * (burst - 1);
+        this.maxWaitNanos = TimeUnit.MILLISECONDS.toNanos(maxWaitMillis);
+        this.nextFreeNanos = new AtomicLong(System.nanoTime() - burstNanos);
+        this.waitTimer = waitTimer;
+        this.rejectedCounter = rejectedCounter;
+    }
+
+    /**
+     * 토큰 1개를 획득한다. 버킷이 비어 있으면 다음 토큰까지 대기하고,
+     * 대기 시간이 최대 대기 시간을 넘으면 대기하지 않고 false를 반환한다.
+     */
+    public boolean acquire() {
+        long waitNanos = reserve(maxWaitNanos);
+        if (waitNanos < 0) {
+            rejectedCounter.increment();
+            return false;
+        }
+        if (waitNanos > 0) {
+            LockSupport.parkNanos(waitNanos);
+        }
+        waitTimer.record(waitNanos, TimeUnit.NANOSECONDS);
+        return true;
+    }
+
+    /**
+     * 버킷에 토큰이 남아 있을 때만 1개를 획득한다. 기다리지 않으며, 없으면 거절 집계 없이 false를 반환한다.
+     * 헤지 요청처럼 보내지 않아도 되는 추가 호출에 사용한다.
+     */
+    public boolean tryAcquire() {
+        return reserve(0) == 0;
+    }
+
+    /**
+     * 토큰 1개를 예약하고 필요한 대기 시간(ns)을 반환한다. 대기 시간이 maxWaitNanos를 넘으면 예약하지 않고 -1.
+     */
+    private long reserve(long maxWaitNanos) {
+        while (true) {
+            long now = System.nanoTime();
+            long next = nextFreeNanos.get();
+            // 오래 쉬었더라도 burst 이상으로 토큰이 쌓이지 않도록 하한 적용
+            long base = Math.max(next, now - burstNanos);
+            long waitNanos = base - now;
+            if (waitNanos > maxWaitNanos) {
+                return -1;
+            }
+            if (nextFreeNanos.compareAndSet(next, base + intervalNanos)) {
+                return Math.max(0, waitNanos);
+            }
+        }
+    }
+
+    public String getName() {
+        return name;
+    }
+}
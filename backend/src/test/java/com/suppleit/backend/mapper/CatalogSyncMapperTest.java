@@ -0,0 +1,124 @@
+package com.suppleit.backend.mapper;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.InputStream;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.apache.ibatis.builder.xml.XMLMapperBuilder;
+import org.apache.ibatis.mapping.BoundSql;
+import org.apache.ibatis.mapping.MappedStatement;
+import org.apache.ibatis.mapping.ParameterMapping;
+import org.apache.ibatis.reflection.MetaClass;
+import org.apache.ibatis.session.Configuration;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.suppleit.backend.model.CatalogSyncCheckpoint;
+
+/**
+ * CatalogSyncMapper.xml이 CatalogSyncCheckpoint와 맞는지 확인한다 (DB 없이 MyBatis 파싱 결과만 확인).
+ * INSERT 컬럼마다 같은 이름(스네이크 -> 카멜)의 필드를 저장하고, 중복 키면 job_name 외 모든 컬럼을 갱신하며,
+ * SELECT * 결과가 map-underscore-to-camel-case로 모든 필드에 다시 채워지는지 본다.
+ */
+class CatalogSyncMapperTest {
+
+    private static final String NAMESPACE = CatalogSyncMapper.class.getName();
+    private static final Pattern INSERT_COLUMNS = Pattern.compile("INSERT INTO catalog_sync_checkpoint \\(([^)]*)\\)");
+    private static final Pattern UPDATE_ASSIGNMENT = Pattern.compile("(\\w+) = \\?");
+
+    private final Configuration configuration = new Configuration();
+
+    @BeforeEach
+    void setUp() throws Exception {
+        configuration.setMapUnderscoreToCamelCase(true);
+        String resource = "mapper/CatalogSyncMapper.xml";
+        try (InputStream in = getClass().getClassLoader().getResourceAsStream(resource)) {
+            new XMLMapperBuilder(in, configuration, resource, configuration.getSqlFragments()).parse();
+        }
+    }
+
+    @Test
+    void saveCheckpointWritesEveryColumnFromMatchingField() {
+        BoundSql boundSql = saveCheckpoint().getBoundSql(checkpoint());
+        String sql = boundSql.getSql().replaceAll("\\s+", " ");
+        List<String> properties = boundSql.getParameterMappings().stream().map(ParameterMapping::getProperty).toList();
+
+        Matcher insert = INSERT_COLUMNS.matcher(sql);
+        assertTrue(insert.find(), sql);
+        List<String> columns = Arrays.stream(insert.group(1).split(",")).map(String::trim).toList();
+
+        // VALUES (...) 파라미터는 컬럼 순서와 같은 필드
+        assertEquals(columns.stream().map(CatalogSyncMapperTest::camelCase).toList(),
+                properties.subList(0, columns.size()));
+
+        // ON DUPLICATE KEY UPDATE는 job_name을 뺀 모든 컬럼을 같은 필드로 갱신
+        Map<String, String> updates = new LinkedHashMap<>();
+        Matcher assignment = UPDATE_ASSIGNMENT.matcher(sql.substring(sql.indexOf("ON DUPLICATE KEY UPDATE")));
+        List<String> updateProperties = properties.subList(columns.size(), properties.size());
+        int i = 0;
+        while (assignment.find()) {
+            updates.put(assignment.group(1), updateProperties.get(i++));
+        }
+        Map<String, String> expected = new LinkedHashMap<>();
+        columns.stream().filter(column -> !column.equals("job_name"))
+                .forEach(column -> expected.put(column, camelCase(column)));
+        assertEquals(expected, updates);
+    }
+
+    @Test
+    void everyFieldIsSavedAndReadBack() {
+        BoundSql boundSql = saveCheckpoint().getBoundSql(checkpoint());
+        List<String> saved = boundSql.getParameterMappings().stream().map(ParameterMapping::getProperty).toList();
+
+        MetaClass metaClass = MetaClass.forClass(CatalogSyncCheckpoint.class, configuration.getReflectorFactory());
+        List<String> fields = new ArrayList<>(Arrays.asList(metaClass.getSetterNames()));
+        fields.forEach(field -> assertTrue(saved.contains(field), "저장하지 않는 필드: " + field));
+
+        MappedStatement select = configuration.getMappedStatement(NAMESPACE + ".getCheckpoint");
+        assertEquals(CatalogSyncCheckpoint.class, select.getResultMaps().get(0).getType());
+        // SELECT *는 컬럼 이름을 카멜 표기로 바꿔 채우므로 저장한 컬럼마다 setter가 있어야 함
+        saved.forEach(property -> assertTrue(metaClass.hasSetter(property), "읽을 수 없는 컬럼: " + property));
+    }
+
+    private MappedStatement saveCheckpoint() {
+        return configuration.getMappedStatement(NAMESPACE + ".saveCheckpoint");
+    }
+
+    private static CatalogSyncCheckpoint checkpoint() {
+        LocalDateTime now = LocalDateTime.now();
+        return CatalogSyncCheckpoint.builder()
+                .jobName("catalog-full")
+                .status(CatalogSyncCheckpoint.RUNNING)
+                .pageSize(100)
+                .totalCount(1000)
+                .nextPage(3)
+                .syncedCount(200)
+                .watermark("20240101")
+                .startedAt(now)
+                .updatedAt(now)
+                .build();
+    }
+
+    private static String camelCase(String column) {
+        StringBuilder result = new StringBuilder();
+        boolean upper = false;
+        for (char c : column.toCharArray()) {
+            if (c == '_') {
+                upper = true;
+            } else {
+                result.append(upper ? Character.toUpperCase(c) : c);
+                upper = false;
+            }
+        }
+        return result.toString();
+    }
+}
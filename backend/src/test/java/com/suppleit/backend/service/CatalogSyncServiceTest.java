@@ -0,0 +1,318 @@
+package com.suppleit.backend.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.env.MockEnvironment;
+
+import com.suppleit.backend.dto.HealthFoodSearchResult;
+import com.suppleit.backend.dto.HealthFunctionalFoodDto;
+import com.suppleit.backend.mapper.CatalogSyncMapper;
+import com.suppleit.backend.model.CatalogSyncCheckpoint;
+import com.suppleit.backend.model.Product;
+import com.suppleit.backend.support.ExecutorRegistry;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class CatalogSyncServiceTest {
+
+    private static final int PAGE_SIZE = 2;
+
+    private final ExecutorRegistry executorRegistry = new ExecutorRegistry(new MockEnvironment(), new SimpleMeterRegistry());
+    private final FakeCatalogApi api = new FakeCatalogApi();
+    private final InMemoryCheckpoints checkpoints = new InMemoryCheckpoints();
+    // 저장된 제품 (품목제조신고번호 = prdId)
+    private final List<Long> stored = Collections.synchronizedList(new ArrayList<>());
+    private final ProductBatchWriter writer = mock(ProductBatchWriter.class);
+
+    CatalogSyncServiceTest() {
+        doAnswer(invocation -> {
+            List<Product> products = invocation.getArgument(0);
+            products.forEach(product -> stored.add(product.getPrdId()));
+            return null;
+        }).when(writer).upsertAll(anyList());
+    }
+
+    @AfterEach
+    void tearDown() {
+        executorRegistry.shutdown();
+    }
+
+    @Test
+    void fullSyncStoresEveryPageAndCompletes() {
+        api.setCatalog(dates("20240105", "20240104", "20240103", "20240102", "20240101"));
+
+        service(2, 20).runFullSync();
+
+        CatalogSyncCheckpoint full = checkpoints.get(CatalogSyncService.FULL_SYNC);
+        assertEquals(CatalogSyncCheckpoint.COMPLETED, full.getStatus());
+        assertEquals(4, full.getNextPage());
+        assertEquals(5, full.getSyncedCount());
+        assertEquals("20240105", full.getWatermark());
+        assertNotNull(full.getCompletedAt());
+        assertEquals(Set.of(1L, 2L, 3L, 4L, 5L), new HashSet<>(stored));
+    }
+
+    @Test
+    void pageFailureStopsNewPagesAndNextRunResumesFromNextPage() {
+        // 3페이지(5, 6번째 항목)만 실패, 페이지 1개씩 처리해 실패 뒤 새 페이지가 시작되지 않는지 확인
+        api.setCatalog(dates("20240108", "20240107", "20240106", "20240105", "20240104", "20240103", "20240102",
+                "20240101"));
+        api.failingPages.add(3);
+        CatalogSyncService service = service(1, 20);
+
+        service.runFullSync();
+
+        CatalogSyncCheckpoint failed = checkpoints.get(CatalogSyncService.FULL_SYNC);
+        assertEquals(CatalogSyncCheckpoint.FAILED, failed.getStatus());
+        assertEquals(3, failed.getNextPage());
+        assertTrue(failed.getLastError().contains("page 3"), failed.getLastError());
+        assertEquals(List.of(1, 2, 3), api.fetchedPages());
+        assertEquals(Set.of(1L, 2L, 3L, 4L), new HashSet<>(stored));
+
+        // 다음 실행은 저장된 next_page부터
+        api.failingPages.clear();
+        api.fetched.clear();
+        service.runFullSync();
+
+        CatalogSyncCheckpoint resumed = checkpoints.get(CatalogSyncService.FULL_SYNC);
+        assertEquals(CatalogSyncCheckpoint.COMPLETED, resumed.getStatus());
+        assertEquals(5, resumed.getNextPage());
+        assertEquals(List.of(3, 4), api.fetchedPages());
+        assertEquals(8, new HashSet<>(stored).size());
+    }
+
+    @Test
+    void pageSizeChangeRestartsFromFirstPage() {
+        api.setCatalog(dates("20240104", "20240103", "20240102", "20240101"));
+        checkpoints.saveCheckpoint(CatalogSyncCheckpoint.builder()
+                .jobName(CatalogSyncService.FULL_SYNC)
+                .status(CatalogSyncCheckpoint.FAILED)
+                .pageSize(50)
+                .nextPage(2)
+                .build());
+
+        service(1, 20).runFullSync();
+
+        assertEquals(List.of(1, 2), api.fetchedPages());
+        assertEquals(CatalogSyncCheckpoint.COMPLETED, checkpoints.get(CatalogSyncService.FULL_SYNC).getStatus());
+    }
+
+    @Test
+    void deltaSyncStopsAtOrderedPageOlderThanOverlapAndAdvancesWatermark() {
+        api.setCatalog(dates("20240115", "20240112", "20240109", "20240105", "20240101", "20231230"));
+        completedFullSync("20240110");
+
+        service(1, 20).runDeltaSync();
+
+        // 기준일 3일 전(20240107)까지 다시 읽고, 그보다 오래된 항목이 나온 2페이지에서 멈춤 (3페이지는 방향 확인용)
+        assertEquals(Set.of(1, 2, 3), new TreeSet<>(api.fetchedPages()));
+        assertEquals(Set.of(1L, 2L, 3L), new HashSet<>(stored));
+        CatalogSyncCheckpoint delta = checkpoints.get(CatalogSyncService.DELTA_SYNC);
+        assertEquals(CatalogSyncCheckpoint.COMPLETED, delta.getStatus());
+        assertEquals("20240115", delta.getWatermark());
+        assertEquals(3, delta.getSyncedCount());
+    }
+
+    @Test
+    void deltaSyncReadsFromTheEndWhenListIsOldestFirst() {
+        api.setCatalog(dates("20231230", "20240101", "20240105", "20240109", "20240112", "20240115"));
+        completedFullSync("20240110");
+
+        service(1, 20).runDeltaSync();
+
+        assertEquals(Set.of(4L, 5L, 6L), new HashSet<>(stored));
+        assertEquals("20240115", checkpoints.get(CatalogSyncService.DELTA_SYNC).getWatermark());
+    }
+
+    @Test
+    void deltaSyncDoesNotStopOnUnorderedPage() {
+        // 1페이지에 오래된 항목이 섞여 있지만 정렬되지 않았으므로 멈추지 않고 다음 페이지까지 읽음
+        api.setCatalog(dates("20240101", "20240115", "20240112", "20240109", "20240105", "20231230", "20231229",
+                "20231228"));
+        completedFullSync("20240110");
+
+        service(1, 20).runDeltaSync();
+
+        assertTrue(api.fetchedPages().contains(2));
+        assertEquals(Set.of(2L, 3L, 4L), new HashSet<>(stored));
+        assertEquals(CatalogSyncCheckpoint.COMPLETED, checkpoints.get(CatalogSyncService.DELTA_SYNC).getStatus());
+    }
+
+    @Test
+    void deltaSyncKeepsWatermarkWhenMaxPagesIsReached() {
+        api.setCatalog(dates("20240120", "20240119", "20240118", "20240117", "20240101", "20231230"));
+        completedFullSync("20240110");
+        CatalogSyncService service = service(1, 1);
+
+        service.runDeltaSync();
+
+        CatalogSyncCheckpoint delta = checkpoints.get(CatalogSyncService.DELTA_SYNC);
+        assertEquals(CatalogSyncCheckpoint.FAILED, delta.getStatus());
+        assertEquals("20240110", delta.getWatermark());
+        assertNull(delta.getCompletedAt());
+
+        // 기준일이 그대로라 다음 실행도 같은 범위를 읽음
+        service(1, 3).runDeltaSync();
+        assertEquals("20240120", checkpoints.get(CatalogSyncService.DELTA_SYNC).getWatermark());
+    }
+
+    @Test
+    void deltaSyncKeepsWatermarkWhenStoppedEarly() {
+        api.setCatalog(dates("20240115", "20240112", "20240109", "20240105"));
+        completedFullSync("20240110");
+        CatalogSyncService service = service(1, 20);
+        service.stop();
+
+        service.runDeltaSync();
+
+        CatalogSyncCheckpoint delta = checkpoints.get(CatalogSyncService.DELTA_SYNC);
+        assertEquals(CatalogSyncCheckpoint.FAILED, delta.getStatus());
+        assertEquals("20240110", delta.getWatermark());
+    }
+
+    @Test
+    void deltaSyncKeepsWatermarkWhenPageFails() {
+        api.setCatalog(dates("20240115", "20240114", "20240113", "20240112", "20240105", "20240101"));
+        api.failingPages.add(2);
+        completedFullSync("20240110");
+
+        service(1, 20).runDeltaSync();
+
+        CatalogSyncCheckpoint delta = checkpoints.get(CatalogSyncService.DELTA_SYNC);
+        assertEquals(CatalogSyncCheckpoint.FAILED, delta.getStatus());
+        assertEquals("20240110", delta.getWatermark());
+    }
+
+    @Test
+    void deltaSyncIsSkippedWithoutCompletedFullSync() {
+        api.setCatalog(dates("20240115"));
+
+        service(1, 20).runDeltaSync();
+
+        assertEquals(List.of(), api.fetchedPages());
+        assertNull(checkpoints.get(CatalogSyncService.DELTA_SYNC));
+    }
+
+    private CatalogSyncService service(int parallelism, int deltaMaxPages) {
+        return new CatalogSyncService(api, writer, checkpoints, executorRegistry, new SimpleMeterRegistry(),
+                true, false, PAGE_SIZE, parallelism, 1, 0, deltaMaxPages, 3);
+    }
+
+    private void completedFullSync(String watermark) {
+        checkpoints.saveCheckpoint(CatalogSyncCheckpoint.builder()
+                .jobName(CatalogSyncService.FULL_SYNC)
+                .status(CatalogSyncCheckpoint.COMPLETED)
+                .pageSize(PAGE_SIZE)
+                .nextPage(1)
+                .watermark(watermark)
+                .completedAt(LocalDateTime.now())
+                .build());
+    }
+
+    // 목록 순서대로 등록일자를 받아 품목제조신고번호 1, 2, 3... 인 항목 생성
+    private static List<HealthFunctionalFoodDto> dates(String... registDates) {
+        List<HealthFunctionalFoodDto> items = new ArrayList<>();
+        for (int i = 0; i < registDates.length; i++) {
+            items.add(HealthFunctionalFoodDto.builder()
+                    .prduct("제품" + (i + 1))
+                    .sttemntNo(String.valueOf(i + 1))
+                    .registDt(registDates[i])
+                    .build());
+        }
+        return items;
+    }
+
+    // fetchCatalogPage만 메모리 목록으로 대신하는 API 스텁
+    private static final class FakeCatalogApi extends HealthFunctionalFoodService {
+
+        private volatile List<HealthFunctionalFoodDto> catalog = List.of();
+        private final Set<Integer> failingPages = ConcurrentHashMap.newKeySet();
+        private final List<Integer> fetched = Collections.synchronizedList(new ArrayList<>());
+        private final AtomicInteger calls = new AtomicInteger();
+
+        FakeCatalogApi() {
+            super(null, null, null, null);
+        }
+
+        void setCatalog(List<HealthFunctionalFoodDto> catalog) {
+            this.catalog = catalog;
+        }
+
+        List<Integer> fetchedPages() {
+            synchronized (fetched) {
+                return new ArrayList<>(fetched);
+            }
+        }
+
+        @Override
+        public HealthFoodSearchResult fetchCatalogPage(int pageNo, int numOfRows) {
+            calls.incrementAndGet();
+            fetched.add(pageNo);
+            if (failingPages.contains(pageNo)) {
+                throw new IllegalStateException("API 오류: page=" + pageNo);
+            }
+            HealthFoodSearchResult result = new HealthFoodSearchResult();
+            result.setResultCode("00");
+            result.setTotalCount(catalog.size());
+            int from = Math.min(catalog.size(), (pageNo - 1) * numOfRows);
+            result.setItems(new ArrayList<>(catalog.subList(from, Math.min(catalog.size(), from + numOfRows))));
+            return result;
+        }
+    }
+
+    // 저장 시점의 값을 복사해 두는 체크포인트 저장소 (서비스가 같은 객체를 계속 고쳐 써도 영향 없음)
+    private static final class InMemoryCheckpoints implements CatalogSyncMapper {
+
+        private final Map<String, CatalogSyncCheckpoint> rows = new ConcurrentHashMap<>();
+
+        CatalogSyncCheckpoint get(String jobName) {
+            return rows.get(jobName);
+        }
+
+        @Override
+        public CatalogSyncCheckpoint getCheckpoint(String jobName) {
+            CatalogSyncCheckpoint row = rows.get(jobName);
+            return row == null ? null : copy(row);
+        }
+
+        @Override
+        public void saveCheckpoint(CatalogSyncCheckpoint checkpoint) {
+            rows.put(checkpoint.getJobName(), copy(checkpoint));
+        }
+
+        private static CatalogSyncCheckpoint copy(CatalogSyncCheckpoint source) {
+            return CatalogSyncCheckpoint.builder()
+                    .jobName(source.getJobName())
+                    .status(source.getStatus())
+                    .pageSize(source.getPageSize())
+                    .totalCount(source.getTotalCount())
+                    .nextPage(source.getNextPage())
+                    .syncedCount(source.getSyncedCount())
+                    .watermark(source.getWatermark())
+                    .lastError(source.getLastError())
+                    .startedAt(source.getStartedAt())
+                    .updatedAt(source.getUpdatedAt())
+                    .completedAt(source.getCompletedAt())
+                    .build();
+        }
+    }
+}
@@ -0,0 +1,100 @@
+package com.suppleit.backend.service;
+
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.io.InputStream;
+import java.sql.BatchUpdateException;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.util.List;
+
+import javax.sql.DataSource;
+
+import org.apache.ibatis.builder.xml.XMLMapperBuilder;
+import org.apache.ibatis.mapping.Environment;
+import org.apache.ibatis.session.Configuration;
+import org.apache.ibatis.session.SqlSessionFactoryBuilder;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mybatis.spring.transaction.SpringManagedTransactionFactory;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+
+import com.suppleit.backend.model.Product;
+
+/**
+ * 실제 ProductMapper.xml과 MyBatis BATCH 실행기를 쓰고 JDBC만 목으로 대신해
+ * upsertAll 한 번이 연결 하나, PreparedStatement 하나, executeBatch 한 번, 커밋 한 번인지 확인한다.
+ */
+class ProductBatchWriterTest {
+
+    private final DataSource dataSource = mock(DataSource.class);
+    private final Connection connection = mock(Connection.class);
+    private final PreparedStatement statement = mock(PreparedStatement.class);
+    private ProductBatchWriter writer;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        when(dataSource.getConnection()).thenReturn(connection);
+        when(connection.getAutoCommit()).thenReturn(true);
+        when(connection.prepareStatement(anyString())).thenReturn(statement);
+        when(statement.executeBatch()).thenReturn(new int[] {1, 1, 1});
+
+        Configuration configuration = new Configuration(
+                new Environment("test", new SpringManagedTransactionFactory(), dataSource));
+        configuration.setMapUnderscoreToCamelCase(true);
+        String resource = "mapper/ProductMapper.xml";
+        try (InputStream in = getClass().getClassLoader().getResourceAsStream(resource)) {
+            new XMLMapperBuilder(in, configuration, resource, configuration.getSqlFragments()).parse();
+        }
+        writer = new ProductBatchWriter(new SqlSessionFactoryBuilder().build(configuration),
+                new DataSourceTransactionManager(dataSource));
+    }
+
+    @Test
+    void upsertsAllProductsAsOneJdbcBatchInOneTransaction() throws Exception {
+        writer.upsertAll(List.of(product(1L), product(2L), product(3L)));
+
+        verify(dataSource, times(1)).getConnection();
+        verify(connection, times(1)).prepareStatement(anyString());
+        verify(statement, times(3)).addBatch();
+        verify(statement, times(1)).executeBatch();
+        verify(statement).setLong(1, 1L);
+        verify(statement).setLong(1, 2L);
+        verify(statement).setLong(1, 3L);
+        verify(connection, times(1)).commit();
+        verify(connection, never()).rollback();
+    }
+
+    @Test
+    void emptyListDoesNotTouchDatabase() throws Exception {
+        writer.upsertAll(List.of());
+
+        verify(dataSource, never()).getConnection();
+    }
+
+    @Test
+    void batchFailureRollsBackAndIsTranslated() throws Exception {
+        // 22001: 컬럼 길이 초과 -> 재시도해도 같은 오류 (ProductWriteBehindQueue가 배치를 나눠 문제 행을 골라냄)
+        when(statement.executeBatch()).thenThrow(new BatchUpdateException("Data too long", "22001", 1406, new int[0]));
+
+        assertThrows(DataIntegrityViolationException.class, () -> writer.upsertAll(List.of(product(1L))));
+
+        verify(connection, never()).commit();
+        verify(connection, times(1)).rollback();
+    }
+
+    private static Product product(Long id) {
+        return Product.builder()
+                .prdId(id)
+                .productName("제품" + id)
+                .registrationNo(String.valueOf(id))
+                .build();
+    }
+}
@@ -0,0 +1,222 @@
+package com.suppleit.backend.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import com.suppleit.backend.model.Product;
+
+class ProductSearchIndexTest {
+
+    private static final String ALPHABET = "abcAB가나";
+
+    // 검색 색인 테스트에는 DB가 필요 없음 (rebuild/upsertAll로 직접 채움)
+    private final ProductSearchIndex index = new ProductSearchIndex(null);
+    // 기대값 계산용 현재 제품 (prdId -> 제품)
+    private final Map<Long, Product> products = new LinkedHashMap<>();
+    private final Random random = new Random(17);
+
+    @Test
+    void ranksLikeSearchProductsQuery() {
+        rebuild(List.of(
+                product(1, "비타민", "종근당", "항산화"),
+                product(2, "비타민C 1000", "고려은단", "항산화"),
+                product(3, "멀티비타민", "뉴트리원", "피로 회복"),
+                product(4, "오메가3", "비타민하우스", "혈행 개선"),
+                product(5, "루테인", "대웅", "비타민 A 함유"),
+                product(6, "유산균", "비타민마을", "장 건강")));
+
+        assertEquals(List.of("비타민", "비타민C 1000", "멀티비타민", "오메가3", "유산균", "루테인"),
+                names(index.search("비타민", 20)));
+        assertEquals(List.of("비타민", "비타민C 1000"), names(index.search("비타민", 2)));
+        assertEquals(List.of("비타민", "비타민C 1000", "멀티비타민"), names(index.searchByName("비타민", 20)));
+    }
+
+    @Test
+    void comparesCaseInsensitively() {
+        rebuild(List.of(product(1, "Omega-3 Plus", "NOW Foods", "EPA DHA")));
+
+        assertEquals(List.of("Omega-3 Plus"), names(index.search("OMEGA", 20)));
+        assertEquals(List.of("Omega-3 Plus"), names(index.search("now", 20)));
+        assertEquals(List.of("Omega-3 Plus"), names(index.search("dha", 20)));
+    }
+
+    @Test
+    void returnsNullWhenIndexCannotAnswer() {
+        // 색인 전, 2자 미만 검색어는 DB 검색으로 넘김
+        assertNull(index.search("비타민", 20));
+        rebuild(List.of(product(1, "비타민", "종근당", "항산화")));
+        assertNull(index.search("비", 20));
+        assertNull(index.search(null, 20));
+        assertEquals(List.of(), index.search("비타민", 0));
+    }
+
+    @Test
+    void searchByNameReturnsSummariesOnly() {
+        rebuild(List.of(product(1, "비타민", "종근당", "항산화")));
+
+        Product summary = index.searchByName("비타민", 20).get(0);
+        assertEquals(1L, summary.getPrdId());
+        assertEquals("종근당", summary.getCompanyName());
+        assertNull(summary.getMainFunction());
+    }
+
+    @Test
+    void matchesBruteForceRankingOnRandomData() {
+        rebuild(randomProducts(1, 800));
+        assertMatchesBruteForce(300);
+    }
+
+    @Test
+    void matchesBruteForceAfterUpsertsPastSortedRange() {
+        rebuild(randomProducts(1, 600));
+
+        // 기존 제품 변경 + 새 제품 추가 -> 정렬 구간(sortedCount) 뒤에 이름순이 아닌 문서가 붙음
+        for (int round = 0; round < 5; round++) {
+            List<Product> changed = new ArrayList<>();
+            for (int i = 0; i < 40; i++) {
+                changed.add(randomProduct(1 + random.nextInt(600)));
+            }
+            changed.addAll(randomProducts(600 + round * 20 + 1, 20));
+            upsert(changed);
+            assertMatchesBruteForce(100);
+        }
+        assertEquals(products.size(), index.size());
+    }
+
+    @Test
+    void matchesBruteForceAcrossCompaction() {
+        rebuild(randomProducts(1, 300));
+
+        // 삭제 표시가 1024건과 살아 있는 문서 수를 넘으면 재색인 -> 그 전후 모두 같은 결과여야 함
+        for (int round = 0; round < 12; round++) {
+            List<Product> changed = new ArrayList<>();
+            for (int i = 0; i < 150; i++) {
+                changed.add(randomProduct(1 + random.nextInt(300)));
+            }
+            upsert(changed);
+            assertMatchesBruteForce(50);
+        }
+        assertEquals(300, index.size());
+    }
+
+    private void assertMatchesBruteForce(int queries) {
+        for (int q = 0; q < queries; q++) {
+            String keyword = randomText(2 + random.nextInt(3));
+            int limit = random.nextInt(4) == 0 ? 5 : ProductSearchIndex.DEFAULT_LIMIT;
+
+            assertEquals(describe(bruteForce(keyword, limit, false), keyword),
+                    describe(index.search(keyword, limit), keyword), "search " + keyword);
+            assertEquals(describe(bruteForce(keyword, limit, true), keyword),
+                    describe(index.searchByName(keyword, limit), keyword), "searchByName " + keyword);
+        }
+    }
+
+    // ProductMapper.searchProducts의 WHERE/ORDER BY/LIMIT를 그대로 옮긴 기대값
+    private List<Product> bruteForce(String keyword, int limit, boolean nameOnly) {
+        String query = keyword.toLowerCase(Locale.ROOT);
+        List<Product> matched = new ArrayList<>();
+        for (Product product : products.values()) {
+            int rank = rank(product, query);
+            if (rank >= 0 && (!nameOnly || rank <= 2)) {
+                matched.add(product);
+            }
+        }
+        matched.sort(Comparator.comparingInt((Product p) -> rank(p, query))
+                .thenComparing(p -> lower(p.getProductName()), Comparator.nullsLast(Comparator.naturalOrder())));
+        return matched.size() > limit ? matched.subList(0, limit) : matched;
+    }
+
+    private static int rank(Product product, String query) {
+        String name = lower(product.getProductName());
+        if (name != null && name.equals(query)) {
+            return 0;
+        }
+        if (name != null && name.startsWith(query)) {
+            return 1;
+        }
+        if (name != null && name.contains(query)) {
+            return 2;
+        }
+        String company = lower(product.getCompanyName());
+        if (company != null && company.contains(query)) {
+            return 3;
+        }
+        String mainFunction = lower(product.getMainFunction());
+        return mainFunction != null && mainFunction.contains(query) ? 4 : -1;
+    }
+
+    // 같은 순위, 같은 이름끼리는 순서가 정해지지 않으므로 (순위, 소문자 이름)으로 비교
+    private static List<String> describe(List<Product> result, String keyword) {
+        String query = keyword.toLowerCase(Locale.ROOT);
+        List<String> described = new ArrayList<>();
+        for (Product product : result) {
+            described.add(rank(product, query) + ":" + lower(product.getProductName()));
+        }
+        return described;
+    }
+
+    private void rebuild(List<Product> initial) {
+        products.clear();
+        initial.forEach(product -> products.put(product.getPrdId(), product));
+        index.rebuild(initial);
+        assertTrue(index.isReady());
+    }
+
+    private void upsert(List<Product> changed) {
+        changed.forEach(product -> products.put(product.getPrdId(), product));
+        index.upsertAll(changed);
+    }
+
+    private List<Product> randomProducts(long firstId, int count) {
+        List<Product> result = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            result.add(randomProduct(firstId + i));
+        }
+        return result;
+    }
+
+    private Product randomProduct(long prdId) {
+        return product(prdId,
+                random.nextInt(20) == 0 ? null : randomText(1 + random.nextInt(8)),
+                random.nextInt(5) == 0 ? null : randomText(random.nextInt(6)),
+                random.nextInt(5) == 0 ? null : randomText(random.nextInt(12)));
+    }
+
+    private String randomText(int length) {
+        StringBuilder builder = new StringBuilder(length);
+        for (int i = 0; i < length; i++) {
+            builder.append(ALPHABET.charAt(random.nextInt(ALPHABET.length())));
+        }
+        return builder.toString();
+    }
+
+    private static Product product(long prdId, String name, String company, String mainFunction) {
+        return Product.builder()
+                .prdId(prdId)
+                .productName(name)
+                .companyName(company)
+                .mainFunction(mainFunction)
+                .build();
+    }
+
+    private static String lower(String text) {
+        return text == null ? null : text.toLowerCase(Locale.ROOT);
+    }
+
+    private static List<String> names(List<Product> result) {
+        List<String> names = new ArrayList<>();
+        result.forEach(product -> names.add(product.getProductName()));
+        return names;
+    }
+}
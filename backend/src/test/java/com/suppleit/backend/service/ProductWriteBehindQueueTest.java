@@ -0,0 +1,174 @@
+package com.suppleit.backend.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.CannotAcquireLockException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.mock.env.MockEnvironment;
+
+import com.suppleit.backend.model.Product;
+import com.suppleit.backend.support.ExecutorRegistry;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class ProductWriteBehindQueueTest {
+
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final ExecutorRegistry executorRegistry = new ExecutorRegistry(new MockEnvironment(), meterRegistry);
+    private final ProductBatchWriter writer = mock(ProductBatchWriter.class);
+
+    // upsertAll 호출마다 넘어온 제품 ID 목록
+    private final List<List<Long>> calls = new ArrayList<>();
+    private final Set<Long> written = new HashSet<>();
+    // 이 ID가 들어간 배치는 제약 조건 위반으로 실패
+    private final Set<Long> poison = new HashSet<>();
+    // 0보다 크면 남은 횟수만큼 락 대기 시간 초과로 실패
+    private int transientFailures;
+
+    ProductWriteBehindQueueTest() {
+        doAnswer(invocation -> {
+            List<Product> products = invocation.getArgument(0);
+            List<Long> ids = products.stream().map(Product::getPrdId).toList();
+            calls.add(ids);
+            if (transientFailures > 0) {
+                transientFailures--;
+                throw new CannotAcquireLockException("Lock wait timeout exceeded");
+            }
+            if (ids.stream().anyMatch(poison::contains)) {
+                throw new DataIntegrityViolationException("Data too long for column");
+            }
+            written.addAll(ids);
+            return null;
+        }).when(writer).upsertAll(anyList());
+    }
+
+    @AfterEach
+    void tearDown() {
+        executorRegistry.shutdown();
+    }
+
+    @Test
+    void writesPendingProductsInBatches() {
+        ProductWriteBehindQueue queue = queue(2, 5);
+        enqueue(queue, 1L);
+        queue.flush();
+
+        assertEquals(Set.of(1L), written);
+        assertEquals(0, queue.pendingCount());
+        assertEquals(1.0, counter("written"));
+    }
+
+    @Test
+    void poisonRowIsSplitOutAndDiscardedWhileOthersAreWritten() {
+        ProductWriteBehindQueue queue = queue(8, 5);
+        poison.add(3L);
+        enqueue(queue, 1L, 2L, 3L, 4L, 5L);
+
+        queue.flush();
+
+        assertEquals(Set.of(1L, 2L, 4L, 5L), written);
+        assertEquals(0, queue.pendingCount());
+        assertEquals(4.0, counter("written"));
+        assertEquals(1.0, counter("discarded"));
+        assertEquals(0.0, counter("failed"));
+
+        // 버린 제품은 다음 flush에서 다시 시도하지 않음
+        int callsBefore = calls.size();
+        queue.flush();
+        assertEquals(callsBefore, calls.size());
+    }
+
+    @Test
+    void transientFailureRequeuesWholeBatchWithoutSplitting() {
+        ProductWriteBehindQueue queue = queue(8, 5);
+        transientFailures = 1;
+        enqueue(queue, 1L, 2L, 3L);
+
+        queue.flush();
+
+        assertEquals(1, calls.size());
+        assertEquals(3, queue.pendingCount());
+        assertEquals(3.0, counter("failed"));
+        assertEquals(0.0, counter("discarded"));
+
+        queue.flush();
+        assertEquals(Set.of(1L, 2L, 3L), written);
+        assertEquals(0, queue.pendingCount());
+    }
+
+    @Test
+    void transientFailuresAreCappedPerProduct() {
+        ProductWriteBehindQueue queue = queue(8, 3);
+        transientFailures = Integer.MAX_VALUE;
+        enqueue(queue, 1L, 2L);
+
+        queue.flush();
+        queue.flush();
+        assertEquals(2, queue.pendingCount());
+
+        queue.flush();
+        assertEquals(0, queue.pendingCount());
+        assertEquals(3, calls.size());
+        assertEquals(4.0, counter("failed"));
+        assertEquals(2.0, counter("discarded"));
+    }
+
+    @Test
+    void transientFailureWhileSplittingRequeuesUntriedHalf() {
+        ProductWriteBehindQueue queue = queue(8, 5);
+        poison.add(1L);
+        enqueue(queue, 1L, 2L, 3L, 4L);
+        // 첫 배치는 제약 조건 위반, 나눈 앞쪽 절반은 일시적 오류
+        doAnswer(invocation -> {
+            List<Product> products = invocation.getArgument(0);
+            List<Long> ids = products.stream().map(Product::getPrdId).toList();
+            calls.add(ids);
+            if (calls.size() == 1) {
+                throw new DataIntegrityViolationException("Data too long for column");
+            }
+            if (calls.size() == 2) {
+                throw new CannotAcquireLockException("Lock wait timeout exceeded");
+            }
+            written.addAll(ids);
+            return null;
+        }).when(writer).upsertAll(anyList());
+
+        queue.flush();
+
+        assertEquals(2, calls.size());
+        assertEquals(4, queue.pendingCount());
+        // 시도한 앞쪽 절반만 실패로 집계
+        assertEquals(2.0, counter("failed"));
+        assertEquals(0.0, counter("discarded"));
+    }
+
+    private ProductWriteBehindQueue queue(int batchSize, int maxAttempts) {
+        return new ProductWriteBehindQueue(writer, executorRegistry, meterRegistry, batchSize, 100, maxAttempts);
+    }
+
+    // batch-size보다 적게 넣어 enqueue가 비동기 flush를 예약하지 않도록 함
+    private static void enqueue(ProductWriteBehindQueue queue, Long... ids) {
+        for (Long id : ids) {
+            queue.enqueue(Product.builder()
+                    .prdId(id)
+                    .productName("제품" + id)
+                    .registrationNo(String.valueOf(id))
+                    .build());
+        }
+    }
+
+    private double counter(String result) {
+        return meterRegistry.get("product.ingest").tag("result", result).counter().count();
+    }
+}
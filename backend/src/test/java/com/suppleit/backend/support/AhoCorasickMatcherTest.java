@@ -0,0 +1,103 @@
+package com.suppleit.backend.support;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+class AhoCorasickMatcherTest {
+
+    @Test
+    void matchesKeywordAnywhereInText() {
+        AhoCorasickMatcher matcher = new AhoCorasickMatcher(List.of("비타민", "오메가", "홍삼"));
+
+        assertTrue(matcher.matchesAny("비타민C 1000"));
+        assertTrue(matcher.matchesAny("고함량 오메가3"));
+        assertTrue(matcher.matchesAny("6년근홍삼"));
+        assertFalse(matcher.matchesAny("유산균"));
+        assertFalse(matcher.matchesAny("비타"));
+    }
+
+    @Test
+    void followsFailLinksIntoOtherKeywords() {
+        // "abcd"를 따라가다 실패하면 "bce"로, "she"의 접미사 "he"도 매칭되어야 함
+        AhoCorasickMatcher matcher = new AhoCorasickMatcher(List.of("abcd", "bce", "he"));
+
+        assertTrue(matcher.matchesAny("xabce"));
+        assertTrue(matcher.matchesAny("she"));
+        assertFalse(matcher.matchesAny("abc"));
+        assertFalse(matcher.matchesAny("abxcd"));
+    }
+
+    @Test
+    void matchesKeywordContainedInLongerKeyword() {
+        // 긴 키워드 경로 중간에 끝나는 짧은 키워드 (실패 링크의 terminal 전파)
+        AhoCorasickMatcher matcher = new AhoCorasickMatcher(List.of("abcde", "bc"));
+
+        assertTrue(matcher.matchesAny("abcx"));
+        assertTrue(matcher.matchesAny("bc"));
+        assertFalse(matcher.matchesAny("abdc"));
+    }
+
+    @Test
+    void isCaseSensitiveLikeStringContains() {
+        AhoCorasickMatcher matcher = new AhoCorasickMatcher(List.of("Omega"));
+
+        assertTrue(matcher.matchesAny("Omega-3"));
+        assertFalse(matcher.matchesAny("omega-3"));
+    }
+
+    @Test
+    void skipsNullAndEmptyKeywords() {
+        AhoCorasickMatcher matcher = new AhoCorasickMatcher(Arrays.asList(null, "", "zinc"));
+
+        // 빈 키워드가 남아 있으면 모든 문자열이 매칭됨
+        assertFalse(matcher.matchesAny("magnesium"));
+        assertFalse(matcher.matchesAny(""));
+        assertTrue(matcher.matchesAny("zinc"));
+    }
+
+    @Test
+    void handlesNoKeywordsAndNullText() {
+        AhoCorasickMatcher empty = new AhoCorasickMatcher(List.of());
+        assertFalse(empty.matchesAny("anything"));
+        assertFalse(empty.matchesAny(""));
+
+        AhoCorasickMatcher matcher = new AhoCorasickMatcher(List.of("a"));
+        assertFalse(matcher.matchesAny(null));
+    }
+
+    @Test
+    void agreesWithStringContainsOnRandomInput() {
+        // 작은 알파벳으로 만들어 접두사/접미사 겹침과 실패 링크가 많이 생기도록 함
+        Random random = new Random(42);
+        for (int round = 0; round < 300; round++) {
+            List<String> keywords = new ArrayList<>();
+            int keywordCount = 1 + random.nextInt(8);
+            for (int i = 0; i < keywordCount; i++) {
+                keywords.add(randomString(random, 1 + random.nextInt(5)));
+            }
+            AhoCorasickMatcher matcher = new AhoCorasickMatcher(keywords);
+
+            for (int t = 0; t < 30; t++) {
+                String text = randomString(random, random.nextInt(20));
+                boolean expected = keywords.stream().anyMatch(text::contains);
+                assertEquals(expected, matcher.matchesAny(text), keywords + " in \"" + text + "\"");
+            }
+        }
+    }
+
+    private static String randomString(Random random, int length) {
+        StringBuilder builder = new StringBuilder(length);
+        for (int i = 0; i < length; i++) {
+            builder.append((char) ('a' + random.nextInt(3)));
+        }
+        return builder.toString();
+    }
+}
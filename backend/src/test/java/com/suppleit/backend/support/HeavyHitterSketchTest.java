@@ -0,0 +1,163 @@
+package com.suppleit.backend.support;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+class HeavyHitterSketchTest {
+
+    // 테스트 중에는 감쇠가 일어나지 않도록 충분히 긴 주기
+    private static final long NO_DECAY = TimeUnit.HOURS.toNanos(1);
+
+    @Test
+    void returnsMostFrequentKeysInDescendingOrder() {
+        HeavyHitterSketch sketch = new HeavyHitterSketch(4, 1024, 10, NO_DECAY);
+        record(sketch, "비타민", 5);
+        record(sketch, "오메가3", 3);
+        record(sketch, "홍삼", 1);
+
+        List<Map.Entry<String, Long>> top = sketch.top(10);
+
+        assertEquals(List.of("비타민", "오메가3", "홍삼"), keys(top));
+        assertEquals(5L, top.get(0).getValue());
+        assertEquals(3L, top.get(1).getValue());
+        assertEquals(1L, top.get(2).getValue());
+    }
+
+    @Test
+    void limitsResultSize() {
+        HeavyHitterSketch sketch = new HeavyHitterSketch(4, 1024, 10, NO_DECAY);
+        record(sketch, "a", 3);
+        record(sketch, "b", 2);
+        record(sketch, "c", 1);
+
+        assertEquals(List.of("a", "b"), keys(sketch.top(2)));
+        assertEquals(List.of(), keys(sketch.top(0)));
+        assertEquals(List.of(), keys(sketch.top(-1)));
+    }
+
+    @Test
+    void newKeyReplacesSmallestCandidateOnlyWhenItOvertakes() {
+        HeavyHitterSketch sketch = new HeavyHitterSketch(4, 1024, 2, NO_DECAY);
+        record(sketch, "a", 3);
+        record(sketch, "b", 2);
+
+        // 추정치 1은 가장 작은 후보(b=2)보다 작으므로 슬롯에 들어가지 못함
+        record(sketch, "c", 1);
+        assertEquals(Set.of("a", "b"), Set.copyOf(keys(sketch.top(10))));
+
+        // 추정치 3이 되면 b를 밀어냄
+        record(sketch, "c", 2);
+        assertEquals(Set.of("a", "c"), Set.copyOf(keys(sketch.top(10))));
+    }
+
+    @Test
+    void neverUnderestimatesAndFindsHeavyHittersDespiteCollisions() {
+        // 좁은 스케치라 충돌이 많지만 Count-Min 추정치는 실제 빈도 이상이어야 함
+        HeavyHitterSketch sketch = new HeavyHitterSketch(4, 64, 5, NO_DECAY);
+        Map<String, Long> actual = new HashMap<>();
+        Random random = new Random(7);
+        List<String> stream = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            for (int n = 0; n < 200; n++) {
+                stream.add("hot" + i);
+            }
+        }
+        for (int n = 0; n < 2000; n++) {
+            stream.add("cold" + random.nextInt(500));
+        }
+        Collections.shuffle(stream, random);
+        for (String key : stream) {
+            sketch.record(key);
+            actual.merge(key, 1L, Long::sum);
+        }
+
+        List<Map.Entry<String, Long>> top = sketch.top(5);
+        assertEquals(Set.of("hot0", "hot1", "hot2", "hot3", "hot4"), Set.copyOf(keys(top)));
+        for (Map.Entry<String, Long> entry : top) {
+            assertTrue(entry.getValue() >= actual.get(entry.getKey()), "과소 추정: " + entry);
+        }
+    }
+
+    @Test
+    void decayHalvesCountsAndDropsSingletons() throws InterruptedException {
+        HeavyHitterSketch sketch = new HeavyHitterSketch(4, 1024, 10, TimeUnit.MILLISECONDS.toNanos(50));
+        record(sketch, "a", 8);
+        record(sketch, "once", 1);
+        Thread.sleep(80);
+
+        // 감쇠는 다음 기록 시점에 일어남: a 8 -> 4, once 1 -> 제거
+        sketch.record("b");
+
+        Map<String, Long> top = toMap(sketch.top(10));
+        assertEquals(Map.of("a", 4L, "b", 1L), top);
+
+        // 감쇠된 카운터 위에서 계속 누적
+        sketch.record("a");
+        assertEquals(5L, toMap(sketch.top(10)).get("a"));
+    }
+
+    @Test
+    void concurrentRecordsAreNotLost() throws Exception {
+        HeavyHitterSketch sketch = new HeavyHitterSketch(4, 1024, 4, NO_DECAY);
+        int threads = 8;
+        int perThread = 2000;
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                int id = t;
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    for (int i = 0; i < perThread; i++) {
+                        sketch.record("hot");
+                        if (i % 100 == 0) {
+                            sketch.record("cold" + id);
+                        }
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get(10, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        List<Map.Entry<String, Long>> top = sketch.top(1);
+        assertEquals("hot", top.get(0).getKey());
+        assertEquals((long) threads * perThread, top.get(0).getValue());
+    }
+
+    private static void record(HeavyHitterSketch sketch, String key, int times) {
+        for (int i = 0; i < times; i++) {
+            sketch.record(key);
+        }
+    }
+
+    private static List<String> keys(List<Map.Entry<String, Long>> entries) {
+        return entries.stream().map(Map.Entry::getKey).collect(Collectors.toList());
+    }
+
+    private static Map<String, Long> toMap(List<Map.Entry<String, Long>> entries) {
+        return entries.stream().collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue));
+    }
+}
@@ -0,0 +1,138 @@
+package com.suppleit.backend.support;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.HashSet;
+import java.util.Random;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+class NgramIndexTest {
+
+    @Test
+    void findsBigramAndTrigramCandidatesPerField() {
+        NgramIndex index = new NgramIndex();
+        index.add(0, "비타민c", "종근당");
+        index.add(1, "오메가3", "비타민하우스");
+        index.add(2, "멀티비타민", null);
+
+        assertArrayEquals(new int[] { 0, 2 }, index.candidates("비타", 0));
+        assertArrayEquals(new int[] { 0, 2 }, index.candidates("비타민", 0));
+        assertArrayEquals(new int[] { 1 }, index.candidates("비타민", 1));
+        assertArrayEquals(new int[] {}, index.candidates("유산균", 0));
+    }
+
+    @Test
+    void returnsNullForQueriesShorterThanBigram() {
+        NgramIndex index = new NgramIndex();
+        index.add(0, "abc");
+
+        assertNull(index.candidates("a", 0));
+        assertNull(index.candidates("", 0));
+        assertNull(index.candidates(null, 0));
+    }
+
+    @Test
+    void doesNotIndexAcrossFieldBoundaries() {
+        NgramIndex index = new NgramIndex();
+        index.add(0, "ab", "cd");
+
+        assertArrayEquals(new int[] {}, index.candidates("bc", 0));
+        assertArrayEquals(new int[] {}, index.candidates("bc", 1));
+        assertArrayEquals(new int[] { 0 }, index.candidates("cd", 1));
+    }
+
+    @Test
+    void decodesLargeDocIdGaps() {
+        // varint 1~4바이트 차이가 섞인 게시 목록
+        int[] docIds = { 0, 1, 127, 128, 16_383, 16_384, 2_097_151, 2_097_152, 300_000_000 };
+        NgramIndex index = new NgramIndex();
+        for (int docId : docIds) {
+            index.add(docId, "xyz");
+        }
+        index.trimToSize();
+
+        assertArrayEquals(docIds, index.candidates("xy", 0));
+        assertArrayEquals(docIds, index.candidates("xyz", 0));
+    }
+
+    @Test
+    void rejectsNonIncreasingDocIdsAndTooManyFields() {
+        NgramIndex index = new NgramIndex();
+        index.add(5, "ab");
+
+        assertThrows(IllegalArgumentException.class, () -> index.add(5, "ab"));
+        assertThrows(IllegalArgumentException.class, () -> index.add(3, "ab"));
+        assertThrows(IllegalArgumentException.class, () -> index.add(6, new String[NgramIndex.MAX_FIELDS + 1]));
+    }
+
+    @Test
+    void candidatesAreSortedSupersetOfContainingDocuments() {
+        // 작은 알파벳으로 n-gram이 많이 겹치게 해서 교집합 중단 조건(후보 수, 길이 비율)까지 거치도록 함
+        Random random = new Random(3);
+        int docCount = 3000;
+        String[][] docs = new String[docCount][];
+        int[] docIds = new int[docCount];
+        NgramIndex index = new NgramIndex();
+        for (int d = 0; d < docCount; d++) {
+            // 문서 번호 사이를 띄워 varint 여러 바이트 차이도 섞이게 함
+            docIds[d] = (d == 0 ? 0 : docIds[d - 1]) + 1 + random.nextInt(300);
+            docs[d] = new String[] { randomText(random, 4 + random.nextInt(20)), randomText(random, random.nextInt(6)) };
+            index.add(docIds[d], docs[d]);
+        }
+
+        for (int q = 0; q < 500; q++) {
+            String query = randomText(random, 2 + random.nextInt(5));
+            int field = random.nextInt(2);
+            int[] candidates = index.candidates(query, field);
+
+            for (int i = 1; i < candidates.length; i++) {
+                assertTrue(candidates[i - 1] < candidates[i], "오름차순이어야 함");
+            }
+            Set<Integer> candidateSet = new HashSet<>();
+            for (int candidate : candidates) {
+                candidateSet.add(candidate);
+            }
+            for (int d = 0; d < docCount; d++) {
+                if (docs[d][field].contains(query)) {
+                    assertTrue(candidateSet.contains(docIds[d]), query + " 누락: " + docs[d][field]);
+                }
+            }
+        }
+    }
+
+    @Test
+    void exactForTwoAndThreeCharacterQueries() {
+        // 2자/3자 검색어는 n-gram 하나로 찾으므로 후보가 곧 정답
+        Random random = new Random(5);
+        NgramIndex index = new NgramIndex();
+        String[] names = new String[500];
+        for (int d = 0; d < names.length; d++) {
+            names[d] = randomText(random, random.nextInt(12));
+            index.add(d, names[d]);
+        }
+        for (int q = 0; q < 200; q++) {
+            String query = randomText(random, 2 + random.nextInt(2));
+            int expected = 0;
+            for (String name : names) {
+                if (name.contains(query)) {
+                    expected++;
+                }
+            }
+            assertEquals(expected, index.candidates(query, 0).length, query);
+        }
+    }
+
+    private static String randomText(Random random, int length) {
+        StringBuilder builder = new StringBuilder(length);
+        for (int i = 0; i < length; i++) {
+            builder.append("abcd가".charAt(random.nextInt(5)));
+        }
+        return builder.toString();
+    }
+}
@@ -0,0 +1,61 @@
+package com.suppleit.backend.support;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.env.MockEnvironment;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class RateLimiterRegistryTest {
+
+    // 토큰 1개 채우는 데 100초 -> 테스트 중에는 다시 채워지지 않음
+    private final MockEnvironment environment = new MockEnvironment()
+            .withProperty("rate-limit.naver.permits-per-second", "0.01")
+            .withProperty("rate-limit.naver.burst", "1")
+            .withProperty("rate-limit.naver.max-wait-ms", "0")
+            .withProperty("rate-limit.naver.keys.secondary.burst", "2");
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final RateLimiterRegistry registry = new RateLimiterRegistry(environment, meterRegistry);
+
+    @Test
+    void sameAliasSharesOneBucket() {
+        TokenBucketRateLimiter limiter = registry.get("naver", "primary");
+
+        assertSame(limiter, registry.get("naver", "primary"));
+        assertTrue(limiter.acquire());
+        assertFalse(registry.get("naver", "primary").acquire());
+    }
+
+    @Test
+    void aliasesHaveSeparateBucketsAndSettings() {
+        TokenBucketRateLimiter primary = registry.get("naver", "primary");
+        TokenBucketRateLimiter secondary = registry.get("naver", "secondary");
+
+        assertNotSame(primary, secondary);
+        assertTrue(primary.acquire());
+        assertFalse(primary.acquire());
+        // 별칭별 설정(burst=2)이 API 공통 설정보다 우선
+        assertTrue(secondary.acquire());
+        assertTrue(secondary.acquire());
+        assertFalse(secondary.acquire());
+    }
+
+    @Test
+    void metersAreTaggedWithAlias() {
+        TokenBucketRateLimiter limiter = registry.get("naver", "primary");
+        limiter.acquire();
+        limiter.acquire();
+
+        assertEquals("naver:primary", limiter.getName());
+        assertNotNull(meterRegistry.find("ratelimit.wait").tag("api", "naver").tag("key", "primary").timer());
+        assertEquals(1.0, meterRegistry.find("ratelimit.rejected").tag("api", "naver").tag("key", "primary")
+                .counter().count());
+    }
+}
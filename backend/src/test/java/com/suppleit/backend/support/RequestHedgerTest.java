@@ -0,0 +1,271 @@
+package com.suppleit.backend.support;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class RequestHedgerTest {
+
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final ExecutorService executor = Executors.newCachedThreadPool();
+    // 첫 시도를 붙잡아 두는 테스트가 끝나면 풀어줌
+    private final CountDownLatch release = new CountDownLatch(1);
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        executor.shutdownNow();
+    }
+
+    @Test
+    void doesNotHedgeBeforeMinSamples() {
+        RequestHedger hedger = hedger(0.9, 20, 5, 1.0, 5);
+        AtomicInteger attempts = new AtomicInteger();
+
+        for (int i = 0; i < 4; i++) {
+            assertEquals("ok", hedger.call(() -> {
+                attempts.incrementAndGet();
+                sleep(40);
+                return "ok";
+            }));
+        }
+
+        assertEquals(4, attempts.get());
+        assertEquals(0.0, counter("hedged"));
+        assertEquals(0.0, delayMillis());
+    }
+
+    @Test
+    void hedgesAfterDelayAndUsesFirstSuccess() {
+        RequestHedger hedger = hedger(0.9, 20, 5, 1.0, 5);
+        warmUp(hedger, 5);
+        // 빠른 응답뿐이라 지연은 하한값 20ms
+        assertEquals(20.0, delayMillis());
+
+        AtomicInteger attempts = new AtomicInteger();
+        long startedAt = System.nanoTime();
+        String result = hedger.call(() -> {
+            if (attempts.incrementAndGet() == 1) {
+                await(release);
+                return "primary";
+            }
+            return "hedge";
+        });
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt);
+
+        assertEquals("hedge", result);
+        assertEquals(2, attempts.get());
+        assertTrue(elapsedMillis >= 20, "헤지 지연 전에 추가 호출하면 안 됨: " + elapsedMillis + "ms");
+        assertEquals(1.0, counter("hedged"));
+        assertEquals(1.0, counter("won"));
+    }
+
+    @Test
+    void primaryFinishingWithinDelayIsNotHedged() {
+        RequestHedger hedger = hedger(0.9, 200, 5, 1.0, 5);
+        warmUp(hedger, 5);
+
+        AtomicInteger attempts = new AtomicInteger();
+        assertEquals("ok", hedger.call(() -> {
+            attempts.incrementAndGet();
+            sleep(20);
+            return "ok";
+        }));
+
+        assertEquals(1, attempts.get());
+        assertEquals(0.0, counter("hedged"));
+    }
+
+    @Test
+    void waitsForPrimaryWhenBudgetIsExhausted() {
+        // 호출마다 0.5 적립, 적립 한도 1 -> 웜업 후 1이 쌓여 있고 헤지 1건에 1 차감
+        RequestHedger hedger = hedger(0.9, 10, 5, 0.5, 1);
+        warmUp(hedger, 5);
+
+        Supplier<String> slowPrimary = slowPrimary(60);
+        assertEquals("hedge", hedger.call(slowPrimary));
+        assertEquals(1.0, counter("hedged"));
+
+        // 적립 0.5 < 1 -> 헤지하지 않고 원 호출을 끝까지 기다림
+        assertEquals("primary", hedger.call(slowPrimary(60)));
+        assertEquals(1.0, counter("hedged"));
+        assertEquals(1.0, counter("budget_exhausted"));
+
+        // 다음 호출에서 다시 1이 되어 헤지 가능
+        assertEquals("hedge", hedger.call(slowPrimary(60)));
+        assertEquals(2.0, counter("hedged"));
+    }
+
+    @Test
+    void saturatedLimiterSkipsHedgeWithoutWaitingOrSpendingBudget() {
+        // 버킷 1개를 원 요청이 쓰고 나면 100초 동안 다시 차지 않음 (acquire라면 최대 10초 대기)
+        TokenBucketRateLimiter limiter = new TokenBucketRateLimiter("test", 0.01, 1, 10_000,
+                meterRegistry.timer("wait"), meterRegistry.counter("rejected"));
+        RequestHedger hedger = hedger(0.9, 10, 5, 0.5, 1);
+        warmUp(hedger, 5);
+        assertTrue(limiter.acquire());
+
+        long startedAt = System.nanoTime();
+        assertEquals("primary", hedger.call(slowPrimary(60), limiter::tryAcquire));
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt);
+
+        assertTrue(elapsedMillis < 1000, "토큰을 기다리면 안 됨: " + elapsedMillis + "ms");
+        assertEquals(0.0, counter("hedged"));
+        assertEquals(1.0, counter("throttled"));
+        // 보내지 못한 헤지는 적립분을 쓰지 않으므로 토큰이 있으면 바로 헤징
+        assertEquals("hedge", hedger.call(slowPrimary(60), () -> true));
+        assertEquals(1.0, counter("hedged"));
+    }
+
+    @Test
+    void zeroRatioNeverHedges() {
+        RequestHedger hedger = hedger(0.9, 10, 5, 0.0, 5);
+        warmUp(hedger, 5);
+
+        assertEquals("primary", hedger.call(slowPrimary(40)));
+        assertEquals(0.0, counter("hedged"));
+        assertEquals(1.0, counter("budget_exhausted"));
+    }
+
+    @Test
+    void throwsSecondFailureWhenBothAttemptsFail() {
+        RequestHedger hedger = hedger(0.9, 20, 5, 1.0, 5);
+        warmUp(hedger, 5);
+
+        AtomicInteger attempts = new AtomicInteger();
+        IllegalStateException error = assertThrows(IllegalStateException.class, () -> hedger.call(() -> {
+            if (attempts.incrementAndGet() == 1) {
+                sleep(80);
+                throw new IllegalStateException("primary");
+            }
+            throw new IllegalStateException("hedge");
+        }));
+
+        // 헤지가 먼저 실패하고 원 호출이 나중에 실패
+        assertEquals("primary", error.getMessage());
+        assertEquals(2, attempts.get());
+    }
+
+    @Test
+    void successWinsOverEarlierFailure() {
+        RequestHedger hedger = hedger(0.9, 20, 5, 1.0, 5);
+        warmUp(hedger, 5);
+
+        AtomicInteger attempts = new AtomicInteger();
+        String result = hedger.call(() -> {
+            if (attempts.incrementAndGet() == 1) {
+                sleep(80);
+                return "primary";
+            }
+            throw new IllegalStateException("hedge");
+        });
+
+        assertEquals("primary", result);
+        assertEquals(0.0, counter("won"));
+    }
+
+    @Test
+    void primaryFailureBeforeDelayIsThrownWithoutHedging() {
+        RequestHedger hedger = hedger(0.9, 200, 5, 1.0, 5);
+        warmUp(hedger, 5);
+
+        AtomicInteger attempts = new AtomicInteger();
+        IllegalStateException error = assertThrows(IllegalStateException.class, () -> hedger.call(() -> {
+            attempts.incrementAndGet();
+            throw new IllegalStateException("fast failure");
+        }));
+
+        assertEquals("fast failure", error.getMessage());
+        assertEquals(1, attempts.get());
+        assertEquals(0.0, counter("hedged"));
+    }
+
+    @Test
+    void delayTracksPercentileOfRecentSamples() {
+        RequestHedger hedger = hedger(0.9, 0, 10, 1.0, 5);
+
+        // 10, 20, ..., 100ms -> p90 = 9번째 값 90ms
+        for (int i = 1; i <= 10; i++) {
+            int millis = i * 10;
+            hedger.call(() -> {
+                sleep(millis);
+                return "ok";
+            });
+        }
+        double p90 = delayMillis();
+        assertTrue(p90 >= 90 && p90 < 100, "p90: " + p90);
+
+        // 64번째 기록에서 다시 계산: 빠른 응답 54건이 섞이면 p90이 느린 응답 중 작은 쪽으로 내려감
+        warmUp(hedger, 54);
+        double recomputed = delayMillis();
+        assertTrue(recomputed >= 40 && recomputed < 50, "recomputed p90: " + recomputed);
+    }
+
+    @Test
+    void rejectsInvalidConfiguration() {
+        assertThrows(IllegalArgumentException.class, () -> hedger(0, 10, 5, 0.1, 5));
+        assertThrows(IllegalArgumentException.class, () -> hedger(1, 10, 5, 0.1, 5));
+        assertThrows(IllegalArgumentException.class, () -> hedger(0.9, 10, 5, -0.1, 5));
+    }
+
+    private RequestHedger hedger(double percentile, long minDelayMillis, int minSamples, double maxRatio,
+            int maxBurst) {
+        return new RequestHedger("test", executor, percentile, minDelayMillis, minSamples, maxRatio, maxBurst,
+                meterRegistry);
+    }
+
+    private static void warmUp(RequestHedger hedger, int calls) {
+        for (int i = 0; i < calls; i++) {
+            hedger.call(() -> "warm");
+        }
+    }
+
+    // 첫 시도만 느리고 추가 시도는 바로 응답
+    private static Supplier<String> slowPrimary(long millis) {
+        AtomicInteger attempts = new AtomicInteger();
+        return () -> {
+            if (attempts.incrementAndGet() == 1) {
+                sleep(millis);
+                return "primary";
+            }
+            return "hedge";
+        };
+    }
+
+    private double counter(String result) {
+        return meterRegistry.find("hedge.calls").tag("name", "test").tag("result", result).counter().count();
+    }
+
+    private double delayMillis() {
+        return meterRegistry.find("hedge.delay").tag("name", "test").gauge().value();
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,83 @@
+package com.suppleit.backend.support;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+class SimpleCsvReaderTest {
+
+    @Test
+    void readsPlainRecords() throws IOException {
+        assertEquals(List.of(
+                List.of("name", "function"),
+                List.of("비타민C", "항산화")),
+                readAll("name,function\n비타민C,항산화\n"));
+    }
+
+    @Test
+    void keepsCommasAndNewlinesInsideQuotes() throws IOException {
+        assertEquals(List.of(
+                List.of("홍삼", "면역력 증진,\n피로 개선"),
+                List.of("next", "row")),
+                readAll("홍삼,\"면역력 증진,\n피로 개선\"\nnext,row\n"));
+    }
+
+    @Test
+    void unescapesDoubledQuotes() throws IOException {
+        assertEquals(List.of(List.of("say \"hi\"", "\"")), readAll("\"say \"\"hi\"\"\",\"\"\"\"\n"));
+    }
+
+    @Test
+    void handlesCrLfAndLoneCr() throws IOException {
+        assertEquals(List.of(
+                List.of("a", "b"),
+                List.of("c", "d"),
+                List.of("e")),
+                readAll("a,b\r\nc,d\re"));
+    }
+
+    @Test
+    void keepsEmptyFields() throws IOException {
+        assertEquals(List.of(
+                List.of("", "x", ""),
+                List.of(""),
+                List.of("", "")),
+                readAll(",x,\n\n\"\",\n"));
+    }
+
+    @Test
+    void quoteInsideUnquotedFieldIsLiteral() throws IOException {
+        assertEquals(List.of(List.of("5\" tablet", "b")), readAll("5\" tablet,b\n"));
+    }
+
+    @Test
+    void unclosedQuoteReturnsRestAsLastField() throws IOException {
+        assertEquals(List.of(List.of("a", "open,\nrest")), readAll("a,\"open,\nrest"));
+    }
+
+    @Test
+    void returnsNullAtEndOfInput() throws IOException {
+        SimpleCsvReader reader = new SimpleCsvReader(new StringReader("last"));
+        assertEquals(List.of("last"), reader.readRecord());
+        assertNull(reader.readRecord());
+        assertNull(reader.readRecord());
+
+        assertNull(new SimpleCsvReader(new StringReader("")).readRecord());
+    }
+
+    private static List<List<String>> readAll(String csv) throws IOException {
+        SimpleCsvReader reader = new SimpleCsvReader(new StringReader(csv));
+        List<List<String>> records = new ArrayList<>();
+        List<String> record;
+        while ((record = reader.readRecord()) != null) {
+            records.add(record);
+        }
+        return records;
+    }
+}
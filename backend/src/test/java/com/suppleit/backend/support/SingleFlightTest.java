@@ -0,0 +1,191 @@
+package com.suppleit.backend.support;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class SingleFlightTest {
+
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final SingleFlight<String, String> singleFlight = new SingleFlight<>("test", meterRegistry);
+
+    @Test
+    void concurrentCallsForSameKeyShareOneExecution() throws Exception {
+        CompletableFuture<String> source = new CompletableFuture<>();
+        AtomicInteger calls = new AtomicInteger();
+
+        CompletableFuture<String> first = singleFlight.execute("a", () -> {
+            calls.incrementAndGet();
+            return source;
+        });
+        CompletableFuture<String> second = singleFlight.execute("a", () -> {
+            calls.incrementAndGet();
+            return CompletableFuture.completedFuture("other");
+        });
+
+        assertEquals(1, calls.get());
+        assertEquals(1, singleFlight.inFlightCount());
+        // 호출자마다 별도의 Future (한 호출자가 완료/취소해도 다른 호출자에 영향 없음)
+        assertNotSame(first, second);
+
+        source.complete("value");
+        assertEquals("value", first.get(1, TimeUnit.SECONDS));
+        assertEquals("value", second.get(1, TimeUnit.SECONDS));
+        assertEquals(0, singleFlight.inFlightCount());
+        assertEquals(1.0, counter("executed"));
+        assertEquals(1.0, counter("coalesced"));
+    }
+
+    @Test
+    void differentKeysRunSeparately() {
+        AtomicInteger calls = new AtomicInteger();
+        singleFlight.execute("a", () -> {
+            calls.incrementAndGet();
+            return new CompletableFuture<>();
+        });
+        singleFlight.execute("b", () -> {
+            calls.incrementAndGet();
+            return new CompletableFuture<>();
+        });
+
+        assertEquals(2, calls.get());
+        assertEquals(2, singleFlight.inFlightCount());
+    }
+
+    @Test
+    void keyIsReleasedAfterCompletionSoNextCallRunsAgain() throws Exception {
+        AtomicInteger calls = new AtomicInteger();
+        for (int i = 0; i < 3; i++) {
+            String value = singleFlight.execute("a", () -> CompletableFuture.completedFuture("v" + calls.incrementAndGet()))
+                    .get(1, TimeUnit.SECONDS);
+            assertEquals("v" + (i + 1), value);
+        }
+        assertEquals(3, calls.get());
+        assertEquals(0, singleFlight.inFlightCount());
+    }
+
+    @Test
+    void failureIsSharedAndKeyIsReleased() {
+        CompletableFuture<String> source = new CompletableFuture<>();
+        CompletableFuture<String> first = singleFlight.execute("a", () -> source);
+        CompletableFuture<String> second = singleFlight.execute("a", () -> source);
+
+        IllegalStateException failure = new IllegalStateException("boom");
+        source.completeExceptionally(failure);
+
+        ExecutionException firstError = assertThrows(ExecutionException.class, () -> first.get(1, TimeUnit.SECONDS));
+        ExecutionException secondError = assertThrows(ExecutionException.class, () -> second.get(1, TimeUnit.SECONDS));
+        assertSame(failure, firstError.getCause());
+        assertSame(failure, secondError.getCause());
+        assertEquals(0, singleFlight.inFlightCount());
+    }
+
+    @Test
+    void supplierExceptionFailsCallerAndReleasesKey() {
+        IllegalStateException failure = new IllegalStateException("boom");
+        CompletableFuture<String> result = singleFlight.execute("a", () -> {
+            throw failure;
+        });
+
+        ExecutionException error = assertThrows(ExecutionException.class, () -> result.get(1, TimeUnit.SECONDS));
+        assertSame(failure, error.getCause());
+        assertEquals(0, singleFlight.inFlightCount());
+    }
+
+    @Test
+    void cancellingOneOfTwoWaitersKeepsSourceRunning() throws Exception {
+        CompletableFuture<String> source = new CompletableFuture<>();
+        CompletableFuture<String> first = singleFlight.execute("a", () -> source);
+        CompletableFuture<String> second = singleFlight.execute("a", () -> source);
+
+        first.cancel(false);
+
+        assertFalse(source.isCancelled());
+        source.complete("value");
+        assertEquals("value", second.get(1, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void cancellingLastWaiterCancelsSource() {
+        CompletableFuture<String> source = new CompletableFuture<>();
+        CompletableFuture<String> first = singleFlight.execute("a", () -> source);
+        CompletableFuture<String> second = singleFlight.execute("a", () -> source);
+
+        first.cancel(false);
+        second.cancel(false);
+
+        assertTrue(source.isCancelled());
+        // 원본 취소로 키도 정리되어 다음 호출은 새로 실행
+        assertEquals(0, singleFlight.inFlightCount());
+    }
+
+    @Test
+    void completingCallerViewDoesNotAffectOtherWaiters() throws Exception {
+        CompletableFuture<String> source = new CompletableFuture<>();
+        CompletableFuture<String> first = singleFlight.execute("a", () -> source);
+        CompletableFuture<String> second = singleFlight.execute("a", () -> source);
+
+        first.complete("local");
+
+        source.complete("value");
+        assertEquals("local", first.get(1, TimeUnit.SECONDS));
+        assertEquals("value", second.get(1, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void manyThreadsRacingOnOneKeyExecuteOnce() throws Exception {
+        int threads = 16;
+        CompletableFuture<String> source = new CompletableFuture<>();
+        AtomicInteger calls = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            @SuppressWarnings("unchecked")
+            CompletableFuture<CompletableFuture<String>>[] results = new CompletableFuture[threads];
+            for (int t = 0; t < threads; t++) {
+                results[t] = CompletableFuture.supplyAsync(() -> {
+                    try {
+                        start.await();
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                    return singleFlight.execute("a", () -> {
+                        calls.incrementAndGet();
+                        return source;
+                    });
+                }, executor);
+            }
+            start.countDown();
+            CompletableFuture.allOf(results).get(5, TimeUnit.SECONDS);
+            source.complete("value");
+            for (CompletableFuture<CompletableFuture<String>> result : results) {
+                assertEquals("value", result.get().get(1, TimeUnit.SECONDS));
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertEquals(1, calls.get());
+        assertEquals(threads - 1.0, counter("coalesced"));
+    }
+
+    private double counter(String result) {
+        return meterRegistry.find("singleflight.calls").tag("name", "test").tag("result", result).counter().count();
+    }
+}
@@ -0,0 +1,173 @@
+package com.suppleit.backend.support;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+class TfIdfIndexTest {
+
+    @Test
+    void computesSmoothIdfCosineScores() {
+        TfIdfIndex index = new TfIdfIndex(
+                List.of("A", "B", "C"),
+                List.of("vitamin zinc", "vitamin iron", "omega"));
+
+        List<TfIdfIndex.ScoredName> result = index.search("zinc", 10, 0f);
+
+        // zinc 문서 하나만 일치: idf(zinc) = ln(4/2) + 1, idf(vitamin) = ln(4/3) + 1
+        double zinc = Math.log(4.0 / 2.0) + 1;
+        double vitamin = Math.log(4.0 / 3.0) + 1;
+        assertEquals(List.of("A"), names(result));
+        assertEquals(zinc / Math.sqrt(zinc * zinc + vitamin * vitamin), result.get(0).getScore(), 1e-6);
+    }
+
+    @Test
+    void identicalTextScoresOne() {
+        TfIdfIndex index = new TfIdfIndex(List.of("A", "B"), List.of("홍삼 면역력 증진", "비타민 피로 회복"));
+
+        List<TfIdfIndex.ScoredName> result = index.search("홍삼 면역력 증진", 10, 0f);
+
+        assertEquals("A", result.get(0).getName());
+        assertEquals(1.0, result.get(0).getScore(), 1e-6);
+    }
+
+    @Test
+    void tokenizesLikeTfidfVectorizerDefaults() {
+        TfIdfIndex index = new TfIdfIndex(List.of("A", "B"), List.of("Vitamin C", "c x"));
+
+        // 대소문자 무시, 한 글자 단어는 색인하지 않음
+        assertEquals(List.of("A"), names(index.search("VITAMIN", 10, 0f)));
+        assertEquals(List.of(), names(index.search("c", 10, 0f)));
+        assertEquals(List.of(), names(index.search("unknown words", 10, 0f)));
+        assertEquals(List.of(), names(index.search(null, 10, 0f)));
+    }
+
+    @Test
+    void ordersByScoreAndAppliesLimitAndThreshold() {
+        TfIdfIndex index = new TfIdfIndex(
+                List.of("A", "B", "C"),
+                List.of("sleep", "sleep sleep stress", "sleep stress stress stress"));
+
+        List<TfIdfIndex.ScoredName> all = index.search("sleep", 10, 0f);
+        assertEquals(List.of("A", "B", "C"), names(all));
+        assertTrue(all.get(0).getScore() > all.get(1).getScore());
+        assertTrue(all.get(1).getScore() > all.get(2).getScore());
+
+        assertEquals(List.of("A", "B"), names(index.search("sleep", 2, 0f)));
+        // threshold는 초과 비교
+        assertEquals(List.of("A"), names(index.search("sleep", 10, all.get(1).getScore())));
+    }
+
+    @Test
+    void returnsEachNameOnceWithItsBestScore() {
+        TfIdfIndex index = new TfIdfIndex(
+                List.of("A", "A", "B"),
+                List.of("joint health", "joint", "joint care"));
+
+        List<TfIdfIndex.ScoredName> result = index.search("joint", 10, 0f);
+
+        assertEquals(List.of("A", "B"), names(result));
+        assertEquals(1.0, result.get(0).getScore(), 1e-6);
+        assertEquals(3, index.size());
+    }
+
+    @Test
+    void matchesReferenceImplementationOnRandomCorpus() {
+        Random random = new Random(11);
+        String[] words = { "vitamin", "omega", "zinc", "iron", "sleep", "joint", "eye", "liver", "gut", "skin" };
+        List<String> names = new ArrayList<>();
+        List<String> texts = new ArrayList<>();
+        for (int doc = 0; doc < 200; doc++) {
+            names.add("product" + random.nextInt(150));
+            texts.add(randomText(random, words, 1 + random.nextInt(8)));
+        }
+        TfIdfIndex index = new TfIdfIndex(names, texts);
+
+        for (int q = 0; q < 50; q++) {
+            String query = randomText(random, words, 1 + random.nextInt(3));
+            Map<String, Double> expected = referenceScores(names, texts, query);
+            List<TfIdfIndex.ScoredName> actual = index.search(query, 1000, 0.05f);
+
+            Set<String> expectedNames = expected.entrySet().stream()
+                    .filter(e -> e.getValue() > 0.05 + 1e-5)
+                    .map(Map.Entry::getKey)
+                    .collect(Collectors.toSet());
+            Set<String> actualNames = new LinkedHashSet<>(names(actual));
+            assertTrue(actualNames.containsAll(expectedNames), query + ": 누락된 결과");
+            for (TfIdfIndex.ScoredName scored : actual) {
+                assertEquals(expected.get(scored.getName()), scored.getScore(), 1e-5);
+            }
+            for (int i = 1; i < actual.size(); i++) {
+                assertTrue(actual.get(i - 1).getScore() >= actual.get(i).getScore(), query + ": 정렬 순서");
+            }
+        }
+    }
+
+    // 정의대로 계산한 상품명별 최고 코사인 유사도
+    private static Map<String, Double> referenceScores(List<String> names, List<String> texts, String query) {
+        int n = texts.size();
+        List<Map<String, Integer>> tfs = new ArrayList<>();
+        Map<String, Integer> df = new HashMap<>();
+        for (String text : texts) {
+            Map<String, Integer> tf = termFrequency(text);
+            tfs.add(tf);
+            tf.keySet().forEach(term -> df.merge(term, 1, Integer::sum));
+        }
+        Map<String, Double> queryVector = normalize(termFrequency(query), df, n);
+        Map<String, Double> best = new HashMap<>();
+        for (int doc = 0; doc < n; doc++) {
+            Map<String, Double> docVector = normalize(tfs.get(doc), df, n);
+            double score = 0;
+            for (Map.Entry<String, Double> entry : queryVector.entrySet()) {
+                score += entry.getValue() * docVector.getOrDefault(entry.getKey(), 0.0);
+            }
+            best.merge(names.get(doc), score, Math::max);
+        }
+        return best;
+    }
+
+    private static Map<String, Integer> termFrequency(String text) {
+        Map<String, Integer> tf = new HashMap<>();
+        for (String token : text.toLowerCase().split("\\s+")) {
+            if (token.length() >= 2) {
+                tf.merge(token, 1, Integer::sum);
+            }
+        }
+        return tf;
+    }
+
+    private static Map<String, Double> normalize(Map<String, Integer> tf, Map<String, Integer> df, int n) {
+        Map<String, Double> vector = new HashMap<>();
+        for (Map.Entry<String, Integer> entry : tf.entrySet()) {
+            Integer documentFrequency = df.get(entry.getKey());
+            if (documentFrequency != null) {
+                vector.put(entry.getKey(), entry.getValue() * (Math.log((1.0 + n) / (1.0 + documentFrequency)) + 1));
+            }
+        }
+        double norm = Math.sqrt(vector.values().stream().mapToDouble(w -> w * w).sum());
+        vector.replaceAll((term, weight) -> weight / norm);
+        return vector;
+    }
+
+    private static String randomText(Random random, String[] words, int length) {
+        List<String> tokens = new ArrayList<>();
+        for (int i = 0; i < length; i++) {
+            tokens.add(words[random.nextInt(words.length)]);
+        }
+        return String.join(" ", tokens);
+    }
+
+    private static List<String> names(List<TfIdfIndex.ScoredName> result) {
+        return result.stream().map(TfIdfIndex.ScoredName::getName).collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,148 @@
+package com.suppleit.backend.support;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class TokenBucketRateLimiterTest {
+
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final Timer waitTimer = meterRegistry.timer("wait");
+    private final Counter rejectedCounter = meterRegistry.counter("rejected");
+
+    @Test
+    void burstPassesImmediatelyThenRejectsWithoutWaiting() {
+        // 토큰 1개 채우는 데 100초 -> 테스트 중에는 다시 채워지지 않음
+        TokenBucketRateLimiter limiter = limiter(0.01, 5, 0);
+
+        long startedAt = System.nanoTime();
+        for (int i = 0; i < 5; i++) {
+            assertTrue(limiter.acquire(), "burst 안의 " + (i + 1) + "번째 요청");
+        }
+        assertFalse(limiter.acquire());
+        assertFalse(limiter.acquire());
+
+        assertTrue(System.nanoTime() - startedAt < TimeUnit.MILLISECONDS.toNanos(500));
+        assertEquals(5, waitTimer.count());
+        assertEquals(2.0, rejectedCounter.count());
+    }
+
+    @Test
+    void waitsForNextTokenWithinMaxWait() {
+        // 50ms마다 토큰 1개, 최대 200ms 대기
+        TokenBucketRateLimiter limiter = limiter(20, 1, 200);
+
+        assertTrue(limiter.acquire());
+        long startedAt = System.nanoTime();
+        assertTrue(limiter.acquire());
+        long waitedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt);
+
+        assertTrue(waitedMillis >= 40, "다음 토큰까지 대기해야 함: " + waitedMillis + "ms");
+        assertEquals(0.0, rejectedCounter.count());
+    }
+
+    @Test
+    void rejectsWhenWaitWouldExceedMaxWait() {
+        // 1초마다 토큰 1개, 최대 100ms 대기
+        TokenBucketRateLimiter limiter = limiter(1, 1, 100);
+
+        assertTrue(limiter.acquire());
+        long startedAt = System.nanoTime();
+        assertFalse(limiter.acquire());
+
+        assertTrue(System.nanoTime() - startedAt < TimeUnit.MILLISECONDS.toNanos(100), "거절은 대기 없이 바로");
+        assertEquals(1.0, rejectedCounter.count());
+    }
+
+    @Test
+    void idleTimeDoesNotAccumulateMoreThanBurst() throws InterruptedException {
+        // 10ms마다 토큰 1개, burst 3 -> 오래 쉬어도 대기 없이 통과하는 것은 3개까지
+        TokenBucketRateLimiter limiter = limiter(100, 3, 0);
+        Thread.sleep(100);
+
+        int passed = 0;
+        for (int i = 0; i < 10; i++) {
+            if (limiter.acquire()) {
+                passed++;
+            }
+        }
+        // 100ms 동안 쉬었으므로 제한이 없으면 10개 모두 통과 (반복 중 새로 채워지는 토큰만큼 여유)
+        assertTrue(passed >= 3 && passed <= 5, "burst 이상으로 쌓이면 안 됨: " + passed);
+    }
+
+    @Test
+    void concurrentCallersNeverExceedBurst() throws Exception {
+        TokenBucketRateLimiter limiter = limiter(0.01, 100, 0);
+        int threads = 8;
+        int attemptsPerThread = 200;
+        AtomicInteger passed = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    for (int i = 0; i < attemptsPerThread; i++) {
+                        if (limiter.acquire()) {
+                            passed.incrementAndGet();
+                        }
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get(10, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        // CAS 경합이 있어도 토큰은 정확히 burst개만 발급
+        assertEquals(100, passed.get());
+        assertEquals(threads * attemptsPerThread - 100.0, rejectedCounter.count());
+    }
+
+    @Test
+    void tryAcquireNeverWaitsOrCountsRejections() {
+        // 최대 대기 10초여도 tryAcquire는 남은 토큰만 사용
+        TokenBucketRateLimiter limiter = limiter(0.01, 2, 10_000);
+
+        long startedAt = System.nanoTime();
+        assertTrue(limiter.tryAcquire());
+        assertTrue(limiter.tryAcquire());
+        assertFalse(limiter.tryAcquire());
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt);
+
+        assertTrue(elapsedMillis < 100, "대기하면 안 됨: " + elapsedMillis + "ms");
+        assertEquals(0.0, rejectedCounter.count());
+    }
+
+    @Test
+    void rejectsInvalidConfiguration() {
+        assertThrows(IllegalArgumentException.class, () -> limiter(0, 1, 0));
+        assertThrows(IllegalArgumentException.class, () -> limiter(1, 0, 0));
+    }
+
+    private TokenBucketRateLimiter limiter(double permitsPerSecond, int burst, long maxWaitMillis) {
+        return new TokenBucketRateLimiter("test", permitsPerSecond, burst, maxWaitMillis, waitTimer, rejectedCounter);
+    }
+}
@@ -0,0 +1,104 @@
+-- 제품 검색 벤치마크: LIKE '%kw%' (3개 컬럼) vs FULLTEXT ngram MATCH ... AGAINST
+-- 실행: docker exec -i mysql-db mysql -uroot -pabcd1234 suppleit < db/benchmark/product_search_benchmark.sql
+-- product 테이블과 같은 구조의 product_bench 테이블에 12만 건을 만들고 EXPLAIN ANALYZE로 실제 실행 시간을 비교한다.
+-- 끝나면 product_bench 테이블은 삭제한다 (운영 데이터는 건드리지 않음).
+
+SET SESSION cte_max_recursion_depth = 200000;
+
+DROP TABLE IF EXISTS product_bench;
+
+CREATE TABLE product_bench LIKE product;
+
+-- 제품명 = 브랜드 + 성분 + 제형 + 번호, 주요 기능은 성분별 문구 (건강기능식품 API 데이터와 비슷한 분포)
+INSERT INTO product_bench (product_name, company_name, registration_no, main_function)
+WITH RECURSIVE seq (n) AS (
+  SELECT 1
+  UNION ALL
+  SELECT n + 1 FROM seq WHERE n < 120000
+)
+SELECT
+  CONCAT(
+    ELT(1 + n % 12, '뉴트리', '닥터', '데일리', '바이탈', '프리미엄', '네이처', '헬씨', '그린', '참', '온가족', '골드', '에브리'),
+    ' ',
+    ELT(1 + (n DIV 12) % 15, '비타민C', '비타민D', '루테인', '오메가3', '프로바이오틱스', '밀크씨슬', '홍삼', '마그네슘',
+        '칼슘', '아연', '코엔자임Q10', '콜라겐', '글루코사민', '가르시니아', '쏘팔메토'),
+    ' ',
+    ELT(1 + (n DIV 180) % 5, '정', '캡슐', '분말', '액상', '젤리'),
+    ' ', n),
+  CONCAT(ELT(1 + (n DIV 7) % 8, '(주)한국건강', '대한제약', '(주)바이오랩', '세종헬스', '(주)내추럴팜', '미래생명과학',
+             '(주)푸른식품', '동방제약'), ' ', n % 500),
+  CONCAT('2024', LPAD(n, 10, '0')),
+  ELT(1 + (n DIV 12) % 15,
+      '항산화 작용을 하여 유해산소로부터 세포를 보호하는데 필요',
+      '칼슘과 인이 흡수되고 이용되는데 필요, 뼈의 형성과 유지에 필요',
+      '노화로 인해 감소될 수 있는 황반색소밀도를 유지하여 눈 건강에 도움을 줄 수 있음',
+      '혈중 중성지질 개선, 혈행 개선에 도움을 줄 수 있음',
+      '유산균 증식 및 유해균 억제, 배변활동 원활에 도움을 줄 수 있음',
+      '간 건강에 도움을 줄 수 있음',
+      '면역력 증진, 피로개선에 도움을 줄 수 있음',
+      '에너지 이용에 필요, 신경과 근육 기능 유지에 필요',
+      '뼈와 치아 형성에 필요, 골다공증 발생 위험 감소에 도움을 줌',
+      '정상적인 면역기능에 필요, 정상적인 세포분열에 필요',
+      '항산화, 높은 혈압 감소에 도움을 줄 수 있음',
+      '피부 보습에 도움을 줄 수 있음',
+      '관절 및 연골 건강에 도움을 줄 수 있음',
+      '탄수화물이 지방으로 합성되는 것을 억제하여 체지방 감소에 도움을 줄 수 있음',
+      '전립선 건강의 유지에 도움을 줄 수 있음')
+FROM seq;
+
+ANALYZE TABLE product_bench;
+SELECT COUNT(*) AS bench_rows FROM product_bench;
+
+-- 1) 기존 방식: LIKE '%kw%' x 3 (인덱스 없음, 전체 스캔)
+EXPLAIN ANALYZE
+SELECT * FROM product_bench
+WHERE product_name LIKE '%루테인%'
+   OR company_name LIKE '%루테인%'
+   OR main_function LIKE '%루테인%'
+ORDER BY CASE WHEN product_name LIKE '루테인%' THEN 1 ELSE 2 END, product_name
+LIMIT 20;
+
+EXPLAIN ANALYZE
+SELECT * FROM product_bench
+WHERE product_name LIKE '%혈행 개선%'
+   OR company_name LIKE '%혈행 개선%'
+   OR main_function LIKE '%혈행 개선%'
+ORDER BY product_name
+LIMIT 20;
+
+-- 결과 없는 검색어 (LIKE는 항상 끝까지 스캔)
+EXPLAIN ANALYZE
+SELECT * FROM product_bench
+WHERE product_name LIKE '%크릴오일%'
+   OR company_name LIKE '%크릴오일%'
+   OR main_function LIKE '%크릴오일%'
+LIMIT 20;
+
+-- 2) FULLTEXT ngram 인덱스 생성 (12만 건 기준 인덱스 생성 시간도 함께 확인)
+ALTER TABLE product_bench
+  ADD FULLTEXT INDEX ft_product_search (product_name, company_name, main_function) WITH PARSER ngram;
+
+-- ProductMapper.searchProductsFulltext와 같은 쿼리 (검색식은 ProductService.toBooleanQuery 결과)
+EXPLAIN ANALYZE
+SELECT p.*, MATCH(product_name, company_name, main_function) AGAINST('+루테인' IN BOOLEAN MODE) AS score
+FROM product_bench p
+WHERE MATCH(product_name, company_name, main_function) AGAINST('+루테인' IN BOOLEAN MODE)
+ORDER BY CASE WHEN product_name = '루테인' THEN 0 WHEN product_name LIKE '루테인%' THEN 1 ELSE 2 END,
+         score DESC, product_name
+LIMIT 20;
+
+EXPLAIN ANALYZE
+SELECT p.*, MATCH(product_name, company_name, main_function) AGAINST('+혈행 +개선' IN BOOLEAN MODE) AS score
+FROM product_bench p
+WHERE MATCH(product_name, company_name, main_function) AGAINST('+혈행 +개선' IN BOOLEAN MODE)
+ORDER BY score DESC, product_name
+LIMIT 20;
+
+EXPLAIN ANALYZE
+SELECT p.*, MATCH(product_name, company_name, main_function) AGAINST('+크릴오일' IN BOOLEAN MODE) AS score
+FROM product_bench p
+WHERE MATCH(product_name, company_name, main_function) AGAINST('+크릴오일' IN BOOLEAN MODE)
+ORDER BY score DESC, product_name
+LIMIT 20;
+
+DROP TABLE product_bench;
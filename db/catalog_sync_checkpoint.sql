@@ -0,0 +1,14 @@
+-- 기존 DB(볼륨)에 카탈로그 동기화 체크포인트 테이블 추가 (신규 DB는 suppleit.sql에 포함)
+-- 실행: docker exec -i mysql-db mysql -uroot -pabcd1234 suppleit < db/catalog_sync_checkpoint.sql
+CREATE TABLE IF NOT EXISTS catalog_sync_checkpoint (
+  job_name VARCHAR(50) NOT NULL PRIMARY KEY COMMENT '동기화 작업 이름',
+  status VARCHAR(20) NOT NULL COMMENT '상태 (RUNNING/COMPLETED/FAILED)',
+  page_size INT NOT NULL COMMENT '페이지당 건수 (바뀌면 처음부터 다시)',
+  total_count INT NOT NULL DEFAULT 0 COMMENT 'API 전체 건수',
+  next_page INT NOT NULL DEFAULT 1 COMMENT '이 페이지 앞까지는 모두 저장됨 (재개 위치)',
+  synced_count INT NOT NULL DEFAULT 0 COMMENT '이번 실행에서 저장한 건수',
+  last_error VARCHAR(500) NULL COMMENT '마지막 실패 사유',
+  started_at DATETIME NULL COMMENT '실행 시작 시각',
+  updated_at DATETIME NULL COMMENT '마지막 체크포인트 시각',
+  completed_at DATETIME NULL COMMENT '마지막 완료 시각'
+);
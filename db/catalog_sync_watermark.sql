@@ -0,0 +1,5 @@
+-- 기존 DB(볼륨)의 catalog_sync_checkpoint에 증분 동기화 기준(등록일자) 컬럼 추가 (신규 DB는 suppleit.sql에 포함)
+-- 실행: docker exec -i mysql-db mysql -uroot -pabcd1234 suppleit < db/catalog_sync_watermark.sql
+ALTER TABLE catalog_sync_checkpoint
+  ADD COLUMN watermark VARCHAR(8) NULL COMMENT '저장한 항목의 최신 등록일자 REGIST_DT (yyyyMMdd, 증분 동기화 기준)'
+  AFTER synced_count;
@@ -0,0 +1,19 @@
+-- 기존 DB(볼륨)에 제품 검색용 FULLTEXT 인덱스 추가 (신규 DB는 suppleit.sql에 포함)
+-- 실행: docker exec -i mysql-db mysql -uroot -pabcd1234 suppleit < db/product_fulltext_index.sql
+-- ngram 토큰 길이는 서버 옵션 ngram_token_size(기본 2)를 따르며, 바꾼 경우 인덱스를 다시 만들어야 한다.
+-- 기본 불용어 목록("a", "i", "to" 등)이 켜진 채 만든 인덱스는 그 글자가 들어간 ngram 토큰을 빼 버려
+-- 영문 제품명(예: "vitamin")이 검색되지 않으므로, 불용어를 끄고 인덱스를 다시 만든다.
+-- (docker-compose.yml의 --innodb-ft-enable-stopword=0은 이후 새로 만드는 인덱스용)
+SET SESSION innodb_ft_enable_stopword = 0;
+
+-- 이미 인덱스가 있으면 삭제 후 다시 생성
+SET @drop_ft_product_search = (
+  SELECT IF(COUNT(*) > 0, 'ALTER TABLE product DROP INDEX ft_product_search', 'DO 0')
+  FROM information_schema.statistics
+  WHERE table_schema = DATABASE() AND table_name = 'product' AND index_name = 'ft_product_search');
+PREPARE stmt FROM @drop_ft_product_search;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
+
+ALTER TABLE product
+  ADD FULLTEXT INDEX ft_product_search (product_name, company_name, main_function) WITH PARSER ngram;
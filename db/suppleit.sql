@@ -25,7 +25,25 @@ CREATE TABLE product (
   main_function TEXT,
   preservation TEXT,
   intake_hint TEXT,
-  base_standard TEXT
+  base_standard TEXT,
+  -- 제품 검색용 전문 검색 인덱스 (ngram 파서, 토큰 길이는 ngram_token_size=2, 불용어 없이 생성)
+  FULLTEXT INDEX ft_product_search (product_name, company_name, main_function) WITH PARSER ngram
+);
+
+DROP TABLE IF EXISTS catalog_sync_checkpoint;
+
+CREATE TABLE catalog_sync_checkpoint (
+  job_name VARCHAR(50) NOT NULL PRIMARY KEY COMMENT '동기화 작업 이름',
+  status VARCHAR(20) NOT NULL COMMENT '상태 (RUNNING/COMPLETED/FAILED)',
+  page_size INT NOT NULL COMMENT '페이지당 건수 (바뀌면 처음부터 다시)',
+  total_count INT NOT NULL DEFAULT 0 COMMENT 'API 전체 건수',
+  next_page INT NOT NULL DEFAULT 1 COMMENT '이 페이지 앞까지는 모두 저장됨 (재개 위치)',
+  synced_count INT NOT NULL DEFAULT 0 COMMENT '이번 실행에서 저장한 건수',
+  watermark VARCHAR(8) NULL COMMENT '저장한 항목의 최신 등록일자 REGIST_DT (yyyyMMdd, 증분 동기화 기준)',
+  last_error VARCHAR(500) NULL COMMENT '마지막 실패 사유',
+  started_at DATETIME NULL COMMENT '실행 시작 시각',
+  updated_at DATETIME NULL COMMENT '마지막 체크포인트 시각',
+  completed_at DATETIME NULL COMMENT '마지막 완료 시각'
 );
 
 DROP TABLE IF EXISTS favorite;
@@ -7,6 +7,7 @@ from sklearn.metrics.pairwise import cosine_similarity
 from flask_cors import CORS
 import pickle
 import re
+import hashlib
 from urllib.parse import unquote    
 
 app = Flask(__name__)
@@ -197,6 +198,7 @@ def get_recommendations():
         category = guess_category(keyword)
     
     recommendations = recommend(keyword, category, limit)
+    fallback = False
     
     if not recommendations:
         # 결과가 없는 경우 랜덤 추천
@@ -209,14 +211,22 @@ def get_recommendations():
         if all_products:
             import random
             recommendations = random.sample(all_products, min(limit, len(all_products)))
+            fallback = True
     
     return jsonify({
         "keyword": keyword,
         "category": category,
         "count": len(recommendations),
-        "recommendations": recommendations
+        "recommendations": recommendations,
+        "fallback": fallback,  # 랜덤 추천 여부 (캐싱하면 안 되는 결과)
+        "model_version": MODEL_VERSION
     })
 
+# 모델 버전 반환 API (백엔드 캐시 무효화 판단용)
+@app.route('/version', methods=['GET'])
+def get_version():
+    return jsonify({"model_version": MODEL_VERSION})
+
 # 모든 카테고리 이름 반환 API
 @app.route('/categories', methods=['GET'])
 def get_categories():
@@ -228,6 +238,21 @@ def get_categories():
 # 서버 시작 시 모든 CSV 파일 검색하여 카테고리 설정
 CATEGORIES = discover_categories()
 
+# 모델 버전 계산 (CSV/벡터라이저 파일이 바뀌면 버전도 바뀜)
+def compute_model_version():
+    digest = hashlib.sha1()
+    paths = sorted(config['file'] for config in CATEGORIES.values())
+    vectorizer_dir = './recommend/data'
+    if os.path.exists(vectorizer_dir):
+        paths += sorted(os.path.join(vectorizer_dir, f) for f in os.listdir(vectorizer_dir) if f.endswith('.pkl'))
+    for path in paths:
+        if os.path.exists(path):
+            stat = os.stat(path)
+            digest.update(f"{path}:{stat.st_size}:{int(stat.st_mtime)}".encode('utf-8'))
+    return digest.hexdigest()[:12]
+
+MODEL_VERSION = compute_model_version()
+
 if __name__ == '__main__':
     print(f"사용 가능한 카테고리: {', '.join(CATEGORIES.keys())}")
     
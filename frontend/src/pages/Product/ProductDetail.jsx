@@ -3,6 +3,7 @@ import "./ProductDetail.css";
 import Footer from "../../components/include/Footer";
 import Header from "../../components/include/Header";
 import ReactMarkdown from 'react-markdown'; 
+import { getRecommendations, streamRecommendations } from "../../services/api";
 
 
 const removeHtmlTags = (str) => {
@@ -16,6 +17,7 @@ const ProductDetail = () => {
   const [selectedKeyword, setSelectedKeyword] = useState('');
   const [recommendedProducts, setRecommendedProducts] = useState([]);
   const [productDescription, setProductDescription] = useState('');
+  const [loading, setLoading] = useState(false);
 
   useEffect(() => {
     // sessionStorage에서 데이터 가져오기
@@ -33,10 +35,57 @@ const ProductDetail = () => {
       try {
         const parsedProducts = JSON.parse(products);
         setRecommendedProducts(parsedProducts);
+        return undefined;
       } catch (error) {
         console.error("제품 데이터 파싱 중 오류 발생:", error);
       }
     }
+    if (!keyword) {
+      return undefined;
+    }
+
+    // 저장된 결과가 없으면 스트리밍으로 조회 - 조회가 끝난 상품부터 카드로 표시
+    let cancelled = false;
+    const received = [];
+    const finish = (list) => {
+      if (cancelled) return;
+      setLoading(false);
+      if (list.length > 0) {
+        sessionStorage.setItem('recommendedProducts', JSON.stringify(list));
+      }
+    };
+    // 스트리밍을 쓸 수 없거나 상품을 하나도 받지 못하면 일반 조회로 대체
+    const fallback = async () => {
+      try {
+        const response = await getRecommendations(keyword);
+        if (cancelled) return;
+        setRecommendedProducts(response.data);
+        finish(response.data);
+      } catch (error) {
+        console.error("추천 제품을 불러오는 중 오류 발생:", error);
+        finish([]);
+      }
+    };
+
+    setRecommendedProducts([]);
+    setLoading(true);
+    if (typeof EventSource === 'undefined') {
+      fallback();
+      return () => { cancelled = true; };
+    }
+    const source = streamRecommendations(
+      keyword,
+      (product) => {
+        if (cancelled) return;
+        received.push(product);
+        setRecommendedProducts((prev) => [...prev, product]);
+      },
+      () => (received.length > 0 ? finish(received) : fallback())
+    );
+    return () => {
+      cancelled = true;
+      source.close();
+    };
   }, []);
 
   // 디테일 토글 함수를 메모이제이션
@@ -83,18 +132,25 @@ const ProductDetail = () => {
             {selectedKeyword ? `${selectedKeyword} 추천 제품` : "추천 제품"}
           </h2>
           
-          {/* API로 가져온 추천 제품이 있을 경우 표시 */}
+          {/* API로 가져온 추천 제품이 있을 경우 표시 (스트리밍 중에는 도착한 것부터) */}
           {recommendedProducts.length > 0 ? (
-            <div className="grid grid-cols-1 md:grid-cols-5 gap-4 text-gray-900">
-              {recommendedProducts.map((product, index) => (
-                <ProductCard
-                  key={index}
-                  product={product}
-                  onProductClick={handleProductClick}
-                  removeHtmlTags={removeHtmlTags}
-                />
-              ))}
-            </div>
+            <>
+              <div className="grid grid-cols-1 md:grid-cols-5 gap-4 text-gray-900">
+                {recommendedProducts.map((product, index) => (
+                  <ProductCard
+                    key={index}
+                    product={product}
+                    onProductClick={handleProductClick}
+                    removeHtmlTags={removeHtmlTags}
+                  />
+                ))}
+              </div>
+              {loading && (
+                <p className="text-center text-gray-500 mt-4">추천 제품을 더 불러오는 중...</p>
+              )}
+            </>
+          ) : loading ? (
+            <p className="text-center text-gray-500">추천 제품을 불러오는 중...</p>
           ) : (
             // 기본 추천 제품 표시 (기존 코드)
             <div className="grid grid-cols-1 md:grid-cols-5 gap-4 text-gray-900">
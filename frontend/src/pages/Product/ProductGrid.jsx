@@ -1,6 +1,5 @@
 import React, { useState } from 'react';
 import { useNavigate } from 'react-router-dom';
-import { getRecommendations } from '../../services/api';
 import productDetails from './productDetails';
 
 const ProductGrid = () => {
@@ -44,21 +43,15 @@ const productset2 = [
     sessionStorage.setItem('activeSet', JSON.stringify(newSet)); // 탭 상태 저장
   };
 
-  const handleCategoryClick = async (keyword) => {
-    try {
-      // 1. 키워드 저장
-      sessionStorage.setItem('selectedKeyword', keyword);
-      // 2.상세 설명 저장
-      sessionStorage.setItem('productDescription', productDetails[keyword] || '');      
-      // 3. API 호출
-      const response = await getRecommendations(keyword);      
-      // 4. 결과 저장
-      sessionStorage.setItem('recommendedProducts', JSON.stringify(response.data));      
-      // 5. 페이지 이동
-      navigate('/productdetail');
-    } catch (error) {
-      console.error("추천 제품을 불러오는 중 오류 발생:", error);
-    }
+  const handleCategoryClick = (keyword) => {
+    // 1. 키워드 저장
+    sessionStorage.setItem('selectedKeyword', keyword);
+    // 2.상세 설명 저장
+    sessionStorage.setItem('productDescription', productDetails[keyword] || '');
+    // 3. 이전 추천 결과 삭제 (상세 페이지에서 스트리밍으로 새로 받음)
+    sessionStorage.removeItem('recommendedProducts');
+    // 4. 페이지 이동 - 추천 응답을 기다리지 않고 바로 이동
+    navigate('/productdetail');
   };
   return (
     <div className="mx-auto max-w-8xl">
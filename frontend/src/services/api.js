@@ -378,6 +378,22 @@ export const getRecommendations = (keyword) => {
   return axios.get(`${apiUrl}/recommend?keyword=${encodedKeyword}&_=${timestamp}`);
 };
 
+// 추천 상품 스트리밍 (SSE) - 조회가 끝난 상품부터 onProduct로 전달
+export const streamRecommendations = (keyword, onProduct, onDone) => {
+  const encodedKeyword = encodeURIComponent(keyword);
+  const source = new EventSource(`${apiUrl}/recommend/stream?keyword=${encodedKeyword}`);
+  source.addEventListener('product', (event) => onProduct(JSON.parse(event.data)));
+  source.addEventListener('done', () => {
+    source.close();
+    if (onDone) onDone();
+  });
+  source.onerror = () => {
+    source.close();
+    if (onDone) onDone();
+  };
+  return source;
+};
+
 //📛📛리뷰 관련 추가
 // 리뷰 목록 조회
 export const getReviews = async () => {